@@ -1,13 +1,26 @@
 package com.demoqa.pages;
 
+import com.demoqa.utils.AllureSteps;
+import com.demoqa.utils.ClickInterceptionResolver;
+import com.demoqa.utils.OverlaySuppressor;
+import com.demoqa.utils.TypingMetrics;
 import org.openqa.selenium.*;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Base class for all page objects in the application.
@@ -18,47 +31,143 @@ public class BasePage {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BasePage.class);
 
+    /**
+     * JavaScript fragment resolving arguments[0] (locator strategy) and arguments[1] (locator value)
+     * to an array of DOM nodes. Supports XPath and all strategies that map to CSS selectors.
+     */
+    private static final String FIND_NODES_JS =
+            "var nodes = (function(using, value) {"
+                    + "  if (using === 'xpath') {"
+                    + "    var result = document.evaluate(value, document, null,"
+                    + "        XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+                    + "    var found = [];"
+                    + "    for (var i = 0; i < result.snapshotLength; i++) { found.push(result.snapshotItem(i)); }"
+                    + "    return found;"
+                    + "  }"
+                    + "  var selector = using === 'id' ? '#' + CSS.escape(value)"
+                    + "      : using === 'name' ? '[name=\"' + CSS.escape(value) + '\"]'"
+                    + "      : using === 'class name' ? '.' + CSS.escape(value)"
+                    + "      : value;"
+                    + "  return Array.prototype.slice.call(document.querySelectorAll(selector));"
+                    + "})(arguments[0], arguments[1]);";
+
+    private static final String SNAPSHOT_JS = FIND_NODES_JS
+            + "return JSON.stringify(nodes.map(function(el, index) {"
+            + "  var attributes = {};"
+            + "  for (var i = 0; i < el.attributes.length; i++) {"
+            + "    attributes[el.attributes[i].name] = el.attributes[i].value;"
+            + "  }"
+            + "  var style = window.getComputedStyle(el);"
+            + "  var rect = el.getBoundingClientRect();"
+            + "  return {"
+            + "    index: index,"
+            + "    text: (el.innerText || el.textContent || '').trim(),"
+            + "    visible: style.display !== 'none' && style.visibility !== 'hidden'"
+            + "        && style.opacity !== '0' && (rect.width > 0 || rect.height > 0),"
+            + "    attributes: attributes"
+            + "  };"
+            + "}));";
+
+    private static final String CLICK_BY_INDEX_JS = FIND_NODES_JS
+            + "arguments[2].forEach(function(index) { if (nodes[index]) { nodes[index].click(); } });";
+
+    private static final Set<String> SCRIPT_LOCATOR_STRATEGIES =
+            Set.of("css selector", "xpath", "id", "name", "class name", "tag name");
+
+    private static final Json JSON = new Json();
+
+    /**
+     * Places focus and caret at the end of the field before text is inserted through CDP.
+     * Some input types (e.g. email) do not support selection ranges, hence the guard.
+     */
+    private static final String FOCUS_AT_END_JS =
+            "var el = arguments[0]; el.focus();"
+                    + "try { var end = el.value.length; el.setSelectionRange(end, end); } catch (e) {}";
+
+    /**
+     * Whether text is inserted through CDP {@code Input.insertText} when the driver supports it.
+     * Enabled with {@code -Dtyping.mode=fast}; the default is regular {@code sendKeys}.
+     */
+    private static final boolean FAST_TYPING = "fast".equalsIgnoreCase(System.getProperty("typing.mode"));
+
     protected final WebDriver driver;
     protected final WebDriverWait wait;
 
+    private final boolean browserSession;
+    private boolean readinessAttempted;
+
     /**
      * Initializes a new instance of the BasePage.
      * Performs common setup operations including:
      * - Initializing WebDriver and WebDriverWait
-     * - Initializing PageFactory elements
-     * - Waiting for page to load
-     * - Attempting to remove ads
+     * - Initializing PageFactory elements, for subclass fields as well
+     * <p>
+     * Sends no browser commands: waiting for the page and removing ads happen in {@link #waitUntilReady()}
+     * before the first action, so page objects may be created before navigating or by {@link PageRouter}.
      *
      * @param driver The WebDriver instance for browser interactions
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.browserSession = isBrowserSession(driver);
         PageFactory.initElements(driver, this);
-        waitForPageToLoad();
-        removeAds();
     }
 
     /**
-     * Waits for the page to completely load by checking document.readyState.
-     * Silently catches and logs WebDriverException if the wait is interrupted.
+     * Checks whether a driver, possibly decorated, talks to a real browser through the WebDriver protocol.
      */
-    protected void waitForPageToLoad() {
+    private static boolean isBrowserSession(WebDriver driver) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver wrapper) {
+            target = wrapper.getWrappedDriver();
+        }
+        return target instanceof RemoteWebDriver;
+    }
+
+    /**
+     * Declares the condition under which the page is usable.
+     * Page objects override this with the element their actions depend on, so that with the EAGER or NONE
+     * page load strategy interaction starts as soon as that element exists instead of after the full load.
+     * Called before the first action of the page object, which may be created before navigating to the page.
+     *
+     * @return The readiness condition, by default a parsed document
+     */
+    protected ExpectedCondition<?> readinessCondition() {
+        return d -> !"loading".equals(((JavascriptExecutor) d).executeScript("return document.readyState"));
+    }
+
+    /**
+     * Waits once per page object for {@link #readinessCondition()}, then removes ads from the page.
+     * Logs instead of failing on timeout, leaving the failure to the action that needs the page.
+     * The attempt counts whatever its outcome, so a page that never becomes ready costs one wait
+     * and one ad removal, not one per action.
+     */
+    protected void waitUntilReady() {
+        if (readinessAttempted) {
+            return;
+        }
+        readinessAttempted = true;
         try {
-            wait.until(d -> "complete".equals(((JavascriptExecutor) driver)
-                    .executeScript("return document.readyState")));
+            wait.until(readinessCondition());
         } catch (WebDriverException e) {
-            LOGGER.warn("Page load wait interrupted: {}", e.getMessage());
+            LOGGER.warn("{} readiness wait interrupted: {}", getClass().getSimpleName(), e.getMessage());
         }
+        removeAds();
     }
 
     /**
      * Attempts to remove common advertisement elements from the page.
      * Looks for elements matching common ad selectors (iframes, ins tags, elements with 'ad' in id/class)
      * and removes them using JavaScript.
+     * Skipped when {@link OverlaySuppressor} is installed for the session, since its init script
+     * already hides ads on every document, including ads loaded later.
      * Silently catches and logs any exceptions during the process.
      */
     protected void removeAds() {
+        if (OverlaySuppressor.isInstalled(driver)) {
+            return;
+        }
         try {
             List<WebElement> ads = driver.findElements(By.cssSelector(
                     "iframe, ins, .ad, [id*='ad'], [class*='ad'], [id*='Ad'], [class*='Ad']"));
@@ -91,6 +200,146 @@ public class BasePage {
         }
     }
 
+    /**
+     * Clicks an element natively and removes an ad or overlay only if it intercepts the click.
+     * Unlike waiting for overlays to disappear first, an unobstructed click costs no extra time.
+     *
+     * @param element The WebElement to be clicked
+     * @see ClickInterceptionResolver
+     */
+    protected void click(WebElement element) {
+        ClickInterceptionResolver.click(driver, element);
+    }
+
+    /**
+     * Types text into a field, appending to its current value.
+     * <p>
+     * In fast typing mode on Chromium drivers the whole string is inserted with a single CDP
+     * {@code Input.insertText} command, which fires the same {@code beforeinput}/{@code input}
+     * events as a text composition (so React-controlled fields update), but no per-character key events.
+     * Otherwise, or if the CDP command fails, falls back to {@link WebElement#sendKeys}.
+     * The latency of every call against a real browser session is recorded in {@link TypingMetrics};
+     * typing into in-memory drivers is not, so their latencies do not mix with the browser's.
+     *
+     * @param element The field to type into
+     * @param fieldName Logical field name used for latency recording
+     * @param text The text to enter
+     */
+    protected void typeText(WebElement element, String fieldName, String text) {
+        long start = System.nanoTime();
+        String mode = "sendKeys";
+        if (FAST_TYPING && driver instanceof HasCdp && !text.isEmpty()) {
+            try {
+                ((JavascriptExecutor) driver).executeScript(FOCUS_AT_END_JS, element);
+                ((HasCdp) driver).executeCdpCommand("Input.insertText", Map.of("text", text));
+                mode = "cdp";
+            } catch (WebDriverException e) {
+                LOGGER.warn("CDP text insertion failed for {}, falling back to sendKeys: {}", fieldName, e.getMessage());
+                element.sendKeys(text);
+            }
+        } else {
+            element.sendKeys(text);
+        }
+        if (browserSession) {
+            TypingMetrics.record(getClass().getSimpleName() + "." + fieldName, mode, text.length(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Captures text, visibility and attributes of all elements matching the locator
+     * with a single script execution, instead of one WebDriver call per element and property.
+     *
+     * @param locator CSS selector, id, class name, name, tag name or XPath locator
+     * @return Snapshots of all matching elements in document order, or an empty list if none match
+     * @throws IllegalArgumentException if the locator type cannot be evaluated in the browser
+     */
+    protected List<ElementSnapshot> snapshot(By locator) {
+        By.Remotable.Parameters parameters = toScriptParameters(locator);
+        String json = (String) ((JavascriptExecutor) driver).executeScript(
+                SNAPSHOT_JS, parameters.using(), parameters.value());
+
+        List<Map<String, Object>> rows = JSON.toType(json, Json.LIST_OF_MAPS_TYPE);
+        List<ElementSnapshot> snapshots = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            ((Map<?, ?>) row.get("attributes")).forEach((name, value) ->
+                    attributes.put(String.valueOf(name), String.valueOf(value)));
+            snapshots.add(new ElementSnapshot(
+                    ((Number) row.get("index")).intValue(),
+                    (String) row.get("text"),
+                    Boolean.TRUE.equals(row.get("visible")),
+                    attributes));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Clicks the elements at the given snapshot indices with a single script execution.
+     * Indices refer to {@link ElementSnapshot#getIndex()} of a previous {@link #snapshot} call
+     * for the same locator.
+     *
+     * @param locator The locator used to capture the snapshots
+     * @param indices Indices of the elements to click
+     */
+    protected void clickByIndex(By locator, List<Integer> indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        By.Remotable.Parameters parameters = toScriptParameters(locator);
+        ((JavascriptExecutor) driver).executeScript(
+                CLICK_BY_INDEX_JS, parameters.using(), parameters.value(), indices);
+    }
+
+    /**
+     * Converts a locator to the strategy/value pair understood by the snapshot scripts.
+     * Link text locators are not supported because they have no CSS or XPath equivalent in the script.
+     */
+    private static By.Remotable.Parameters toScriptParameters(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if (SCRIPT_LOCATOR_STRATEGIES.contains(parameters.using())) {
+                return parameters;
+            }
+        }
+        throw new IllegalArgumentException("Locator cannot be evaluated in a snapshot script: " + locator);
+    }
+
+    /**
+     * Records an action as an Allure step via {@link AllureSteps}, after waiting for page readiness.
+     *
+     * @param name The step name shown in the report; names the field rather than embedding personal form data
+     * @param action The action to execute
+     */
+    protected void step(String name, Runnable action) {
+        waitUntilReady();
+        AllureSteps.step(name, action);
+    }
+
+    /**
+     * Records an action returning a value as an Allure step via {@link AllureSteps}, after waiting for page readiness.
+     *
+     * @param name The step name shown in the report
+     * @param action The action to execute
+     * @param <T> The type of the action result
+     * @return The value returned by the action
+     */
+    protected <T> T step(String name, Supplier<T> action) {
+        waitUntilReady();
+        return AllureSteps.step(name, action);
+    }
+
+    /**
+     * Captures a screenshot of a single element as PNG, e.g. for comparison with
+     * {@link com.demoqa.utils.VisualComparator}. The driver scrolls the element into view itself.
+     *
+     * @param name Name of the captured element, used for the report step
+     * @param element The element to capture
+     * @return The PNG bytes of the element screenshot
+     */
+    protected byte[] captureElement(String name, WebElement element) {
+        return step("Capture " + name, () -> element.getScreenshotAs(OutputType.BYTES));
+    }
+
     /**
      * Scrolls the specified element into view with smooth behavior.
      *
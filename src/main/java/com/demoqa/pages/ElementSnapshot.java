@@ -0,0 +1,79 @@
+package com.demoqa.pages;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a single DOM element captured by {@link BasePage#snapshot}.
+ * Holds the element text, visibility and attributes as they were at capture time,
+ * so reading them costs no further WebDriver round-trips.
+ */
+public final class ElementSnapshot {
+
+    private final int index;
+    private final String text;
+    private final boolean visible;
+    private final Map<String, String> attributes;
+
+    /**
+     * Creates a new element snapshot.
+     *
+     * @param index Position of the element among all elements matched by the locator
+     * @param text Visible text of the element, trimmed
+     * @param visible Whether the element was rendered and visible
+     * @param attributes All HTML attributes of the element
+     */
+    public ElementSnapshot(int index, String text, boolean visible, Map<String, String> attributes) {
+        this.index = index;
+        this.text = text;
+        this.visible = visible;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Gets the position of the element among all matches of the locator.
+     * @return Zero-based element index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the visible text of the element.
+     * @return Trimmed element text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Checks whether the element was visible at capture time.
+     * @return true if the element was displayed, false otherwise
+     */
+    public boolean isDisplayed() {
+        return visible;
+    }
+
+    /**
+     * Gets the value of an HTML attribute.
+     * @param name Attribute name
+     * @return Attribute value, or null if the element has no such attribute
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Gets all HTML attributes of the element.
+     * @return Unmodifiable map of attribute names to values
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot{index=" + index + ", text='" + text + "', visible=" + visible
+                + ", attributes=" + attributes + '}';
+    }
+}
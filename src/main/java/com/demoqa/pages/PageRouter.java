@@ -0,0 +1,103 @@
+package com.demoqa.pages;
+
+import com.demoqa.pages.alerts.AlertPage;
+import com.demoqa.pages.elements.CheckBoxPage;
+import com.demoqa.pages.elements.RadioButtonPage;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.pages.forms.PracticeFormPage;
+import com.demoqa.pages.widgets.DatePickerPage;
+import com.demoqa.pages.widgets.ProgressBarPage;
+import com.demoqa.pages.widgets.SliderPage;
+import com.demoqa.utils.AllureSteps;
+import org.openqa.selenium.WebDriver;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Typed navigation to page objects.
+ * <p>
+ * Every page class is registered with its path and constructor. {@link #navigateTo(Class)} loads the page
+ * once, builds the page object on the loaded page and waits for that page's own
+ * {@link BasePage#readinessCondition()}, so tests neither build URLs by hand nor create page objects
+ * before there is a page to wait for.
+ *
+ * <p>Usage: {@code SliderPage slider = new PageRouter(driver, baseUrl).navigateTo(SliderPage.class);}
+ */
+public class PageRouter {
+
+    /**
+     * Path and constructor of a page class.
+     *
+     * @param page The page class
+     * @param path The path below the base URL, starting with a slash
+     * @param factory Creates the page object for a driver
+     * @param <T> The page type
+     */
+    public record Route<T extends BasePage>(Class<T> page, String path, Function<WebDriver, T> factory) {
+    }
+
+    private static final Map<Class<? extends BasePage>, Route<?>> ROUTES = Stream.of(
+                    new Route<>(TextBoxPage.class, "/text-box", TextBoxPage::new),
+                    new Route<>(CheckBoxPage.class, "/checkbox", CheckBoxPage::new),
+                    new Route<>(RadioButtonPage.class, "/radio-button", RadioButtonPage::new),
+                    new Route<>(PracticeFormPage.class, "/automation-practice-form", PracticeFormPage::new),
+                    new Route<>(AlertPage.class, "/alerts", AlertPage::new),
+                    new Route<>(SliderPage.class, "/slider", SliderPage::new),
+                    new Route<>(ProgressBarPage.class, "/progress-bar", ProgressBarPage::new),
+                    new Route<>(DatePickerPage.class, "/date-picker", DatePickerPage::new))
+            .collect(Collectors.toUnmodifiableMap(Route::page, route -> route));
+
+    private final WebDriver driver;
+    private final String baseUrl;
+
+    /**
+     * Creates a router for a browser session.
+     *
+     * @param driver The WebDriver instance to navigate
+     * @param baseUrl The base URL of the application, without trailing slash
+     */
+    public PageRouter(WebDriver driver, String baseUrl) {
+        this.driver = driver;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Navigates to a page and returns its page object once the page is ready.
+     *
+     * @param page The page class
+     * @param <T> The page type
+     * @return The page object, ready for actions
+     * @throws IllegalArgumentException if the page class has no route
+     */
+    public <T extends BasePage> T navigateTo(Class<T> page) {
+        Route<T> route = route(page);
+        return AllureSteps.step("Open " + page.getSimpleName(), () -> {
+            driver.get(baseUrl + route.path());
+            T pageObject = route.factory().apply(driver);
+            pageObject.waitUntilReady();
+            return pageObject;
+        });
+    }
+
+    /**
+     * Gets the path of a page below the base URL.
+     *
+     * @param page The page class
+     * @return The path, starting with a slash
+     * @throws IllegalArgumentException if the page class has no route
+     */
+    public static String pathOf(Class<? extends BasePage> page) {
+        return route(page).path();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends BasePage> Route<T> route(Class<T> page) {
+        Route<T> route = (Route<T>) ROUTES.get(page);
+        if (route == null) {
+            throw new IllegalArgumentException("No route registered for " + page.getName());
+        }
+        return route;
+    }
+}
@@ -3,13 +3,8 @@ package com.demoqa.pages.alerts;
 import com.demoqa.pages.BasePage;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import java.time.Duration;
-import java.util.List;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 /**
  * Page Object Class for Alerts Page.
@@ -23,7 +18,7 @@ import java.util.List;
  */
 public class AlertPage extends BasePage {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(AlertPage.class);
+    private static final By READY_ELEMENT = By.id("promtButton");
 
     @FindBy(id = "alertButton")
     private WebElement alertButton;
@@ -49,7 +44,16 @@ public class AlertPage extends BasePage {
      */
     public AlertPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The page is usable once the last of the alert buttons is rendered.
+     *
+     * @return Presence of the prompt button
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
@@ -57,8 +61,10 @@ public class AlertPage extends BasePage {
      * Waits for the button to be clickable before clicking.
      */
     public void clickAlertButton() {
-        waitForElementToBeClickable(alertButton).click();
-        waitForAlert();
+        step("Open simple alert", () -> {
+            click(waitForElementToBeClickable(alertButton));
+            waitForAlert();
+        });
     }
 
     /**
@@ -66,28 +72,21 @@ public class AlertPage extends BasePage {
      * Waits for the alert to be present after clicking.
      */
     public void clickConfirmButton() {
-        waitForElementToBeClickable(confirmButton).click();
-        waitForAlert();
+        step("Open confirmation dialog", () -> {
+            click(waitForElementToBeClickable(confirmButton));
+            waitForAlert();
+        });
     }
 
     /**
      * Clicks the button to trigger a prompt dialog.
-     * Handles potential ad overlays before clicking.
-     * Uses a combination of regular click and JavaScript click as fallback.
+     * An ad overlapping the button is removed only if it actually intercepts the click.
      */
     public void clickPromptButton() {
-        handleAdIfPresent();
-
-        WebElement button = waitForElementToBeClickable(promptButton);
-
-        try {
-            button.click();
-        } catch (Exception e) {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("arguments[0].click();", button);
-        }
-
-        waitForAlert();
+        step("Open prompt dialog", () -> {
+            click(waitForElementToBeClickable(promptButton));
+            waitForAlert();
+        });
     }
 
     /**
@@ -114,32 +113,6 @@ public class AlertPage extends BasePage {
         return wait.until(ExpectedConditions.alertIsPresent());
     }
 
-    /**
-     * Attempts to handle advertisement iframes that might block interaction with page elements.
-     * Switches to Ad iframe if present, tries to close it, then returns to main content.
-     */
-    private void handleAdIfPresent() {
-        try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(3));
-
-            shortWait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(
-                    By.cssSelector("iframe[title*='ad'], iframe[aria-label*='ad'], iframe[title*='Ad.Plus']")));
-
-            List<WebElement> closeButtons = driver.findElements(
-                    By.cssSelector("[aria-label*='Close'], [title*='Close'], .close-button, .ads-close-button"));
-
-            if (!closeButtons.isEmpty()) {
-                closeButtons.getFirst().click();
-                LOGGER.info("Ad closed successfully.");
-            }
-
-        } catch (Exception e) {
-            LOGGER.warn("No ad found or could not close ad: {}", e.getMessage());
-        } finally {
-            driver.switchTo().defaultContent();
-        }
-    }
-
     /**
      * Waits for element to be clickable.
      * @param element WebElement to wait for
@@ -1,11 +1,13 @@
 package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.ElementSnapshot;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import java.util.List;
 
 /**
@@ -19,15 +21,16 @@ import java.util.List;
  */
 public class CheckBoxPage extends BasePage {
 
+    private static final By READY_ELEMENT = By.cssSelector("button[title='Expand all']");
+
+    private static final By SELECTED_CHECKBOXES = By.cssSelector(".rct-icon-check");
+
     @FindBy(css = "button[title='Expand all']")
     WebElement expandAllButton;
 
     @FindBy(xpath = "//span[text()='Home']")
     WebElement homeCheckBoxLabel;
 
-    @FindBy(css = ".rct-icon-check")
-    List<WebElement> selectedCheckboxes;
-
     @FindBy(id = "result")
     WebElement resultText;
 
@@ -37,7 +40,16 @@ public class CheckBoxPage extends BasePage {
      */
     public CheckBoxPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The tree is usable once the React component has rendered its toolbar.
+     *
+     * @return Presence of the "Expand all" button
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
@@ -45,8 +57,10 @@ public class CheckBoxPage extends BasePage {
      * Waits for the expand button to be visible before clicking.
      */
     public void expandAll() {
-        wait.until(ExpectedConditions.visibilityOf(expandAllButton));
-        expandAllButton.click();
+        step("Expand checkbox tree", () -> {
+            wait.until(ExpectedConditions.visibilityOf(expandAllButton));
+            expandAllButton.click();
+        });
     }
 
     /**
@@ -54,7 +68,7 @@ public class CheckBoxPage extends BasePage {
      * The actual behavior depends on the page implementation (whether selection cascades to children).
      */
     public void selectHomeCheckBox() {
-        homeCheckBoxLabel.click();
+        step("Select 'Home' checkbox", () -> homeCheckBoxLabel.click());
     }
 
     /**
@@ -62,7 +76,15 @@ public class CheckBoxPage extends BasePage {
      * @return Number of checkboxes with selected state
      */
     public int getSelectedCheckboxesCount() {
-        return selectedCheckboxes.size();
+        return getSelectedCheckboxes().size();
+    }
+
+    /**
+     * Gets a snapshot of all currently selected checkbox icons, captured in a single script execution.
+     * @return Snapshots of the selected checkbox icons in document order
+     */
+    public List<ElementSnapshot> getSelectedCheckboxes() {
+        return snapshot(SELECTED_CHECKBOXES);
     }
 
     /**
@@ -5,9 +5,9 @@ import com.demoqa.utils.SeleniumUtils;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.By;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 /**
  * Page Object class for interacting with the Radio Button page on demoqa.com.
@@ -15,6 +15,8 @@ import org.openqa.selenium.By;
  */
 public class RadioButtonPage extends BasePage {
 
+    private static final By READY_ELEMENT = By.cssSelector("label[for='yesRadio']");
+
     @FindBy(id = "noRadio")
     WebElement noRadioButton;
 
@@ -27,7 +29,16 @@ public class RadioButtonPage extends BasePage {
      */
     public RadioButtonPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The radio group is usable once its first label is rendered.
+     *
+     * @return Presence of the "Yes" label
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
@@ -35,9 +46,11 @@ public class RadioButtonPage extends BasePage {
      * Waits for the label to be clickable before attempting selection.
      */
     public void clickYesRadioButton() {
-        WebElement labelElement = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("label[for='yesRadio']")));
-        SeleniumUtils.clickWithJS(driver, labelElement);
+        step("Select 'Yes' radio button", () -> {
+            WebElement labelElement = wait.until(ExpectedConditions.elementToBeClickable(
+                    By.cssSelector("label[for='yesRadio']")));
+            SeleniumUtils.clickWithJS(driver, labelElement);
+        });
     }
 
     /**
@@ -45,9 +58,11 @@ public class RadioButtonPage extends BasePage {
      * Waits for the label to be clickable before attempting selection.
      */
     public void clickImpressiveRadioButton() {
-        WebElement labelElement = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("label[for='impressiveRadio']")));
-        SeleniumUtils.clickWithJS(driver, labelElement);
+        step("Select 'Impressive' radio button", () -> {
+            WebElement labelElement = wait.until(ExpectedConditions.elementToBeClickable(
+                    By.cssSelector("label[for='impressiveRadio']")));
+            SeleniumUtils.clickWithJS(driver, labelElement);
+        });
     }
 
     /**
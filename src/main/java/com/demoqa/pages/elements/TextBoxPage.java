@@ -2,11 +2,12 @@ package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
 import com.demoqa.utils.SeleniumUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
 /**
  * Page Object class for interacting with the Text Box form on demoqa.com.
@@ -14,6 +15,8 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
  */
 public class TextBoxPage extends BasePage {
 
+    private static final By READY_ELEMENT = By.id("submit");
+
     @FindBy(id = "userName")
     WebElement fullNameInput;
 
@@ -38,21 +41,33 @@ public class TextBoxPage extends BasePage {
      */
     public TextBoxPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The form is usable once its submit button exists.
+     *
+     * @return Presence of the submit button
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
      * Fills all text input fields in the form.
+     * Uses {@link #typeText}, so whole strings are inserted at once in fast typing mode.
      * @param fullName The full name to enter
      * @param email The email address to enter
      * @param currentAddress The current address to enter
      * @param permanentAddress The permanent address to enter
      */
     public void fillForm(String fullName, String email, String currentAddress, String permanentAddress) {
-        fullNameInput.sendKeys(fullName);
-        emailInput.sendKeys(email);
-        currentAddressInput.sendKeys(currentAddress);
-        permanentAddressInput.sendKeys(permanentAddress);
+        step("Fill text box form", () -> {
+            typeText(fullNameInput, "fullName", fullName);
+            typeText(emailInput, "email", email);
+            typeText(currentAddressInput, "currentAddress", currentAddress);
+            typeText(permanentAddressInput, "permanentAddress", permanentAddress);
+        });
     }
 
     /**
@@ -60,8 +75,10 @@ public class TextBoxPage extends BasePage {
      * Waits for the submit button to be visible before clicking.
      */
     public void submitForm() {
-        wait.until(ExpectedConditions.visibilityOf(submitButton));
-        SeleniumUtils.clickWithJS(driver, submitButton);
+        step("Submit text box form", () -> {
+            wait.until(ExpectedConditions.visibilityOf(submitButton));
+            SeleniumUtils.clickWithJS(driver, submitButton);
+        });
     }
 
     /**
@@ -1,10 +1,11 @@
 package com.demoqa.pages.forms;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.ElementSnapshot;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import java.util.List;
 
 /**
@@ -19,6 +20,12 @@ import java.util.List;
  */
 public class PracticeFormPage extends BasePage {
 
+    private static final By READY_ELEMENT = By.id("submit");
+
+    private static final By GENDER_OPTIONS = By.cssSelector("[for^='gender-radio']");
+
+    private static final By HOBBIES_OPTIONS = By.cssSelector("[for^='hobbies-checkbox']");
+
     @FindBy(id = "firstName")
     WebElement firstNameInput;
 
@@ -28,9 +35,6 @@ public class PracticeFormPage extends BasePage {
     @FindBy(id = "userEmail")
     WebElement userEmailInput;
 
-    @FindBy(css = "[for^='gender-radio']")
-    List<WebElement> genderOptions;
-
     @FindBy(id = "userNumber")
     WebElement userNumberInput;
 
@@ -40,9 +44,6 @@ public class PracticeFormPage extends BasePage {
     @FindBy(id = "subjectsInput")
     WebElement subjectsInput;
 
-    @FindBy(css = "[for^='hobbies-checkbox']")
-    List<WebElement> hobbiesOptions;
-
     @FindBy(id = "uploadPicture")
     WebElement uploadPictureButton;
 
@@ -65,94 +66,110 @@ public class PracticeFormPage extends BasePage {
      */
     public PracticeFormPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The form is usable once its submit button exists; images, ads and trackers are not needed.
+     *
+     * @return Presence of the submit button
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
      * Sets date of birth using direct input
      */
     public void setDateOfBirthSimple(String date) {
-        WebElement element = waitForVisibility(dateOfBirthInput);
-        element.clear();
-        element.sendKeys(date);
-        element.sendKeys(Keys.ENTER);
+        step("Set date of birth", () -> {
+            WebElement element = waitForVisibility(dateOfBirthInput);
+            element.clear();
+            element.sendKeys(date);
+            element.sendKeys(Keys.ENTER);
+        });
     }
 
     /**
      * Enters first name into the corresponding field.
      */
     public void enterFirstName(String firstName) {
-        waitAndSendKeys(firstNameInput, firstName);
+        step("Enter first name", () -> waitAndSendKeys(firstNameInput, "firstName", firstName));
     }
 
     /**
      * Enters last name into the corresponding field.
      */
     public void enterLastName(String lastName) {
-        waitAndSendKeys(lastNameInput, lastName);
+        step("Enter last name", () -> waitAndSendKeys(lastNameInput, "lastName", lastName));
     }
 
     /**
      * Enters email address into the corresponding field.
      */
     public void enterEmail(String email) {
-        waitAndSendKeys(userEmailInput, email);
+        step("Enter email", () -> waitAndSendKeys(userEmailInput, "email", email));
     }
     /**
      * Selects gender option.
+     * Label texts are read with a single {@link #snapshot} call.
      */
     public void selectGender(String gender) {
-        genderOptions.stream()
+        step("Select gender " + gender, () -> snapshot(GENDER_OPTIONS).stream()
                 .filter(option -> option.getText().equalsIgnoreCase(gender))
                 .findFirst()
-                .ifPresent(this::jsClick);
+                .ifPresent(option -> clickByIndex(GENDER_OPTIONS, List.of(option.getIndex()))));
     }
 
     /**
      * Enters phone number into the corresponding field.
      */
     public void enterPhoneNumber(String phone) {
-        waitAndSendKeys(userNumberInput, phone);
+        step("Enter phone number", () -> waitAndSendKeys(userNumberInput, "phoneNumber", phone));
     }
 
     /**
      * Enters subjects into the subjects field.
      */
     public void enterSubjects(String subjects) {
-        WebElement element = waitForVisibility(subjectsInput);
-        element.clear();
-        element.sendKeys(subjects);
-        element.sendKeys(Keys.ENTER);
+        step("Enter subjects " + subjects, () -> {
+            WebElement element = waitForVisibility(subjectsInput);
+            element.clear();
+            element.sendKeys(subjects);
+            element.sendKeys(Keys.ENTER);
+        });
     }
 
     /**
      * Selects hobbies from the available options.
+     * Label texts are read with a single {@link #snapshot} call and all matches are clicked in one script.
      */
     public void selectHobbies(List<String> hobbies) {
-        hobbiesOptions.stream()
+        step("Select hobbies " + hobbies, () -> clickByIndex(HOBBIES_OPTIONS, snapshot(HOBBIES_OPTIONS).stream()
                 .filter(option -> hobbies.contains(option.getText()))
-                .forEach(this::jsClick);
+                .map(ElementSnapshot::getIndex)
+                .toList()));
     }
 
     /**
      * Uploads a file using the file input.
      */
     public void uploadPicture(String filePath) {
-        uploadPictureButton.sendKeys(filePath);
+        step("Upload picture", () -> uploadPictureButton.sendKeys(filePath));
     }
 
     /**
      * Enters current address into the corresponding field.
      */
     public void enterAddress(String address) {
-        waitAndSendKeys(currentAddressInput, address);
+        step("Enter address", () -> waitAndSendKeys(currentAddressInput, "currentAddress", address));
     }
 
     /**
      * Submits the form by clicking the submit button.
      */
     public void submitForm() {
-        jsClick(submitButton);
+        step("Submit practice form", () -> jsClick(submitButton));
     }
 
 
@@ -181,14 +198,10 @@ public class PracticeFormPage extends BasePage {
 
     /**
      * Closes the submission modal.
+     * A Google ad iframe over the close button is removed only if it actually intercepts the click.
      */
     public void closeModal() {
-        try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(By.cssSelector("iframe[id^='google_ads_iframe']")));
-            jsClick(closeButton);
-        } catch (TimeoutException e) {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", closeButton);
-        }
+        step("Close submission modal", () -> click(waitForVisibility(closeButton)));
     }
 
     /**
@@ -211,14 +224,15 @@ public class PracticeFormPage extends BasePage {
     }
 
     /**
-     * Waits for an element to be visible and sends keys to it.
+     * Waits for an element to be visible, clears it and types the text via {@link #typeText}.
      *
-     * @param element WebElement to interact with
-     * @param text    Text to send
+     * @param element   WebElement to interact with
+     * @param fieldName Logical field name used for typing latency recording
+     * @param text      Text to send
      */
-    private void waitAndSendKeys(WebElement element, String text) {
+    private void waitAndSendKeys(WebElement element, String fieldName, String text) {
         WebElement visibleElement = waitForVisibility(element);
         visibleElement.clear();
-        visibleElement.sendKeys(text);
+        typeText(visibleElement, fieldName, text);
     }
 }
\ No newline at end of file
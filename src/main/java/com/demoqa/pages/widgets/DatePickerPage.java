@@ -1,11 +1,13 @@
 package com.demoqa.pages.widgets;
 
 import com.demoqa.pages.BasePage;
+import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Page Object class for interacting with the Date Picker widget on demoqa.com.
@@ -13,6 +15,8 @@ import org.openqa.selenium.support.PageFactory;
  */
 public class DatePickerPage extends BasePage {
 
+    private static final By READY_ELEMENT = By.id("dateAndTimePickerInput");
+
     @FindBy(id = "dateAndTimePickerInput")
     WebElement dateAndTimePickerInput;
 
@@ -22,7 +26,16 @@ public class DatePickerPage extends BasePage {
      */
     public DatePickerPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The date picker is usable once its date and time input is rendered.
+     *
+     * @return Presence of the date and time input
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
@@ -32,8 +45,10 @@ public class DatePickerPage extends BasePage {
      *                (e.g., "MM/DD/YYYY HH:MM AM/PM")
      */
     public void selectDateAndTime(String dateTime) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        js.executeScript("arguments[0].value = arguments[1]", dateAndTimePickerInput, dateTime);
+        step("Select date and time " + dateTime, () -> {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript("arguments[0].value = arguments[1]", dateAndTimePickerInput, dateTime);
+        });
     }
 
     /**
@@ -43,4 +58,13 @@ public class DatePickerPage extends BasePage {
     public String getDatePickerValue() {
         return dateAndTimePickerInput.getAttribute("value");
     }
+
+    /**
+     * Captures the date and time input for visual comparison.
+     *
+     * @return PNG screenshot of the date and time input
+     */
+    public byte[] captureDatePicker() {
+        return captureElement("date picker", dateAndTimePickerInput);
+    }
 }
\ No newline at end of file
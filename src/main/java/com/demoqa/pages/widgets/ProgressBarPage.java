@@ -1,10 +1,12 @@
 package com.demoqa.pages.widgets;
 
 import com.demoqa.pages.BasePage;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Page Object class for interacting with the Progress Bar widget on demoqa.com.
@@ -12,6 +14,8 @@ import org.openqa.selenium.support.PageFactory;
  */
 public class ProgressBarPage extends BasePage {
 
+    private static final By READY_ELEMENT = By.id("startStopButton");
+
     @FindBy(id = "startStopButton")
     WebElement startStopButton;
 
@@ -24,7 +28,16 @@ public class ProgressBarPage extends BasePage {
      */
     public ProgressBarPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The progress bar is usable once its start/stop button is rendered.
+     *
+     * @return Presence of the start/stop button
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
@@ -37,12 +50,14 @@ public class ProgressBarPage extends BasePage {
      * </ol>
      */
     public void startStopProgressBar() {
-        removeAds();
-        clickWithJS(startStopButton);
+        step("Start/stop progress bar", () -> {
+            removeAds();
+            clickWithJS(startStopButton);
 
-        wait.until(d -> {
-            String value = getProgressBarValue();
-            return value != null && !value.isEmpty() && !value.equals("0");
+            wait.until(d -> {
+                String value = getProgressBarValue();
+                return value != null && !value.isEmpty() && !value.equals("0");
+            });
         });
     }
 
@@ -51,7 +66,7 @@ public class ProgressBarPage extends BasePage {
      * Uses explicit wait to poll the progress value until it reaches "100".
      */
     public void waitForCompletion() {
-        wait.until(d -> getProgressBarValue().equals("100"));
+        step("Wait for progress bar completion", () -> wait.until(d -> getProgressBarValue().equals("100")));
     }
 
     /**
@@ -66,4 +81,13 @@ public class ProgressBarPage extends BasePage {
             return null;
         }
     }
+
+    /**
+     * Captures the progress bar for visual comparison.
+     *
+     * @return PNG screenshot of the progress bar element
+     */
+    public byte[] captureProgressBar() {
+        return captureElement("progress bar", progressBar);
+    }
 }
\ No newline at end of file
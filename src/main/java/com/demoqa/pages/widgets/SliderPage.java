@@ -1,11 +1,13 @@
 package com.demoqa.pages.widgets;
 
 import com.demoqa.pages.BasePage;
+import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Represents the Slider widget page in the application.
@@ -14,6 +16,8 @@ import org.openqa.selenium.support.PageFactory;
  */
 public class SliderPage extends BasePage {
 
+    private static final By READY_ELEMENT = By.id("sliderValue");
+
     @FindBy(css = ".range-slider")
     WebElement slider;
 
@@ -27,7 +31,16 @@ public class SliderPage extends BasePage {
      */
     public SliderPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+
+    /**
+     * The slider is usable once its value field is rendered.
+     *
+     * @return Presence of the slider value field
+     */
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(READY_ELEMENT);
     }
 
     /**
@@ -37,8 +50,10 @@ public class SliderPage extends BasePage {
      * @param value The desired value to set the slider to
      */
     public void setSliderValue(int value) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        js.executeScript("arguments[0].value = arguments[1]; arguments[2].value = arguments[1];", slider, value, sliderValue);
+        step("Set slider value " + value, () -> {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript("arguments[0].value = arguments[1]; arguments[2].value = arguments[1];", slider, value, sliderValue);
+        });
     }
 
     /**
@@ -49,4 +64,13 @@ public class SliderPage extends BasePage {
     public String getSliderValue() {
         return sliderValue.getAttribute("value");
     }
+
+    /**
+     * Captures the slider track and thumb for visual comparison.
+     *
+     * @return PNG screenshot of the slider element
+     */
+    public byte[] captureSlider() {
+        return captureElement("slider", slider);
+    }
 }
\ No newline at end of file
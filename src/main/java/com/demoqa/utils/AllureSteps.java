@@ -0,0 +1,103 @@
+package com.demoqa.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Utility class for recording Allure steps and attachments explicitly through the lifecycle API.
+ * <p>
+ * Unlike {@code @Step} and {@code @Attachment} annotations, these calls do not depend on the
+ * AspectJ weaver javaagent, so reporting works the same in both the default and the
+ * {@code allure-lifecycle} Maven profile. Outside a running Allure test case (e.g. when page
+ * objects are used from a plain main method) the actions simply run without being recorded.
+ */
+public class AllureSteps {
+
+    /**
+     * Runs an action as a named Allure step.
+     *
+     * @param name The step name shown in the report
+     * @param action The action to execute
+     */
+    public static void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs an action as a named Allure step and returns its result.
+     * The step is marked as failed or broken when the action throws.
+     *
+     * @param name The step name shown in the report
+     * @param action The action to execute
+     * @param <T> The type of the action result
+     * @return The value returned by the action
+     */
+    public static <T> T step(String name, Supplier<T> action) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return action.get();
+        }
+
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.startStep(uuid, new StepResult().setName(name));
+        try {
+            T result = action.get();
+            lifecycle.updateStep(uuid, step -> step.setStatus(Status.PASSED));
+            return result;
+        } catch (RuntimeException | Error e) {
+            lifecycle.updateStep(uuid, step -> step
+                    .setStatus(ResultsUtils.getStatus(e).orElse(Status.BROKEN))
+                    .setStatusDetails(ResultsUtils.getStatusDetails(e).orElse(null)));
+            throw e;
+        } finally {
+            lifecycle.stopStep(uuid);
+        }
+    }
+
+    /**
+     * Adds an attachment to the current test case or step.
+     * Does nothing when no Allure test case is running.
+     *
+     * @param name The attachment name shown in the report
+     * @param type The MIME type of the attachment (e.g. "image/png")
+     * @param extension The file extension including the dot (e.g. ".png")
+     * @param content The attachment content
+     */
+    public static void attach(String name, String type, String extension, byte[] content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            lifecycle.addAttachment(name, type, extension, content);
+        }
+    }
+
+    /**
+     * Adds a file as attachment to the current test case or step, streaming it rather than reading it into
+     * memory. Does nothing when no Allure test case is running.
+     *
+     * @param name The attachment name shown in the report
+     * @param type The MIME type of the attachment (e.g. "application/json")
+     * @param extension The file extension including the dot (e.g. ".har")
+     * @param file The file to attach
+     * @throws IOException if the file cannot be read
+     */
+    public static void attach(String name, String type, String extension, Path file) throws IOException {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            try (InputStream content = Files.newInputStream(file)) {
+                lifecycle.addAttachment(name, type, extension, content);
+            }
+        }
+    }
+}
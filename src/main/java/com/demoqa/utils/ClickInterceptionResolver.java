@@ -0,0 +1,75 @@
+package com.demoqa.utils;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Clicks elements natively and clears whatever intercepts the click only when it happens.
+ * <p>
+ * The click is tried right away, so an unobstructed element costs a single command and no wait. Only when
+ * the driver reports {@link ElementClickInterceptedException} does a script hit-test the element's centre:
+ * the element that receives the click there is removed, together with its fixed or sticky container (ad
+ * banners, anchors, cookie bars), and the click is retried. After {@value #MAX_ATTEMPTS} intercepted clicks,
+ * or when the hit test finds no removable obstruction, the element is clicked through JavaScript.
+ */
+public final class ClickInterceptionResolver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClickInterceptionResolver.class);
+
+    /**
+     * Native clicks tried before falling back to a JavaScript click
+     */
+    static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * Centres the element, finds the topmost element at its centre and removes it, or its closest fixed or
+     * sticky ancestor, unless it is the element itself, inside it or one of its ancestors.
+     * Returns a short description of the removed element, or null if nothing was removed.
+     */
+    static final String REMOVE_OBSTRUCTION_JS =
+            "var target = arguments[0];"
+                    + "target.scrollIntoView({block: 'center', inline: 'center'});"
+                    + "var rect = target.getBoundingClientRect();"
+                    + "var hit = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);"
+                    + "if (!hit || hit === target || target.contains(hit) || hit.contains(target)) { return null; }"
+                    + "var obstruction = hit;"
+                    + "for (var node = hit; node && node !== document.body; node = node.parentElement) {"
+                    + "  if (node.contains(target)) { break; }"
+                    + "  var position = getComputedStyle(node).position;"
+                    + "  if (position === 'fixed' || position === 'sticky') { obstruction = node; break; }"
+                    + "}"
+                    + "var description = obstruction.tagName.toLowerCase()"
+                    + "    + (obstruction.id ? '#' + obstruction.id : '');"
+                    + "obstruction.remove();"
+                    + "return description;";
+
+    private ClickInterceptionResolver() {
+    }
+
+    /**
+     * Clicks an element, removing elements that intercept the click.
+     *
+     * @param driver The WebDriver instance the element belongs to
+     * @param element The element to click
+     */
+    public static void click(WebDriver driver, WebElement element) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                element.click();
+                return;
+            } catch (ElementClickInterceptedException e) {
+                String removed = (String) ((JavascriptExecutor) driver).executeScript(REMOVE_OBSTRUCTION_JS, element);
+                if (removed == null) {
+                    break;
+                }
+                LOGGER.info("Removed {} intercepting a click (attempt {})", removed, attempt);
+            }
+        }
+        LOGGER.debug("Click still intercepted, clicking through JavaScript");
+        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+    }
+}
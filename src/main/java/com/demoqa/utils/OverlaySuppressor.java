@@ -0,0 +1,146 @@
+package com.demoqa.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Script;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Hides advertisement containers for the whole lifetime of a browser session.
+ * <p>
+ * The suppression script is registered once per session and the browser runs it at the start of
+ * every new document, so ads that load after a page object was created are hidden as well:
+ * <ul>
+ *   <li>Chromium drivers register it with CDP {@code Page.addScriptToEvaluateOnNewDocument}</li>
+ *   <li>Drivers with a BiDi connection (e.g. Firefox with {@code webSocketUrl}) use a BiDi preload script</li>
+ *   <li>Other drivers are not registered, and {@link com.demoqa.pages.BasePage#removeAds()} keeps
+ *       removing ads on page-object construction</li>
+ * </ul>
+ * The script injects a stylesheet hiding ad containers and a MutationObserver removing them as
+ * they are inserted. CDP registration applies to the current tab only, so it is repeated for each new
+ * tab of a shared browser; a BiDi preload script covers all tabs and is registered once per driver.
+ * Installation is therefore tracked per tab, so a tab where CDP registration failed, or a tab a test
+ * opened itself, still gets its ads removed by the page objects.
+ */
+public final class OverlaySuppressor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OverlaySuppressor.class);
+
+    /**
+     * Selectors of the ad containers and ad iframes demoqa injects. Deliberately narrower than
+     * substring matches on "ad", which would also hit e.g. modal headers while the observer runs.
+     */
+    static final String AD_SELECTORS = "#fixedban, #adplus-anchor, [id^='google_ads'], [id^='adplus'],"
+            + " ins.adsbygoogle, .adsbygoogle, iframe[src*='doubleclick'], iframe[src*='googlesyndication'],"
+            + " iframe[id^='google_ads_iframe'], [id*='Ad.Plus'], [class*='ad-container']";
+
+    /**
+     * Runs at document start, before any page script. Guards against double registration on the same document.
+     */
+    static final String SUPPRESSION_JS =
+            "(function(selectors) {"
+                    + "  if (window.__demoqaOverlaySuppression) { return; }"
+                    + "  window.__demoqaOverlaySuppression = true;"
+                    + "  function addStyle() {"
+                    + "    var style = document.createElement('style');"
+                    + "    style.textContent = selectors + ' { display: none !important; pointer-events: none !important; }';"
+                    + "    (document.head || document.documentElement).appendChild(style);"
+                    + "  }"
+                    + "  function sweep(node) {"
+                    + "    if (node.nodeType !== 1) { return; }"
+                    + "    if (node.matches(selectors)) { node.remove(); return; }"
+                    + "    if (node.firstElementChild) {"
+                    + "      node.querySelectorAll(selectors).forEach(function(ad) { ad.remove(); });"
+                    + "    }"
+                    + "  }"
+                    + "  function observe() {"
+                    + "    addStyle();"
+                    + "    new MutationObserver(function(mutations) {"
+                    + "      for (var i = 0; i < mutations.length; i++) {"
+                    + "        mutations[i].addedNodes.forEach(sweep);"
+                    + "      }"
+                    + "    }).observe(document.documentElement, { childList: true, subtree: true });"
+                    + "    sweep(document.documentElement);"
+                    + "  }"
+                    + "  if (document.documentElement) { observe(); }"
+                    + "  else { document.addEventListener('readystatechange', observe, { once: true }); }"
+                    + "})(\"" + AD_SELECTORS + "\");";
+
+    /**
+     * Marks a driver whose preload script covers every tab
+     */
+    private static final String ALL_WINDOWS = "*";
+
+    /**
+     * Window handles the script is registered for, per driver
+     */
+    private static final Map<WebDriver, Set<String>> ACTIVE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private OverlaySuppressor() {
+    }
+
+    /**
+     * Registers the suppression script for all documents subsequently loaded in the driver's current tab
+     * (or in all tabs, with BiDi) and applies it to the current document.
+     *
+     * @param driver The WebDriver session to install the script in
+     * @return true if the script was registered, false if the driver supports neither CDP nor BiDi
+     */
+    public static boolean install(WebDriver driver) {
+        try {
+            String window;
+            if (driver instanceof HasCdp cdp) {
+                window = driver.getWindowHandle();
+                cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", SUPPRESSION_JS));
+            } else if (driver instanceof HasBiDi bidi && bidi.maybeGetBiDi().isPresent()) {
+                // Preload scripts apply to every tab of the browser, so a shared browser registers once
+                window = ALL_WINDOWS;
+                if (!windows(driver).contains(ALL_WINDOWS)) {
+                    new Script(driver).addPreloadScript("() => {" + SUPPRESSION_JS + "}");
+                }
+            } else {
+                return false;
+            }
+            ((JavascriptExecutor) driver).executeScript(SUPPRESSION_JS);
+            windows(driver).add(window);
+            return true;
+        } catch (WebDriverException e) {
+            LOGGER.warn("Failed to register overlay suppression script: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the suppression script was registered for the driver's current tab.
+     *
+     * @param driver The WebDriver session
+     * @return true if ads are already suppressed by the init script
+     */
+    public static boolean isInstalled(WebDriver driver) {
+        Set<String> windows = ACTIVE.get(driver);
+        if (windows == null || windows.isEmpty()) {
+            return false;
+        }
+        if (windows.contains(ALL_WINDOWS)) {
+            return true;
+        }
+        try {
+            return windows.contains(driver.getWindowHandle());
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static Set<String> windows(WebDriver driver) {
+        return ACTIVE.computeIfAbsent(driver, key -> Collections.synchronizedSet(new HashSet<>()));
+    }
+}
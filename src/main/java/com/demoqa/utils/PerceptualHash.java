@@ -0,0 +1,122 @@
+package com.demoqa.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * 64-bit DCT perceptual hash (pHash) of an image.
+ * <p>
+ * The image is downscaled to 32x32 grayscale, transformed with a 2D DCT and the 8x8 lowest
+ * frequencies are compared with their median. Images that look alike get hashes with a small
+ * Hamming distance, independent of size and minor rendering noise, so comparing two captures
+ * costs one small downscale instead of a pass over every pixel.
+ */
+public final class PerceptualHash {
+
+    private static final int SAMPLE_SIZE = 32;
+    private static final int HASH_SIZE = 8;
+
+    /**
+     * DCT-II basis, COSINES[u][x] = cos((2x + 1) * u * PI / (2 * SAMPLE_SIZE))
+     */
+    private static final double[][] COSINES = new double[HASH_SIZE][SAMPLE_SIZE];
+
+    static {
+        for (int u = 0; u < HASH_SIZE; u++) {
+            for (int x = 0; x < SAMPLE_SIZE; x++) {
+                COSINES[u][x] = Math.cos((2 * x + 1) * u * Math.PI / (2 * SAMPLE_SIZE));
+            }
+        }
+    }
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * Computes the perceptual hash of an image.
+     *
+     * @param image The image to hash
+     * @return The 64-bit hash
+     */
+    public static long of(BufferedImage image) {
+        double[][] pixels = grayscaleSample(image);
+
+        // Only the lowest HASH_SIZE x HASH_SIZE frequencies are needed, so compute just those coefficients
+        double[] coefficients = new double[HASH_SIZE * HASH_SIZE];
+        double[][] rows = new double[SAMPLE_SIZE][HASH_SIZE];
+        for (int y = 0; y < SAMPLE_SIZE; y++) {
+            for (int u = 0; u < HASH_SIZE; u++) {
+                double sum = 0;
+                for (int x = 0; x < SAMPLE_SIZE; x++) {
+                    sum += pixels[y][x] * COSINES[u][x];
+                }
+                rows[y][u] = sum;
+            }
+        }
+        for (int v = 0; v < HASH_SIZE; v++) {
+            for (int u = 0; u < HASH_SIZE; u++) {
+                double sum = 0;
+                for (int y = 0; y < SAMPLE_SIZE; y++) {
+                    sum += rows[y][u] * COSINES[v][y];
+                }
+                coefficients[v * HASH_SIZE + u] = sum;
+            }
+        }
+
+        // The DC coefficient only reflects average brightness and is excluded from the median
+        double[] sorted = Arrays.copyOfRange(coefficients, 1, coefficients.length);
+        Arrays.sort(sorted);
+        double median = sorted[sorted.length / 2];
+
+        long hash = 0;
+        for (int i = 0; i < coefficients.length; i++) {
+            if (coefficients[i] > median) {
+                hash |= 1L << i;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Counts the bits in which two hashes differ.
+     *
+     * @param first The first hash
+     * @param second The second hash
+     * @return The Hamming distance, 0 for perceptually identical images and at most 64
+     */
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * Downscales in halving steps, since a single bilinear step to 32x32 would sample only a few
+     * source pixels of a large capture and make the hash depend on aliasing.
+     */
+    private static double[][] grayscaleSample(BufferedImage image) {
+        BufferedImage current = image;
+        while (current.getWidth() >= 2 * SAMPLE_SIZE || current.getHeight() >= 2 * SAMPLE_SIZE) {
+            current = scale(current, Math.max(SAMPLE_SIZE, current.getWidth() / 2),
+                    Math.max(SAMPLE_SIZE, current.getHeight() / 2), BufferedImage.TYPE_INT_RGB);
+        }
+        BufferedImage sample = scale(current, SAMPLE_SIZE, SAMPLE_SIZE, BufferedImage.TYPE_BYTE_GRAY);
+
+        double[][] pixels = new double[SAMPLE_SIZE][SAMPLE_SIZE];
+        for (int y = 0; y < SAMPLE_SIZE; y++) {
+            for (int x = 0; x < SAMPLE_SIZE; x++) {
+                pixels[y][x] = sample.getRaster().getSample(x, y, 0);
+            }
+        }
+        return pixels;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, int type) {
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+}
@@ -0,0 +1,273 @@
+package com.demoqa.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed storage for screenshots.
+ * <p>
+ * Each capture is stored under the SHA-256 hash of its PNG bytes, so identical captures
+ * (e.g. the same error page hit by several parallel tests) are written only once.
+ * Features:
+ * <ul>
+ *   <li>Collision-free file names under parallel runs</li>
+ *   <li>Optional downscaling and JPEG recompression, falling back to the original PNG when re-encoding fails</li>
+ *   <li>Direct NIO channel writes without temporary files</li>
+ *   <li>Size-bounded index that evicts the least recently stored files</li>
+ * </ul>
+ *
+ * <p>The shared instance is configured through system properties:
+ * <ul>
+ *   <li>screenshot.dir - target directory (default target/screenshots)</li>
+ *   <li>screenshot.max.total.mb - disk budget for the directory (default 200)</li>
+ *   <li>screenshot.max.width - downscale wider captures to this width, 0 disables (default 0)</li>
+ *   <li>screenshot.jpeg.quality - recompress as JPEG with this quality (0-1), 0 keeps PNG (default 0)</li>
+ * </ul>
+ */
+public class ScreenshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotStore.class);
+
+    private static volatile ScreenshotStore defaultStore;
+
+    private final Path directory;
+    private final long maxTotalBytes;
+    private final int maxWidth;
+    private final float jpegQuality;
+
+    /**
+     * File-name-to-size index in insertion order, used for deduplication and eviction.
+     * Keyed by file name rather than hash, so PNG and JPEG files of the same capture left by runs with
+     * different settings are counted and evicted separately.
+     */
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>();
+    private long totalBytes;
+
+    /**
+     * Creates a store rooted at the given directory.
+     * Existing files are loaded into the index (oldest first) so the size bound also
+     * applies across JVM forks sharing the same directory.
+     *
+     * @param directory     Directory to store screenshots in (created if missing)
+     * @param maxTotalBytes Maximum total size of stored files in bytes
+     * @param maxWidth      Maximum image width in pixels, or 0 to keep original size
+     * @param jpegQuality   JPEG quality between 0 and 1, or 0 to keep lossless PNG
+     * @throws IOException if the directory cannot be created or scanned
+     */
+    public ScreenshotStore(Path directory, long maxTotalBytes, int maxWidth, float jpegQuality) throws IOException {
+        this.directory = directory;
+        this.maxTotalBytes = maxTotalBytes;
+        this.maxWidth = maxWidth;
+        this.jpegQuality = jpegQuality;
+        Files.createDirectories(directory);
+        loadIndex();
+    }
+
+    /**
+     * Returns the shared store configured from system properties.
+     *
+     * @return The shared ScreenshotStore instance
+     * @throws IOException if the store directory cannot be prepared
+     */
+    public static ScreenshotStore getDefault() throws IOException {
+        ScreenshotStore store = defaultStore;
+        if (store == null) {
+            synchronized (ScreenshotStore.class) {
+                store = defaultStore;
+                if (store == null) {
+                    store = new ScreenshotStore(
+                            Paths.get(System.getProperty("screenshot.dir", "target/screenshots")),
+                            Long.getLong("screenshot.max.total.mb", 200) * 1024 * 1024,
+                            Integer.getInteger("screenshot.max.width", 0),
+                            Float.parseFloat(System.getProperty("screenshot.jpeg.quality", "0")));
+                    defaultStore = store;
+                }
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Stores a PNG capture, reusing an existing file when identical content was stored before.
+     *
+     * @param name Logical screenshot name, used for logging only
+     * @param png  Raw PNG bytes as returned by the driver
+     * @return Path of the stored file, a .png file when the capture could not be re-encoded as configured
+     * @throws IOException if the file cannot be written
+     */
+    public Path store(String name, byte[] png) throws IOException {
+        String hash = sha256(png);
+        String fileName = hash + (jpegQuality > 0 ? ".jpg" : ".png");
+
+        synchronized (this) {
+            if (index.containsKey(fileName) && Files.exists(directory.resolve(fileName))) {
+                Long size = index.remove(fileName);
+                index.put(fileName, size);
+                LOGGER.debug("Screenshot '{}' deduplicated to {}", name, fileName);
+                return directory.resolve(fileName);
+            }
+        }
+
+        byte[] encoded = encode(name, png);
+        if (encoded == png) {
+            // Not re-encoded, so the file holds the original PNG whatever the configured format
+            fileName = hash + ".png";
+        }
+        Path target = directory.resolve(fileName);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(encoded);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (FileAlreadyExistsException e) {
+            LOGGER.debug("Screenshot '{}' already written by another thread: {}", name, target);
+        }
+
+        synchronized (this) {
+            if (index.put(fileName, (long) encoded.length) == null) {
+                totalBytes += encoded.length;
+            }
+            evictIfNeeded(fileName);
+        }
+        LOGGER.debug("Screenshot '{}' stored as {} ({} bytes)", name, target, encoded.length);
+        return target;
+    }
+
+    /**
+     * Gets the total size of all indexed screenshots.
+     *
+     * @return Total stored bytes
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Applies the configured downscaling and recompression.
+     * Returns the original bytes untouched when neither option is enabled, the capture cannot be decoded,
+     * or ImageIO fails to re-encode it; ImageIO reports malformed images with unchecked exceptions as well.
+     */
+    private byte[] encode(String name, byte[] png) {
+        if (maxWidth <= 0 && jpegQuality <= 0) {
+            return png;
+        }
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                LOGGER.warn("Screenshot '{}' could not be decoded, storing the original PNG", name);
+                return png;
+            }
+            if (maxWidth > 0 && image.getWidth() > maxWidth) {
+                image = scale(image, maxWidth);
+            }
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream(png.length / 2);
+            if (jpegQuality > 0) {
+                writeJpeg(image, output);
+            } else if (!ImageIO.write(image, "png", output)) {
+                throw new IOException("No PNG writer available");
+            }
+            return output.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to re-encode screenshot '{}', storing the original PNG: {}", name, e.toString());
+            return png;
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int width) {
+        int height = Math.max(1, source.getHeight() * width / source.getWidth());
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void writeJpeg(BufferedImage image, ByteArrayOutputStream output) throws IOException {
+        if (image.getColorModel().hasAlpha()) {
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.drawImage(image, 0, 0, null);
+            graphics.dispose();
+            image = rgb;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(Math.min(1f, jpegQuality));
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Deletes the oldest files until the total size fits the budget.
+     * The most recently stored file is never evicted.
+     */
+    private void evictIfNeeded(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+        while (totalBytes > maxTotalBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(eldest.getKey()));
+            } catch (IOException e) {
+                LOGGER.warn("Failed to evict screenshot {}: {}", eldest.getKey(), e.getMessage());
+            }
+            totalBytes -= eldest.getValue();
+            iterator.remove();
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(".png") || path.toString().endsWith(".jpg"))
+                    .sorted(Comparator.comparing(path -> path.toFile().lastModified()))
+                    .forEach(path -> {
+                        long size = path.toFile().length();
+                        index.put(path.getFileName().toString(), size);
+                        totalBytes += size;
+                    });
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,16 +1,9 @@
 package com.demoqa.utils;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.io.FileHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Utility class providing common Selenium WebDriver helper methods.
@@ -33,38 +26,40 @@ public class SeleniumUtils {
     }
 
     /**
-     * Takes a screenshot and saves it to the target/screenshots directory.
-     * Creates the directory if it doesn't exist.
+     * Takes a screenshot and saves it through the shared {@link ScreenshotStore}.
+     * Identical captures are deduplicated, so the returned path may be shared with earlier screenshots.
      *
      * @param driver The WebDriver instance capable of taking screenshots
-     * @param screenshotName The base name for the screenshot file (without extension)
+     * @param screenshotName The logical name of the screenshot, used for logging
      * @return The full path to the saved screenshot, or null if saving failed
      */
     public static String takeScreenshot(WebDriver driver, String screenshotName) {
         try {
-            Path screenshotsDir = Paths.get("target/screenshots");
-            if (!Files.exists(screenshotsDir)) {
-                Files.createDirectories(screenshotsDir);
-            }
-
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = screenshotName + "_" + timestamp + ".png";
-            File destinationFile = new File(screenshotsDir.toFile(), fileName);
-
-            File screenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            FileHandler.copy(screenshotFile, destinationFile);
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            return saveScreenshot(screenshot, screenshotName);
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error while taking screenshot: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            String absolutePath = destinationFile.getAbsolutePath();
+    /**
+     * Saves already captured PNG bytes through the shared {@link ScreenshotStore}.
+     * Lets callers that also attach the capture to a report avoid a second screenshot round-trip.
+     *
+     * @param screenshot The PNG bytes of the screenshot
+     * @param screenshotName The logical name of the screenshot, used for logging
+     * @return The full path to the saved screenshot, or null if saving failed
+     */
+    public static String saveScreenshot(byte[] screenshot, String screenshotName) {
+        try {
+            String absolutePath = ScreenshotStore.getDefault().store(screenshotName, screenshot)
+                    .toAbsolutePath().toString();
             LOGGER.info("Screenshot saved: {}", absolutePath);
-
             return absolutePath;
-
         } catch (IOException e) {
             LOGGER.error("Failed to save screenshot: {}", e.getMessage());
             return null;
-        } catch (Exception e) {
-            LOGGER.error("Unexpected error while taking screenshot: {}", e.getMessage());
-            return null;
         }
     }
 }
\ No newline at end of file
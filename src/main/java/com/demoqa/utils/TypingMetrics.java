@@ -0,0 +1,82 @@
+package com.demoqa.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-field typing latency recorded by {@link com.demoqa.pages.BasePage#typeText}.
+ * Statistics are kept per field and typing mode ("cdp" or "sendKeys"), so both modes can be
+ * compared for the same field across a run. They cover the time since the last {@link #logSummary()},
+ * so each suite logs only its own typing.
+ */
+public class TypingMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TypingMetrics.class);
+
+    private static final Map<String, FieldStats> STATS = new ConcurrentHashMap<>();
+
+    /**
+     * Records a single typing operation.
+     *
+     * @param field Logical field name (e.g. "TextBoxPage.currentAddress")
+     * @param mode Typing mode used ("cdp" or "sendKeys")
+     * @param characters Number of characters typed
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public static void record(String field, String mode, int characters, long nanos) {
+        STATS.computeIfAbsent(field + " [" + mode + "]", key -> new FieldStats()).add(characters, nanos);
+        LOGGER.debug("Typed {} chars into {} via {} in {} ms",
+                characters, field, mode, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * Gets a human-readable summary per field and mode.
+     *
+     * @return Sorted map of "field [mode]" to "count, average ms, max ms, characters"
+     */
+    public static Map<String, String> summary() {
+        Map<String, String> summary = new TreeMap<>();
+        STATS.forEach((key, stats) -> summary.put(key, stats.toString()));
+        return summary;
+    }
+
+    /**
+     * Logs the summary of all fields recorded since the last summary, if any, and clears them.
+     */
+    public static void logSummary() {
+        for (String key : new TreeMap<>(STATS).keySet()) {
+            FieldStats stats = STATS.remove(key);
+            if (stats != null) {
+                LOGGER.info("Typing latency {}: {}", key, stats);
+            }
+        }
+    }
+
+    private static final class FieldStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder characters = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private volatile long maxNanos;
+
+        void add(int chars, long nanos) {
+            count.increment();
+            characters.add(chars);
+            totalNanos.add(nanos);
+            synchronized (this) {
+                maxNanos = Math.max(maxNanos, nanos);
+            }
+        }
+
+        @Override
+        public String toString() {
+            long n = Math.max(1, count.sum());
+            return String.format("count=%d, avg=%.1f ms, max=%.1f ms, chars=%d",
+                    count.sum(), totalNanos.sum() / (double) n / 1_000_000, maxNanos / 1_000_000.0, characters.sum());
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.demoqa.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Visual regression checks of captures against stored baselines.
+ * <p>
+ * Comparison is staged so that the common case, an unchanged capture, stays cheap:
+ * <ul>
+ *   <li>Both images are reduced to a {@link PerceptualHash}; if the hashes are within the configured
+ *       Hamming distance the capture matches without looking at individual pixels</li>
+ *   <li>Only on a hash mismatch a full pixel diff runs, split into tiles that are compared in parallel
+ *       on the common fork-join pool</li>
+ *   <li>A diff image (differing pixels in red over the dimmed baseline) is written only for failures</li>
+ * </ul>
+ * A missing baseline is reported as {@link Status#BASELINE_MISSING} and never passes; baselines are only
+ * recorded when visual.update.baselines is set.
+ *
+ * <p>The shared instance is configured through system properties:
+ * <ul>
+ *   <li>visual.baseline.dir - baseline directory (default src/test/resources/visual_baselines)</li>
+ *   <li>visual.diff.dir - directory for diff images (default target/visual-diffs)</li>
+ *   <li>visual.hash.threshold - maximum hash distance treated as a match (default 0)</li>
+ *   <li>visual.pixel.tolerance - maximum per-channel difference of an unchanged pixel (default 16)</li>
+ *   <li>visual.max.diff.ratio - maximum share of changed pixels that still passes (default 0.001)</li>
+ *   <li>visual.update.baselines - record missing baselines and overwrite existing ones with the current
+ *       captures (default false)</li>
+ * </ul>
+ */
+public class VisualComparator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VisualComparator.class);
+
+    private static final int TILE_SIZE = 64;
+
+    private static final int DIFF_COLOR = 0xFF0000;
+
+    private static volatile VisualComparator defaultComparator;
+
+    private final Path baselineDirectory;
+    private final Path diffDirectory;
+    private final int hashThreshold;
+    private final int pixelTolerance;
+    private final double maxDiffRatio;
+    private final boolean updateBaselines;
+
+    /**
+     * Decoded baselines and their hashes, so repeated checks against the same baseline decode it once.
+     */
+    private final Map<String, Baseline> baselines = new ConcurrentHashMap<>();
+
+    /**
+     * Outcome of a visual check.
+     */
+    public enum Status {
+        BASELINE_CREATED, BASELINE_MISSING, HASH_MATCH, PIXEL_MATCH, MISMATCH
+    }
+
+    /**
+     * Result of comparing a capture with its baseline.
+     *
+     * @param name The check name
+     * @param status The outcome
+     * @param hashDistance Hamming distance of the perceptual hashes, -1 if no baseline was compared
+     * @param diffRatio Share of changed pixels, 0 if no pixel diff was needed
+     * @param diffImage Diff image written for a mismatch, otherwise null
+     */
+    public record Result(String name, Status status, int hashDistance, double diffRatio, Path diffImage) {
+
+        /**
+         * Checks whether the capture is accepted.
+         *
+         * @return true unless the status is {@link Status#MISMATCH} or {@link Status#BASELINE_MISSING}
+         */
+        public boolean passed() {
+            return status != Status.MISMATCH && status != Status.BASELINE_MISSING;
+        }
+    }
+
+    private record Baseline(BufferedImage image, long hash) {
+    }
+
+    /**
+     * Creates a comparator with explicit settings.
+     *
+     * @param baselineDirectory Directory holding baseline PNGs
+     * @param diffDirectory Directory for diff images of failed checks
+     * @param hashThreshold Maximum perceptual hash distance treated as a match
+     * @param pixelTolerance Maximum per-channel difference of a pixel considered unchanged
+     * @param maxDiffRatio Maximum share of changed pixels that still passes
+     * @param updateBaselines Whether captures are recorded as baselines, replacing existing ones
+     */
+    public VisualComparator(Path baselineDirectory, Path diffDirectory, int hashThreshold, int pixelTolerance,
+                            double maxDiffRatio, boolean updateBaselines) {
+        this.baselineDirectory = baselineDirectory;
+        this.diffDirectory = diffDirectory;
+        this.hashThreshold = hashThreshold;
+        this.pixelTolerance = pixelTolerance;
+        this.maxDiffRatio = maxDiffRatio;
+        this.updateBaselines = updateBaselines;
+    }
+
+    /**
+     * Returns the shared comparator configured from system properties.
+     *
+     * @return The shared VisualComparator instance
+     */
+    public static VisualComparator getDefault() {
+        VisualComparator comparator = defaultComparator;
+        if (comparator == null) {
+            synchronized (VisualComparator.class) {
+                comparator = defaultComparator;
+                if (comparator == null) {
+                    comparator = new VisualComparator(
+                            Paths.get(System.getProperty("visual.baseline.dir", "src/test/resources/visual_baselines")),
+                            Paths.get(System.getProperty("visual.diff.dir", "target/visual-diffs")),
+                            Integer.getInteger("visual.hash.threshold", 0),
+                            Integer.getInteger("visual.pixel.tolerance", 16),
+                            Double.parseDouble(System.getProperty("visual.max.diff.ratio", "0.001")),
+                            Boolean.getBoolean("visual.update.baselines"));
+                    defaultComparator = comparator;
+                }
+            }
+        }
+        return comparator;
+    }
+
+    /**
+     * Compares a capture with the baseline of the given name, or records it as the baseline when updating.
+     *
+     * @param name Baseline name, used as file name (e.g. "slider-75-chrome")
+     * @param png The captured PNG bytes
+     * @return The comparison result
+     * @throws IOException if an image cannot be decoded or written
+     */
+    public Result compare(String name, byte[] png) throws IOException {
+        BufferedImage actual = decode(png);
+        long actualHash = PerceptualHash.of(actual);
+        Path baselineFile = baselineDirectory.resolve(name + ".png");
+
+        if (updateBaselines) {
+            Files.createDirectories(baselineDirectory);
+            Files.write(baselineFile, png);
+            baselines.put(name, new Baseline(actual, actualHash));
+            LOGGER.info("Visual baseline '{}' written to {}", name, baselineFile);
+            return new Result(name, Status.BASELINE_CREATED, -1, 0, null);
+        }
+        if (!Files.exists(baselineFile)) {
+            LOGGER.warn("Visual check '{}': no baseline {}, record it with -Dvisual.update.baselines=true",
+                    name, baselineFile);
+            return new Result(name, Status.BASELINE_MISSING, -1, 0, null);
+        }
+
+        Baseline baseline = baselines.get(name);
+        if (baseline == null) {
+            BufferedImage image = decode(Files.readAllBytes(baselineFile));
+            baseline = new Baseline(image, PerceptualHash.of(image));
+            baselines.put(name, baseline);
+        }
+
+        int hashDistance = PerceptualHash.distance(baseline.hash(), actualHash);
+        if (hashDistance <= hashThreshold && sameSize(baseline.image(), actual)) {
+            return new Result(name, Status.HASH_MATCH, hashDistance, 0, null);
+        }
+
+        BufferedImage expected = baseline.image();
+        // Images of different size are compared on their common area; the rest of either image counts as changed
+        int width = Math.min(expected.getWidth(), actual.getWidth());
+        int height = Math.min(expected.getHeight(), actual.getHeight());
+        int diffWidth = Math.max(expected.getWidth(), actual.getWidth());
+        int diffHeight = Math.max(expected.getHeight(), actual.getHeight());
+        BufferedImage diff = new BufferedImage(diffWidth, diffHeight, BufferedImage.TYPE_INT_RGB);
+        int tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+        long changed = ForkJoinPool.commonPool().invoke(new TileDiffTask(expected.getSubimage(0, 0, width, height),
+                actual.getSubimage(0, 0, width, height), diff, tilesX, 0, tilesX * tilesY));
+        if (!sameSize(expected, actual)) {
+            LOGGER.warn("Visual check '{}': size {}x{} differs from baseline {}x{}", name, actual.getWidth(),
+                    actual.getHeight(), expected.getWidth(), expected.getHeight());
+            changed += markOutside(diff, width, height);
+        }
+        double diffRatio = (double) changed / ((long) diffWidth * diffHeight);
+
+        if (diffRatio <= maxDiffRatio && sameSize(expected, actual)) {
+            return new Result(name, Status.PIXEL_MATCH, hashDistance, diffRatio, null);
+        }
+        Path diffImage = writeDiff(name, diff);
+        LOGGER.warn("Visual check '{}' failed: {} changed pixels ({}%), hash distance {}, diff {}", name, changed,
+                String.format("%.3f", diffRatio * 100), hashDistance, diffImage);
+        return new Result(name, Status.MISMATCH, hashDistance, diffRatio, diffImage);
+    }
+
+    private Path writeDiff(String name, BufferedImage image) throws IOException {
+        Files.createDirectories(diffDirectory);
+        Path target = diffDirectory.resolve(name + "-diff.png");
+        ImageIO.write(image, "png", target.toFile());
+        return target;
+    }
+
+    /**
+     * Marks the part of a diff image outside the common area of baseline and capture as changed.
+     *
+     * @return The number of marked pixels
+     */
+    private static long markOutside(BufferedImage diff, int width, int height) {
+        long marked = 0;
+        for (int y = 0; y < diff.getHeight(); y++) {
+            for (int x = y < height ? width : 0; x < diff.getWidth(); x++) {
+                diff.setRGB(x, y, DIFF_COLOR);
+                marked++;
+            }
+        }
+        return marked;
+    }
+
+    private static boolean sameSize(BufferedImage first, BufferedImage second) {
+        return first.getWidth() == second.getWidth() && first.getHeight() == second.getHeight();
+    }
+
+    private static BufferedImage decode(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Unsupported image format");
+        }
+        return image;
+    }
+
+    /**
+     * Compares a range of tiles, splitting it in halves until a single tile remains.
+     * Tiles are disjoint, so the diff image can be written concurrently without locking.
+     */
+    private final class TileDiffTask extends RecursiveTask<Long> {
+
+        private final BufferedImage expected;
+        private final BufferedImage actual;
+        private final BufferedImage diff;
+        private final int tilesX;
+        private final int from;
+        private final int to;
+
+        TileDiffTask(BufferedImage expected, BufferedImage actual, BufferedImage diff, int tilesX, int from, int to) {
+            this.expected = expected;
+            this.actual = actual;
+            this.diff = diff;
+            this.tilesX = tilesX;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                TileDiffTask left = new TileDiffTask(expected, actual, diff, tilesX, from, middle);
+                left.fork();
+                long right = new TileDiffTask(expected, actual, diff, tilesX, middle, to).compute();
+                return right + left.join();
+            }
+            int x0 = (from % tilesX) * TILE_SIZE;
+            int y0 = (from / tilesX) * TILE_SIZE;
+            int width = Math.min(TILE_SIZE, actual.getWidth() - x0);
+            int height = Math.min(TILE_SIZE, actual.getHeight() - y0);
+            int[] expectedPixels = expected.getRGB(x0, y0, width, height, null, 0, width);
+            int[] actualPixels = actual.getRGB(x0, y0, width, height, null, 0, width);
+            int[] diffPixels = new int[expectedPixels.length];
+
+            long changed = 0;
+            for (int i = 0; i < expectedPixels.length; i++) {
+                int e = expectedPixels[i];
+                int a = actualPixels[i];
+                if (Math.abs(((e >> 16) & 0xFF) - ((a >> 16) & 0xFF)) > pixelTolerance
+                        || Math.abs(((e >> 8) & 0xFF) - ((a >> 8) & 0xFF)) > pixelTolerance
+                        || Math.abs((e & 0xFF) - (a & 0xFF)) > pixelTolerance) {
+                    diffPixels[i] = DIFF_COLOR;
+                    changed++;
+                } else {
+                    int gray = (((e >> 16) & 0xFF) + ((e >> 8) & 0xFF) + (e & 0xFF)) / 3;
+                    int dimmed = 192 + gray / 4;
+                    diffPixels[i] = (dimmed << 16) | (dimmed << 8) | dimmed;
+                }
+            }
+            diff.setRGB(x0, y0, width, height, diffPixels, 0, width);
+            return changed;
+        }
+    }
+}
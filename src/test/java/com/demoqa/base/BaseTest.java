@@ -1,7 +1,17 @@
 package com.demoqa.base;
 
 import com.demoqa.config.ConfigurationManager;
+import com.demoqa.data.TestDataGenerator;
+import com.demoqa.daemon.BrowserLease;
+import com.demoqa.execution.BrowserAdmissionController;
+import com.demoqa.fake.CommandRecorder;
 import com.demoqa.listeners.TestListener;
+import com.demoqa.network.HarRecorder;
+import com.demoqa.network.HarSummary;
+import com.demoqa.pages.BasePage;
+import com.demoqa.pages.PageRouter;
+import com.demoqa.utils.AllureSteps;
+import com.demoqa.utils.OverlaySuppressor;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -10,8 +20,22 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 import org.testng.annotations.*;
 import org.testng.annotations.Optional;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
 
@@ -30,14 +54,21 @@ import java.util.*;
  * <p>Features:
  * <ul>
  *   <li>Automatic WebDriver management</li>
+ *   <li>Optional Selenium Grid execution, over HTTP/1.1 or HTTP/2</li>
  *   <li>Browser configuration options</li>
  *   <li>Ad and notification blocking</li>
  *   <li>Page load and implicit wait timeouts</li>
+ *   <li>Resource-aware browser admission via {@link BrowserAdmissionController}</li>
+ *   <li>Attaching to warm browsers lent by {@link com.demoqa.daemon.BrowserDaemon}</li>
+ *   <li>Cloning a pre-built Chrome profile per session via {@link ChromeProfileTemplate}</li>
+ *   <li>Per-test network capture to a HAR file via {@link HarRecorder}, kept for failed and over-budget tests</li>
  * </ul>
  */
 @Listeners(TestListener.class)
 public class BaseTest {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseTest.class);
+
     /**
      * WebDriver instance (public for TestListener access)
      */
@@ -48,20 +79,105 @@ public class BaseTest {
      */
     protected ConfigurationManager config;
 
+    /**
+     * Browser of the session permit this test holds and must release on teardown, or null
+     */
+    private String admittedBrowser;
+
+    /**
+     * Warm browser borrowed from the browser daemon, or null for browsers started by the driver
+     */
+    private BrowserLease browserLease;
+
+    /**
+     * Session-private copy of the Chrome profile template, deleted on teardown
+     */
+    private Path profileClone;
+
+    /**
+     * Recorder writing this session's commands when command.record.dir is set, closed on teardown
+     */
+    private CommandRecorder commandRecorder;
+
+    /**
+     * Recorder streaming this test's network traffic when har.dir is set, stopped on teardown
+     */
+    private HarRecorder harRecorder;
+
+    /**
+     * This test's user context in a shared browser when browser.isolation is user-context, closed on teardown
+     */
+    private SharedBrowserPool.Lease userContextLease;
+
+    /**
+     * Synthetic data generator of the running test method, created on first use
+     */
+    private TestDataGenerator testData;
+
     /**
      * Sets up the test environment before each test method.
-     * Initializes the WebDriver based on the specified browser parameter.
+     * Waits for {@link BrowserAdmissionController} to admit a new browser session, then
+     * initializes the WebDriver based on the specified browser parameter.
      * Configures browser options and sets timeouts.
      *
+     * @param method The test method about to run, injected by TestNG; names the network capture and
+     *               command recording files
      * @param browser The browser to test against (chrome, firefox, edge).
      *                Defaults to "chrome" if not specified.
      * @throws IllegalArgumentException if an unsupported browser is specified
      */
     @BeforeMethod
     @Parameters("browser")
-    public void setUp(@Optional("chrome") String browser) {
+    public void setUp(Method method, @Optional("chrome") String browser) {
         config = new ConfigurationManager();
+        testData = null;
+
+        BrowserAdmissionController.getInstance().acquire(browser.toLowerCase());
+        admittedBrowser = browser.toLowerCase();
+        long sessionStart = System.nanoTime();
+        try {
+            if (config.isUserContextIsolationEnabled()) {
+                try {
+                    userContextLease = SharedBrowserPool.lease(browser.toLowerCase(), () -> {
+                        startBrowser(browser);
+                        return driver;
+                    });
+                } finally {
+                    // The pool owns the shared browser, and has already quit it if the lease failed
+                    driver = null;
+                }
+                driver = userContextLease.driver();
+            } else {
+                startBrowser(browser);
+            }
 
+            driver.manage().window().maximize();
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeoutSeconds()));
+            if (config.isOverlaySuppressionEnabled() && !OverlaySuppressor.install(driver)) {
+                LOGGER.info("Overlay suppression script not supported by {}, removing ads per page", browser);
+            }
+            if (config.getHarDir() != null) {
+                startHarCapture(Path.of(config.getHarDir()).resolve(artifactFileName(method, ".har")));
+            }
+            if (config.getCommandRecordDir() != null) {
+                startCommandRecording(Path.of(config.getCommandRecordDir()).resolve(artifactFileName(method, ".jsonl")));
+            }
+            LOGGER.info("Browser session started in {} ms (browser={}, warm={}, profileTemplate={}, userContext={})",
+                    (System.nanoTime() - sessionStart) / 1_000_000, browser,
+                    browserLease != null, profileClone != null, userContextLease != null);
+        } catch (RuntimeException e) {
+            tearDown(null);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a new browser session for the given browser name.
+     *
+     * @param browser chrome, firefox or edge
+     * @throws IllegalArgumentException if an unsupported browser is specified
+     */
+    private void startBrowser(String browser) {
         if (browser.equalsIgnoreCase("chrome")) {
             setupChrome();
         } else if (browser.equalsIgnoreCase("firefox")) {
@@ -71,48 +187,156 @@ public class BaseTest {
         } else {
             throw new IllegalArgumentException("Invalid browser name: " + browser);
         }
+    }
+
+    /**
+     * Names a per-test file after the test class and method, e.g. {@code ElementsTests.testTextBoxFormSubmission-1760000000000.har}.
+     * The start time keeps the invocations of data-driven and repeated tests apart.
+     */
+    private String artifactFileName(Method method, String extension) {
+        return getClass().getSimpleName() + "." + method.getName() + "-" + System.currentTimeMillis() + extension;
+    }
+
+    /**
+     * Starts streaming the session's network traffic to the given HAR file.
+     * With a shared browser only the test's own tab is captured. Capture is skipped with a log message if
+     * the session has no BiDi connection (e.g. an attached warm browser) or the file cannot be created.
+     */
+    private void startHarCapture(Path file) {
+        try {
+            harRecorder = HarRecorder.start(driver, file, userContextLease != null ? driver.getWindowHandle() : null);
+            if (harRecorder == null) {
+                LOGGER.info("Network capture not supported by this session, it has no BiDi connection");
+            } else {
+                LOGGER.info("Capturing network traffic to {}", file);
+            }
+        } catch (IOException | WebDriverException e) {
+            LOGGER.warn("Network capture disabled, cannot capture to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the network capture. The HAR file and its summary are attached to the report when the test
+     * failed or took longer than har.budget.ms; otherwise the file is deleted.
+     *
+     * @param result The test result, or null if setup failed
+     */
+    private void stopHarCapture(ITestResult result) {
+        HarRecorder recorder = harRecorder;
+        harRecorder = null;
+        recorder.close();
+        Long budget = config.getHarBudgetMillis();
+        long end = result == null || result.getEndMillis() == 0 ? System.currentTimeMillis() : result.getEndMillis();
+        long duration = result == null ? -1 : end - result.getStartMillis();
+        String reason;
+        if (result == null || result.getStatus() == ITestResult.FAILURE) {
+            reason = "failed";
+        } else if (budget != null && duration > budget) {
+            reason = "took " + duration + " ms, over the budget of " + budget + " ms";
+        } else {
+            try {
+                Files.deleteIfExists(recorder.file());
+            } catch (IOException e) {
+                LOGGER.debug("Failed to delete {}: {}", recorder.file(), e.getMessage());
+            }
+            return;
+        }
+
+        HarSummary summary = recorder.summary();
+        LOGGER.warn("Test {}, keeping its network capture", reason);
+        summary.lines().forEach(line -> LOGGER.warn("{}", line));
+        AllureSteps.attach("Network summary", "text/plain", ".txt",
+                String.join("\n", summary.lines()).getBytes(StandardCharsets.UTF_8));
+        try {
+            AllureSteps.attach("Network capture", "application/json", ".har", recorder.file());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to attach {}: {}", recorder.file(), e.getMessage());
+        }
+    }
 
-        driver.manage().window().maximize();
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeoutSeconds()));
+    /**
+     * Replaces the driver with one that records every command to the given JSON lines file.
+     * Recording is skipped with a warning if the file cannot be created.
+     */
+    private void startCommandRecording(Path file) {
+        try {
+            CommandRecorder.RecordingSession<WebDriver> session = CommandRecorder.record(driver, file);
+            driver = session.driver();
+            commandRecorder = session.recorder();
+            LOGGER.info("Recording commands to {}", file);
+        } catch (IOException e) {
+            LOGGER.warn("Command recording disabled, cannot write {}: {}", file, e.getMessage());
+        }
     }
 
     /**
-     * Configures and initializes Chrome browser with specific options.
+     * Initializes Chrome, either on Selenium Grid when grid.url is set, attached to a warm browser
+     * when browser.daemon.port is set and the daemon has one free, or locally through chromedriver.
+     */
+    private void setupChrome() {
+        ChromeOptions options = createChromeOptions();
+        if (config.isUserContextIsolationEnabled() || config.getHarDir() != null) {
+            options.enableBiDi();
+        }
+        if (config.getGridUrl() != null) {
+            driver = createRemoteDriver(options);
+            return;
+        }
+        WebDriverManager.chromedriver().setup();
+        // A shared browser is already warm and its user contexts replace a fresh profile per test
+        boolean shared = config.isUserContextIsolationEnabled();
+        if (!shared && config.getBrowserDaemonPort() > 0 && attachToWarmBrowser()) {
+            return;
+        }
+        if (!shared && config.isChromeProfileTemplateEnabled()) {
+            applyProfileTemplate(options);
+        }
+        driver = new ChromeDriver(options);
+    }
+
+    /**
+     * Creates Chrome options with specific settings.
      * Includes settings for:
      * - Disabling notifications and popups
      * - Blocking ads
      * - Removing automation flags
+     * - The configured page load strategy
+     *
+     * @return Configured ChromeOptions
      */
-    private void setupChrome() {
-        WebDriverManager.chromedriver().setup();
+    protected ChromeOptions createChromeOptions() {
         ChromeOptions options = new ChromeOptions();
 
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--remote-allow-origins=*");
+        options.addArguments(ChromeSettings.ARGUMENTS);
+        options.setPageLoadStrategy(config.getPageLoadStrategy());
 
         options.setExperimentalOption("excludeSwitches", Collections.singletonList("enable-automation"));
         options.setExperimentalOption("useAutomationExtension", false);
 
-        Map<String, Object> prefs = new HashMap<>();
-        prefs.put("profile.default_content_setting_values.popups", 0);
-        prefs.put("profile.default_content_setting_values.notifications", 2);
-        prefs.put("profile.managed_default_content_settings.images", 2);
+        Map<String, Object> prefs = new HashMap<>(ChromeSettings.PREFS);
         options.setExperimentalOption("prefs", prefs);
 
-        driver = new ChromeDriver(options);
+        return options;
     }
 
     /**
      * Configures and initializes Firefox browser with basic options.
-     * Disables notifications by default.
+     * Disables notifications by default. BiDi is enabled only when a feature needs it: user-context
+     * isolation, HAR capture, or overlay suppression, whose preload script needs BiDi since Firefox has no CDP.
      */
     private void setupFirefox() {
-        WebDriverManager.firefoxdriver().setup();
         FirefoxOptions options = new FirefoxOptions();
         options.addArguments("--disable-notifications");
+        options.setPageLoadStrategy(config.getPageLoadStrategy());
+        if (config.isUserContextIsolationEnabled() || config.getHarDir() != null
+                || config.isOverlaySuppressionEnabled()) {
+            options.enableBiDi();
+        }
+        if (config.getGridUrl() != null) {
+            driver = createRemoteDriver(options);
+            return;
+        }
+        WebDriverManager.firefoxdriver().setup();
         driver = new FirefoxDriver(options);
     }
 
@@ -121,13 +345,117 @@ public class BaseTest {
      * Disables notifications and removes automation flags.
      */
     private void setupEdge() {
-        WebDriverManager.edgedriver().setup();
         EdgeOptions options = new EdgeOptions();
         options.addArguments("--disable-notifications");
+        options.setPageLoadStrategy(config.getPageLoadStrategy());
         options.setExperimentalOption("excludeSwitches", Collections.singletonList("enable-automation"));
+        if (config.isUserContextIsolationEnabled() || config.getHarDir() != null) {
+            options.enableBiDi();
+        }
+        if (config.getGridUrl() != null) {
+            driver = createRemoteDriver(options);
+            return;
+        }
+        WebDriverManager.edgedriver().setup();
         driver = new EdgeDriver(options);
     }
 
+    /**
+     * Borrows a warm browser from the daemon and attaches chromedriver to it.
+     * Arguments and preferences are applied by the daemon when it starts the browser,
+     * since chromedriver rejects most Chrome options together with debuggerAddress.
+     *
+     * @return true if a warm browser was attached, false to fall back to a cold start
+     */
+    private boolean attachToWarmBrowser() {
+        try {
+            browserLease = BrowserLease.borrow(config.getBrowserDaemonPort(), config.getBrowserDaemonBorrowTimeoutSeconds());
+        } catch (IOException e) {
+            LOGGER.warn("Browser daemon not reachable, starting a new browser: {}", e.getMessage());
+            return false;
+        }
+        if (browserLease == null) {
+            LOGGER.warn("No warm browser available, starting a new browser");
+            return false;
+        }
+
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("debuggerAddress", browserLease.getDebuggerAddress());
+        options.setPageLoadStrategy(config.getPageLoadStrategy());
+        driver = new ChromeDriver(options);
+        return true;
+    }
+
+    /**
+     * Points Chrome at a fresh copy of the pre-built profile template, skipping first-run initialization.
+     * Falls back to a regular fresh profile if the template cannot be built or cloned.
+     *
+     * @param options Chrome options to add the user-data-dir and component switches to
+     */
+    private void applyProfileTemplate(ChromeOptions options) {
+        try {
+            Path template = ChromeProfileTemplate.getOrBuild(this::createChromeOptions);
+            profileClone = ChromeProfileTemplate.cloneForSession(template,
+                    ChromeProfileTemplate.fastStorageRoot(config.getChromeProfileStorageDir()));
+            options.addArguments(ChromeProfileTemplate.COMPONENT_SWITCHES);
+            options.addArguments("--user-data-dir=" + profileClone);
+        } catch (IOException | WebDriverException e) {
+            LOGGER.warn("Chrome profile template unavailable, using a fresh profile: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Starts a browser session on Selenium Grid, using Selenium's default client configuration
+     * with the HTTP version from grid.http.version.
+     *
+     * @param options Browser capabilities
+     * @return Remote WebDriver session
+     * @throws IllegalArgumentException if grid.url is malformed
+     */
+    private WebDriver createRemoteDriver(Capabilities options) {
+        URL gridUrl;
+        try {
+            gridUrl = URI.create(config.getGridUrl()).toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid grid.url: " + config.getGridUrl(), e);
+        }
+        return RemoteWebDriver.builder()
+                .oneOf(options)
+                .config(ClientConfig.defaultConfig().baseUrl(gridUrl).version(config.getGridHttpVersion()))
+                .build();
+    }
+
+    /**
+     * Navigates to a page of the application and returns its page object once the page is ready.
+     *
+     * @param page The page class, registered in {@link PageRouter}
+     * @param <T> The page type
+     * @return The page object, ready for actions
+     */
+    protected <T extends BasePage> T navigateTo(Class<T> page) {
+        return new PageRouter(driver, config.getBaseUrl()).navigateTo(page);
+    }
+
+    /**
+     * Gets the synthetic data generator of the running test method.
+     * Its seed is derived from the run seed and the test's name, so rerunning with the logged
+     * {@code -Dtest.data.seed} gives the test the same data. The seeds are logged and attached to the report.
+     *
+     * @return The generator; call {@link TestDataGenerator#next()} for each record the test needs
+     */
+    protected TestDataGenerator testData() {
+        if (testData == null) {
+            ITestResult result = Reporter.getCurrentTestResult();
+            String testName = getClass().getName() + "#" + result.getMethod().getMethodName();
+            testData = TestDataGenerator.forTest(testName);
+            String seeds = "Test data seed " + testData.seed() + " (run seed " + TestDataGenerator.runSeed()
+                    + ", rerun with -Dtest.data.seed=" + TestDataGenerator.runSeed() + ")";
+            LOGGER.info("{}: {}", testName, seeds);
+            AllureSteps.attach("Test data seed", "text/plain", ".txt", seeds.getBytes(StandardCharsets.UTF_8));
+        }
+        return testData;
+    }
+
     /**
      * Provides access to the WebDriver instance.
      * Primarily used by TestListener for reporting purposes.
@@ -140,12 +468,44 @@ public class BaseTest {
 
     /**
      * Cleans up the test environment after each test method.
-     * Closes all browser windows and terminates the WebDriver session.
+     * Closes all browser windows, terminates the WebDriver session
+     * and returns the browser session permit. With user context isolation, removes the test's
+     * user context instead and keeps the browser for the next test.
+     * Stops the network capture first, keeping it only for failed and over-budget tests.
+     *
+     * @param result The result of the test method, or null when called for a failed setup
      */
     @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+    public void tearDown(ITestResult result) {
+        if (harRecorder != null) {
+            stopHarCapture(result);
+        }
+        try {
+            if (userContextLease != null) {
+                userContextLease.close();
+                userContextLease = null;
+                driver = null;
+            } else if (driver != null) {
+                driver.quit();
+                driver = null;
+            }
+        } finally {
+            if (commandRecorder != null) {
+                commandRecorder.close();
+                commandRecorder = null;
+            }
+            if (browserLease != null) {
+                browserLease.close();
+                browserLease = null;
+            }
+            if (profileClone != null) {
+                ChromeProfileTemplate.deleteRecursively(profileClone);
+                profileClone = null;
+            }
+            if (admittedBrowser != null) {
+                BrowserAdmissionController.getInstance().release(admittedBrowser);
+                admittedBrowser = null;
+            }
         }
     }
 }
\ No newline at end of file
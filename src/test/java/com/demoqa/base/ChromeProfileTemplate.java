@@ -0,0 +1,230 @@
+package com.demoqa.base;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Pre-initialized Chrome profile that is built once and cloned for every session.
+ * <p>
+ * Without it, each chromedriver session starts from an empty user-data-dir and Chrome pays its
+ * first-run initialization (profile databases, preferences, component registration) every time.
+ * The template:
+ * <ul>
+ *   <li>Is built once per configuration and Chrome version under target/chrome-profile-template, guarded
+ *       by a file lock so parallel surefire forks build it only once</li>
+ *   <li>Contains the {@link ChromeSettings#PREFS} already applied and background components disabled</li>
+ *   <li>Is copied per session into fast storage (tmpfs at /dev/shm when available) and deleted after the session</li>
+ * </ul>
+ * Files are copied rather than hard-linked: Chrome rewrites its SQLite and LevelDB files in place,
+ * so a hard link would let one session corrupt the shared template.
+ */
+public final class ChromeProfileTemplate {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChromeProfileTemplate.class);
+
+    /**
+     * Switches disabling first-run work and background components that are irrelevant for tests
+     */
+    public static final List<String> COMPONENT_SWITCHES = List.of(
+            "--no-first-run",
+            "--no-default-browser-check",
+            "--disable-component-update",
+            "--disable-background-networking",
+            "--disable-sync",
+            "--disable-default-apps",
+            "--disable-features=Translate,OptimizationHints,MediaRouter");
+
+    /**
+     * Lock files, caches and crash data that must not be part of the template
+     */
+    private static final List<String> TRANSIENT_ENTRIES = List.of(
+            "SingletonLock", "SingletonSocket", "SingletonCookie", "DevToolsActivePort",
+            "Crashpad", "ShaderCache", "GrShaderCache", "component_crx_cache",
+            "Default/Cache", "Default/Code Cache", "Default/GPUCache");
+
+    private static final String READY_MARKER = ".template-ready";
+
+    private static final Path TEMPLATES_ROOT = Paths.get("target", "chrome-profile-template");
+
+    private static Path template;
+
+    private ChromeProfileTemplate() {
+    }
+
+    /**
+     * Returns the template directory for the current Chrome settings, building it on first use.
+     *
+     * @param optionsFactory Creates the Chrome options the template is built with
+     * @return The ready-to-clone template directory
+     * @throws IOException if the template cannot be built
+     */
+    public static synchronized Path getOrBuild(Supplier<ChromeOptions> optionsFactory) throws IOException {
+        if (template != null) {
+            return template;
+        }
+        String key = settingsKey();
+        Path directory = TEMPLATES_ROOT.resolve(key).toAbsolutePath();
+        Files.createDirectories(TEMPLATES_ROOT);
+        try (FileChannel lockChannel = FileChannel.open(TEMPLATES_ROOT.resolve(key + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lockChannel.lock()) {
+            if (!Files.exists(directory.resolve(READY_MARKER))) {
+                build(directory, optionsFactory.get());
+            }
+        }
+        template = directory;
+        return template;
+    }
+
+    /**
+     * Copies the template into a new directory under the given root.
+     *
+     * @param templateDirectory The template built by {@link #getOrBuild}
+     * @param root Directory to create the session profile in, ideally on tmpfs
+     * @return The session's private user-data-dir
+     * @throws IOException if the copy fails
+     */
+    public static Path cloneForSession(Path templateDirectory, Path root) throws IOException {
+        Path target = Files.createTempDirectory(root, "demoqa-profile-");
+        Files.walkFileTree(templateDirectory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(templateDirectory.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(templateDirectory.relativize(file).toString()),
+                        StandardCopyOption.COPY_ATTRIBUTES);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return target;
+    }
+
+    /**
+     * Chooses where session profiles are created.
+     *
+     * @param configured Explicitly configured directory, or null/empty for auto-detection
+     * @return The configured directory, /dev/shm if it is a writable directory, or the JVM temp directory
+     */
+    public static Path fastStorageRoot(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        Path shm = Paths.get("/dev/shm");
+        if (Files.isDirectory(shm) && Files.isWritable(shm)) {
+            return shm;
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Deletes a directory tree, logging instead of failing on errors.
+     *
+     * @param directory The directory to delete
+     */
+    public static void deleteRecursively(Path directory) {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Starts Chrome once on the template directory so it initializes the profile, then strips transient files.
+     */
+    private static void build(Path directory, ChromeOptions options) throws IOException {
+        long start = System.nanoTime();
+        deleteRecursively(directory);
+        Files.createDirectories(directory);
+
+        options.addArguments(COMPONENT_SWITCHES);
+        options.addArguments("--headless=new", "--user-data-dir=" + directory);
+        WebDriver driver = new ChromeDriver(options);
+        try {
+            driver.get("about:blank");
+        } finally {
+            driver.quit();
+        }
+
+        for (String entry : TRANSIENT_ENTRIES) {
+            Path path = directory.resolve(entry);
+            if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                deleteRecursively(path);
+            } else {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.createFile(directory.resolve(READY_MARKER));
+        LOGGER.info("Chrome profile template built in {} ms: {}", (System.nanoTime() - start) / 1_000_000, directory);
+    }
+
+    /**
+     * Identifies the template by the settings baked into it and the Chrome version that initialized it,
+     * so changed settings or a Chrome update build a new template.
+     */
+    private static String settingsKey() {
+        String settings = ChromeSettings.ARGUMENTS + "|" + new TreeMap<>(ChromeSettings.PREFS) + "|" + COMPONENT_SWITCHES
+                + "|" + chromeVersion();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(settings.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads the version of the Chrome binary WebDriverManager detects.
+     *
+     * @return The output of {@code chrome --version}, the binary's path and modification time when it prints
+     *         nothing (as on Windows), or "unknown" when no binary is found
+     */
+    private static String chromeVersion() {
+        Optional<Path> binary = WebDriverManager.chromedriver().getBrowserPath();
+        if (binary.isEmpty()) {
+            return "unknown";
+        }
+        try {
+            Process process = new ProcessBuilder(binary.get().toString(), "--version").redirectErrorStream(true).start();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return "unknown";
+            }
+            String version = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return version.isEmpty() ? binary.get() + "@" + Files.getLastModifiedTime(binary.get()) : version;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read the Chrome version from {}: {}", binary.get(), e.getMessage());
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.demoqa.base;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chrome command-line arguments and profile preferences shared by every way the framework starts Chrome:
+ * {@link BaseTest#createChromeOptions()} for sessions launched by chromedriver,
+ * {@link com.demoqa.daemon.BrowserDaemon} for pre-started warm browsers, and {@link #headlessOptions} for the
+ * load and A/B comparison runs, which start their own sessions outside BaseTest.
+ */
+public final class ChromeSettings {
+
+    /**
+     * Command-line switches disabling notifications, popups, extensions and infobars
+     */
+    public static final List<String> ARGUMENTS = List.of(
+            "--disable-notifications",
+            "--disable-popup-blocking",
+            "--disable-extensions",
+            "--disable-infobars",
+            "--remote-allow-origins=*");
+
+    /**
+     * Profile preferences blocking popups, notifications and images
+     */
+    public static final Map<String, Object> PREFS = Map.of(
+            "profile.default_content_setting_values.popups", 0,
+            "profile.default_content_setting_values.notifications", 2,
+            "profile.managed_default_content_settings.images", 2);
+
+    private ChromeSettings() {
+    }
+
+    /**
+     * Creates options for a headless Chrome session with the shared arguments and preferences.
+     *
+     * @param pageLoadStrategy The page load strategy, e.g. from page.load.strategy
+     * @return Headless ChromeOptions at a 1920x1080 window size
+     */
+    public static ChromeOptions headlessOptions(PageLoadStrategy pageLoadStrategy) {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments(ARGUMENTS);
+        options.addArguments("--headless=new", "--window-size=1920,1080");
+        options.setPageLoadStrategy(pageLoadStrategy);
+        options.setExperimentalOption("prefs", new HashMap<>(PREFS));
+        return options;
+    }
+}
@@ -0,0 +1,141 @@
+package com.demoqa.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.Closeable;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
+
+/**
+ * Browser reuse across consecutive tests, with each test isolated in its own BiDi user context.
+ * <p>
+ * A user context ({@code browser.createUserContext}) has its own cookies, storage and cache, like a separate
+ * profile, but lives in the same browser process. A test gets a new user context with one tab, and WebDriver
+ * is switched to that tab; at the end the context is removed, which closes its tabs and discards its state,
+ * and the browser goes back to the pool for the next test. Each browser is started once and quit when
+ * the JVM exits.
+ * <p>
+ * Classic WebDriver commands act on the session's current tab, so a browser serves one test at a time and
+ * there is still one browser per concurrently running test, as without the pool. The gain is the browser
+ * start saved per test, not more tests per browser or per host.
+ */
+final class SharedBrowserPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedBrowserPool.class);
+
+    private static final Map<String, Deque<SharedBrowser>> IDLE = new ConcurrentHashMap<>();
+    private static final Set<SharedBrowser> ALL = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SharedBrowserPool::quitAll, "shared-browser-shutdown"));
+    }
+
+    private SharedBrowserPool() {
+    }
+
+    /**
+     * A browser kept open across tests, together with the window that keeps it alive between tests.
+     */
+    private record SharedBrowser(String name, WebDriver driver, Browser browser, String homeWindow) {
+
+        void quit() {
+            ALL.remove(this);
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                LOGGER.warn("Failed to quit shared {} browser: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A test's user context and tab in a shared browser. {@link #close()} removes the context and returns
+     * the browser to the pool.
+     */
+    static final class Lease implements Closeable {
+
+        private final SharedBrowser shared;
+        private final String userContext;
+
+        private Lease(SharedBrowser shared, String userContext) {
+            this.shared = shared;
+            this.userContext = userContext;
+        }
+
+        /**
+         * Gets the shared driver, switched to this test's tab.
+         *
+         * @return The driver; must not be quit by the test
+         */
+        WebDriver driver() {
+            return shared.driver();
+        }
+
+        /**
+         * Removes the user context with all its tabs and state, and returns the browser to the pool.
+         * A browser that fails to clean up is quit instead.
+         */
+        @Override
+        public void close() {
+            try {
+                shared.browser().removeUserContext(userContext);
+                shared.driver().switchTo().window(shared.homeWindow());
+                IDLE.computeIfAbsent(shared.name(), key -> new ConcurrentLinkedDeque<>()).addFirst(shared);
+            } catch (WebDriverException e) {
+                LOGGER.warn("Failed to remove user context from shared {} browser, quitting it: {}",
+                        shared.name(), e.getMessage());
+                shared.quit();
+            }
+        }
+    }
+
+    /**
+     * Opens a new user context and tab in an idle shared browser, starting a browser if none is idle.
+     *
+     * @param name Browser name, e.g. chrome; browsers are only shared between tests with the same name
+     * @param starter Starts a new browser session with BiDi enabled
+     * @return The lease for the test
+     * @throws WebDriverException if the browser cannot be started or does not support user contexts
+     */
+    static Lease lease(String name, Supplier<WebDriver> starter) {
+        SharedBrowser shared = IDLE.computeIfAbsent(name, key -> new ConcurrentLinkedDeque<>()).pollFirst();
+        if (shared == null) {
+            WebDriver driver = starter.get();
+            try {
+                shared = new SharedBrowser(name, driver, new Browser(driver), driver.getWindowHandle());
+            } catch (RuntimeException e) {
+                driver.quit();
+                throw new WebDriverException("browser.isolation=user-context needs a BiDi-enabled session", e);
+            }
+            ALL.add(shared);
+            LOGGER.info("Started shared {} browser ({} open)", name, ALL.size());
+        }
+        try {
+            String userContext = shared.browser().createUserContext();
+            BrowsingContext tab = new BrowsingContext(shared.driver(),
+                    new CreateContextParameters(WindowType.TAB).userContext(userContext));
+            shared.driver().switchTo().window(tab.getId());
+            return new Lease(shared, userContext);
+        } catch (WebDriverException e) {
+            shared.quit();
+            throw e;
+        }
+    }
+
+    private static void quitAll() {
+        IDLE.clear();
+        for (SharedBrowser shared : Set.copyOf(ALL)) {
+            shared.quit();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.demoqa.config;
 
+import org.openqa.selenium.PageLoadStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -17,6 +20,9 @@ import java.util.Properties;
  *   <li>implicit.wait.seconds - Default implicit wait timeout for WebDriver</li>
  *   <li>page.load.timeout.seconds - Page load timeout for WebDriver</li>
  * </ul>
+ *
+ * <p>Optional properties have defaults and can be overridden with a system property
+ * of the same name (e.g. {@code -Dscheduler.max.cpu.load=0.7}).
  */
 public class ConfigurationManager {
 
@@ -80,4 +86,455 @@ public class ConfigurationManager {
             throw new NumberFormatException("page.load.timeout.seconds must be a valid number");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the maximum host CPU load (0-1) under which new browser sessions are admitted.
+     *
+     * @return The CPU load threshold, 0.85 by default
+     */
+    public double getSchedulerMaxCpuLoad() {
+        return Double.parseDouble(getOptionalProperty("scheduler.max.cpu.load", "0.85"));
+    }
+
+    /**
+     * Gets the minimum free physical memory in megabytes required to admit a new browser session.
+     *
+     * @return The free memory threshold in megabytes, 1024 by default
+     */
+    public long getSchedulerMinFreeMemoryMb() {
+        return Long.parseLong(getOptionalProperty("scheduler.min.free.memory.mb", "1024"));
+    }
+
+    /**
+     * Gets the hard upper limit of concurrent browser sessions, regardless of host load.
+     *
+     * @return The maximum number of sessions, twice the number of available processors by default
+     */
+    public int getSchedulerMaxSessions() {
+        return Integer.parseInt(getOptionalProperty("scheduler.max.sessions",
+                String.valueOf(Runtime.getRuntime().availableProcessors() * 2)));
+    }
+
+    /**
+     * Gets the limit of concurrent sessions of one browser, so a cross-browser matrix does not start more
+     * instances of a heavy browser than the host can run.
+     *
+     * @param browser The browser name, e.g. firefox
+     * @return scheduler.max.sessions.&lt;browser&gt;, or {@link #getSchedulerMaxSessions()} if not set
+     */
+    public int getSchedulerMaxSessions(String browser) {
+        String value = getOptionalProperty("scheduler.max.sessions." + browser, "");
+        return value.isEmpty() ? getSchedulerMaxSessions() : Integer.parseInt(value);
+    }
+
+    /**
+     * Gets the minimum interval between two browser session admissions while other sessions are active.
+     * Gives a freshly started browser time to show up in the CPU and memory readings.
+     *
+     * @return The admission interval in milliseconds, 2000 by default
+     */
+    public long getSchedulerAdmissionIntervalMillis() {
+        return Long.parseLong(getOptionalProperty("scheduler.admission.interval.ms", "2000"));
+    }
+
+    /**
+     * Gets the HTTP protocol version used for Selenium Grid traffic.
+     * Local driver services always use HTTP/1.1.
+     *
+     * @return "HTTP_1_1" (default) or "HTTP_2"
+     */
+    public String getGridHttpVersion() {
+        return getOptionalProperty("grid.http.version", "HTTP_1_1");
+    }
+
+    /**
+     * Gets the Selenium Grid URL. When set, browsers are started remotely instead of locally.
+     *
+     * @return The Grid URL, or null if tests run against local browsers
+     */
+    public String getGridUrl() {
+        String value = getOptionalProperty("grid.url", "");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the local port of the warm browser daemon. When set, Chrome sessions attach to a
+     * pre-started browser lent by {@code BrowserDaemon} instead of launching a new one.
+     *
+     * @return The daemon port, or 0 if the daemon is not used
+     */
+    public int getBrowserDaemonPort() {
+        String value = getOptionalProperty("browser.daemon.port", "");
+        return value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    /**
+     * Gets the number of browsers the daemon keeps warm.
+     *
+     * @return The pool size, 4 by default
+     */
+    public int getBrowserDaemonPoolSize() {
+        return Integer.parseInt(getOptionalProperty("browser.daemon.pool.size", "4"));
+    }
+
+    /**
+     * Gets how many leases a warm browser serves before the daemon replaces it with a fresh process.
+     *
+     * @return The maximum number of leases per browser, 25 by default
+     */
+    public int getBrowserDaemonMaxUses() {
+        return Integer.parseInt(getOptionalProperty("browser.daemon.max.uses", "25"));
+    }
+
+    /**
+     * Checks whether the daemon starts its browsers headless.
+     *
+     * @return true (default) for headless browsers
+     */
+    public boolean isBrowserDaemonHeadless() {
+        return Boolean.parseBoolean(getOptionalProperty("browser.daemon.headless", "true"));
+    }
+
+    /**
+     * Gets how long a test waits for a free warm browser before falling back to a cold start.
+     *
+     * @return The borrow timeout in seconds, 30 by default
+     */
+    public int getBrowserDaemonBorrowTimeoutSeconds() {
+        return Integer.parseInt(getOptionalProperty("browser.daemon.borrow.timeout.seconds", "30"));
+    }
+
+    /**
+     * Gets the page load strategy sessions are created with.
+     * EAGER returns from navigation once the DOM is parsed and NONE immediately; page objects then wait
+     * for their own readiness condition instead of the full page load.
+     *
+     * @return The page load strategy from page.load.strategy, NORMAL by default
+     * @throws IllegalArgumentException if the value is not normal, eager or none
+     */
+    public PageLoadStrategy getPageLoadStrategy() {
+        String value = getOptionalProperty("page.load.strategy", "normal");
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.trim().toLowerCase());
+        if (strategy == null) {
+            throw new IllegalArgumentException("Invalid page.load.strategy: " + value);
+        }
+        return strategy;
+    }
+
+    /**
+     * Checks whether each session registers the overlay suppression init script.
+     *
+     * @return true unless overlay.suppression is set to false
+     */
+    public boolean isOverlaySuppressionEnabled() {
+        return Boolean.parseBoolean(getOptionalProperty("overlay.suppression", "true"));
+    }
+
+    /**
+     * Checks whether consecutive tests reuse browsers and are isolated by BiDi user contexts instead of sessions.
+     *
+     * @return true if browser.isolation is user-context, false by default (session)
+     */
+    public boolean isUserContextIsolationEnabled() {
+        return "user-context".equalsIgnoreCase(getOptionalProperty("browser.isolation", "session"));
+    }
+
+    /**
+     * Checks whether local Chrome sessions start from a clone of a pre-built profile template.
+     *
+     * @return true if profile templates are enabled, false by default
+     */
+    public boolean isChromeProfileTemplateEnabled() {
+        return Boolean.parseBoolean(getOptionalProperty("chrome.profile.template", "false"));
+    }
+
+    /**
+     * Gets the directory session profiles are cloned into.
+     *
+     * @return The configured directory, or null to auto-detect tmpfs
+     */
+    public String getChromeProfileStorageDir() {
+        String value = getOptionalProperty("chrome.profile.storage.dir", "");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the directory sessions record their commands into for replay with
+     * {@link com.demoqa.fake.ReplayBrowser}.
+     *
+     * @return The configured directory, or null if command recording is off
+     */
+    public String getCommandRecordDir() {
+        String value = getOptionalProperty("command.record.dir", "");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the directory of the run history store. It lives outside target/ so that it survives mvn clean.
+     *
+     * @return The directory from run.history.dir, .run-history by default, or null if set to empty
+     */
+    public String getRunHistoryDir() {
+        String value = getOptionalProperty("run.history.dir", ".run-history");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the number of most recent runs per test that run history analysis looks at.
+     *
+     * @return The window size, 20 by default
+     */
+    public int getRunHistoryWindow() {
+        return Integer.parseInt(getOptionalProperty("run.history.window", "20"));
+    }
+
+    /**
+     * Gets the minimum ratio of a test's duration to its median of earlier runs that counts as a regression.
+     *
+     * @return The ratio, 1.5 by default
+     */
+    public double getDurationRegressionRatio() {
+        return Double.parseDouble(getOptionalProperty("run.history.regression.ratio", "1.5"));
+    }
+
+    /**
+     * Gets the minimum absolute slowdown that counts as a regression, so fast tests do not flag on noise.
+     *
+     * @return The slowdown in milliseconds, 500 by default
+     */
+    public long getDurationRegressionMinMillis() {
+        return Long.parseLong(getOptionalProperty("run.history.regression.min.ms", "500"));
+    }
+
+    /**
+     * Gets the git revision test impact analysis compares the working tree with.
+     *
+     * @return The revision from impact.base, or null if not set
+     */
+    public String getImpactBase() {
+        String value = getOptionalProperty("impact.base", "");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets a diff file for test impact analysis, used instead of running git.
+     *
+     * @return The path from impact.diff, or null if not set
+     */
+    public String getImpactDiffFile() {
+        String value = getOptionalProperty("impact.diff", "");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the base URL load runs target, e.g. a local deployment. There is deliberately no fallback to
+     * base.url, so that a load run never targets the public site by accident.
+     *
+     * @return load.base.url, or an empty string if no load target is configured
+     */
+    public String getLoadBaseUrl() {
+        return getOptionalProperty("load.base.url", "");
+    }
+
+    /**
+     * Gets the number of concurrent virtual users of a load run.
+     *
+     * @return The user count, 5 by default
+     */
+    public int getLoadUsers() {
+        return Integer.parseInt(getOptionalProperty("load.users", "5"));
+    }
+
+    /**
+     * Gets the time limit of a load run, ramp-up included.
+     *
+     * @return The limit in seconds, 0 for none; 60 by default
+     */
+    public int getLoadDurationSeconds() {
+        return Integer.parseInt(getOptionalProperty("load.duration.seconds", "60"));
+    }
+
+    /**
+     * Gets the number of iterations each virtual user runs.
+     *
+     * @return The iterations per user, 0 for no limit (the default)
+     */
+    public int getLoadIterations() {
+        return Integer.parseInt(getOptionalProperty("load.iterations", "0"));
+    }
+
+    /**
+     * Gets the time over which the virtual users are started.
+     *
+     * @return The ramp-up in seconds, 10 by default
+     */
+    public int getLoadRampUpSeconds() {
+        return Integer.parseInt(getOptionalProperty("load.ramp.up.seconds", "10"));
+    }
+
+    /**
+     * Gets the scenarios virtual users take in turn.
+     *
+     * @return Scenario names from the comma-separated load.scenarios; all scenarios by default
+     */
+    public List<String> getLoadScenarios() {
+        return Arrays.stream(getOptionalProperty("load.scenarios", "textbox,practice-form,alerts").split(","))
+                .map(String::strip)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Gets the tests run by the synthetic monitor each cycle.
+     *
+     * @return Entries of the comma-separated monitor.tests, each a qualified class name optionally followed by
+     *         {@code #method}; SmokeTests by default
+     */
+    public List<String> getMonitorTests() {
+        return Arrays.stream(getOptionalProperty("monitor.tests", "com.demoqa.smoke.SmokeTests").split(","))
+                .map(String::strip)
+                .filter(test -> !test.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Gets the pause between the end of one monitoring cycle and the start of the next.
+     *
+     * @return The interval in seconds, 60 by default
+     */
+    public int getMonitorIntervalSeconds() {
+        return Integer.parseInt(getOptionalProperty("monitor.interval.seconds", "60"));
+    }
+
+    /**
+     * Gets the number of recent runs per check that rolling monitor metrics cover.
+     *
+     * @return The window, 60 runs by default
+     */
+    public int getMonitorWindow() {
+        return Integer.parseInt(getOptionalProperty("monitor.window", "60"));
+    }
+
+    /**
+     * Gets the port of the monitor's Prometheus metrics endpoint.
+     *
+     * @return The port from monitor.port, or 0 if no endpoint should be served
+     */
+    public int getMonitorPort() {
+        String value = getOptionalProperty("monitor.port", "");
+        return value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    /**
+     * Gets the file the monitor rewrites with its metrics after each cycle, e.g. for a textfile collector.
+     *
+     * @return The path from monitor.metrics.file, or null if not set
+     */
+    public String getMonitorMetricsFile() {
+        String value = getOptionalProperty("monitor.metrics.file", "");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the browsers each suite test is expanded to by BrowserMatrixListener.
+     *
+     * @return Entries of the comma-separated browser.matrix in lower case; empty by default, which runs
+     *         the suites with their own browser parameter
+     */
+    public List<String> getBrowserMatrix() {
+        return Arrays.stream(getOptionalProperty("browser.matrix", "").split(","))
+                .map(browser -> browser.strip().toLowerCase())
+                .filter(browser -> !browser.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Gets the seed of the synthetic test data, for reproducing the data of an earlier run.
+     *
+     * @return The seed from test.data.seed, or null to choose a random seed per run
+     */
+    public Long getTestDataSeed() {
+        String value = getOptionalProperty("test.data.seed", "");
+        return value.isEmpty() ? null : Long.parseLong(value);
+    }
+
+    /**
+     * Gets the base URL of the reference deployment of an A/B comparison.
+     *
+     * @return ab.baseline.url, or base.url if empty
+     */
+    public String getAbBaselineUrl() {
+        String value = getOptionalProperty("ab.baseline.url", "");
+        return value.isEmpty() ? getBaseUrl() : value;
+    }
+
+    /**
+     * Gets the base URL of the deployment compared with the baseline.
+     *
+     * @return ab.candidate.url, or an empty string if no comparison is configured
+     */
+    public String getAbCandidateUrl() {
+        return getOptionalProperty("ab.candidate.url", "");
+    }
+
+    /**
+     * Gets the measured rounds of an A/B comparison; each round runs every scenario on both deployments.
+     *
+     * @return The round count, 30 by default
+     */
+    public int getAbRounds() {
+        return Integer.parseInt(getOptionalProperty("ab.rounds", "30"));
+    }
+
+    /**
+     * Gets the rounds run and discarded before an A/B comparison is measured.
+     *
+     * @return The warm-up round count, 2 by default
+     */
+    public int getAbWarmupRounds() {
+        return Integer.parseInt(getOptionalProperty("ab.warmup.rounds", "2"));
+    }
+
+    /**
+     * Gets the significance level of an A/B comparison, applied after adjusting for the number of steps.
+     *
+     * @return The level, 0.05 by default
+     */
+    public double getAbAlpha() {
+        return Double.parseDouble(getOptionalProperty("ab.alpha", "0.05"));
+    }
+
+    /**
+     * Gets the directory network captures are written to, one HAR file per test.
+     *
+     * @return The configured directory, or null if network capture is off
+     */
+    public String getHarDir() {
+        String value = getOptionalProperty("har.dir", "");
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Gets the test duration above which a passing test keeps its network capture.
+     *
+     * @return The budget in milliseconds from har.budget.ms, or null to keep captures of failed tests only
+     */
+    public Long getHarBudgetMillis() {
+        String value = getOptionalProperty("har.budget.ms", "");
+        return value.isEmpty() ? null : Long.parseLong(value);
+    }
+
+    /**
+     * Reads an optional property, preferring a system property over config.properties.
+     *
+     * @param key The property name
+     * @param defaultValue The value used when the property is not set anywhere
+     * @return The resolved property value
+     */
+    private String getOptionalProperty(String key, String defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key, defaultValue));
+        LOGGER.debug("Retrieved {}: {}", key, value);
+        return value.trim();
+    }
+}
@@ -0,0 +1,226 @@
+package com.demoqa.daemon;
+
+import com.demoqa.config.ConfigurationManager;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local daemon that keeps a pool of headless Chrome processes warm and lends them to test JVMs.
+ * <p>
+ * Surefire forks and local runs normally pay several seconds of browser cold start per session.
+ * With the daemon running, {@link com.demoqa.base.BaseTest} borrows a running browser over a
+ * loopback socket and attaches chromedriver to it via {@code debuggerAddress}.
+ *
+ * <p>Line-based protocol on 127.0.0.1:
+ * <ul>
+ *   <li>{@code BORROW <timeoutSeconds>} - replies {@code LEASE <host:port>} or {@code BUSY};
+ *       the lease lasts until the client sends {@code RETURN} or closes the connection,
+ *       so browsers of crashed JVMs come back automatically</li>
+ *   <li>{@code STATUS} - replies {@code STATUS idle=<n> total=<n>}</li>
+ *   <li>{@code SHUTDOWN} - stops the daemon and all browsers</li>
+ * </ul>
+ * Malformed requests are answered with {@code ERROR <reason>}.
+ * Returned browsers are reset to a single blank tab with cookies and storage cleared before they are
+ * lent again, and replaced by a fresh process after {@code browser.daemon.max.uses} leases.
+ *
+ * <p>Start with:
+ * {@code mvn test-compile exec:java -Dexec.mainClass=com.demoqa.daemon.BrowserDaemon -Dexec.classpathScope=test}
+ */
+public class BrowserDaemon {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserDaemon.class);
+
+    /**
+     * Port used when browser.daemon.port is not configured
+     */
+    public static final int DEFAULT_PORT = 47100;
+
+    private final int port;
+    private final int poolSize;
+    private final int maxUses;
+    private final boolean headless;
+    private final Path chromeBinary;
+
+    private final BlockingQueue<WarmBrowser> idle = new LinkedBlockingQueue<>();
+    private final Set<WarmBrowser> all = ConcurrentHashMap.newKeySet();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Creates a daemon with the given pool settings.
+     *
+     * @param port Loopback port to listen on
+     * @param poolSize Number of browsers to keep warm
+     * @param maxUses Leases per browser before it is replaced
+     * @param headless Whether browsers run headless
+     * @param chromeBinary Path to the Chrome executable
+     */
+    public BrowserDaemon(int port, int poolSize, int maxUses, boolean headless, Path chromeBinary) {
+        this.port = port;
+        this.poolSize = poolSize;
+        this.maxUses = maxUses;
+        this.headless = headless;
+        this.chromeBinary = chromeBinary;
+    }
+
+    /**
+     * Starts the daemon with settings from {@link ConfigurationManager}.
+     * The Chrome binary is taken from browser.daemon.chrome.binary or detected by WebDriverManager.
+     *
+     * @param args Not used
+     * @throws IOException if the server socket cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        ConfigurationManager config = new ConfigurationManager();
+        int port = config.getBrowserDaemonPort() > 0 ? config.getBrowserDaemonPort() : DEFAULT_PORT;
+        String binary = System.getProperty("browser.daemon.chrome.binary");
+        Path chromeBinary = binary != null
+                ? Paths.get(binary)
+                : WebDriverManager.chromedriver().getBrowserPath()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Chrome not found, set -Dbrowser.daemon.chrome.binary")).toAbsolutePath();
+
+        BrowserDaemon daemon = new BrowserDaemon(port, config.getBrowserDaemonPoolSize(),
+                config.getBrowserDaemonMaxUses(), config.isBrowserDaemonHeadless(), chromeBinary);
+        Runtime.getRuntime().addShutdownHook(new Thread(daemon::shutdown));
+        daemon.run();
+    }
+
+    /**
+     * Fills the pool and serves lease requests until {@link #shutdown()} is called.
+     *
+     * @throws IOException if the server socket cannot be opened
+     */
+    public void run() throws IOException {
+        for (int i = 0; i < poolSize; i++) {
+            workers.submit(this::launchIntoPool);
+        }
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        LOGGER.info("Browser daemon listening on 127.0.0.1:{} with {} warm browsers", port, poolSize);
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                workers.submit(() -> handle(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    LOGGER.warn("Failed to accept connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting leases and terminates all browsers.
+     */
+    public void shutdown() {
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close server socket: {}", e.getMessage());
+        }
+        workers.shutdownNow();
+        all.forEach(WarmBrowser::destroy);
+        all.clear();
+        idle.clear();
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            String[] request = line.trim().split("\\s+");
+            switch (request[0]) {
+                case "BORROW" -> lend(request, reader, writer);
+                case "STATUS" -> writer.println("STATUS idle=" + idle.size() + " total=" + all.size());
+                case "SHUTDOWN" -> {
+                    writer.println("BYE");
+                    shutdown();
+                }
+                default -> writer.println("ERROR unknown command " + request[0]);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Client connection closed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands out an idle browser and keeps it leased until the client returns it or disconnects.
+     */
+    private void lend(String[] request, BufferedReader reader, PrintWriter writer) throws IOException, InterruptedException {
+        int timeoutSeconds;
+        try {
+            timeoutSeconds = request.length > 1 ? Integer.parseInt(request[1]) : 30;
+        } catch (NumberFormatException e) {
+            timeoutSeconds = -1;
+        }
+        if (request.length > 2 || timeoutSeconds < 0) {
+            writer.println("ERROR usage: BORROW [timeoutSeconds]");
+            return;
+        }
+        WarmBrowser browser = idle.poll(timeoutSeconds, TimeUnit.SECONDS);
+        if (browser == null) {
+            writer.println("BUSY");
+            return;
+        }
+        try {
+            writer.println("LEASE " + browser.getDebuggerAddress());
+            String line;
+            while ((line = reader.readLine()) != null && !"RETURN".equals(line.trim())) {
+                LOGGER.debug("Ignoring '{}' during lease of {}", line, browser.getDebuggerAddress());
+            }
+        } finally {
+            workers.submit(() -> takeBack(browser));
+        }
+    }
+
+    private void takeBack(WarmBrowser browser) {
+        if (browser.isAlive() && browser.incrementUses() < maxUses) {
+            try {
+                browser.reset();
+                idle.offer(browser);
+                return;
+            } catch (IOException e) {
+                LOGGER.warn("Failed to reset browser at {}: {}", browser.getDebuggerAddress(), e.getMessage());
+            }
+        }
+        all.remove(browser);
+        browser.destroy();
+        launchIntoPool();
+    }
+
+    private void launchIntoPool() {
+        try {
+            WarmBrowser browser = WarmBrowser.launch(chromeBinary, headless);
+            all.add(browser);
+            idle.offer(browser);
+        } catch (IOException e) {
+            LOGGER.error("Failed to start warm browser: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.demoqa.daemon;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A warm browser borrowed from {@link BrowserDaemon}.
+ * The lease holds its socket open for the duration of the test; {@link #close()} returns the browser.
+ */
+public final class BrowserLease implements Closeable {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 500;
+
+    private final Socket socket;
+    private final PrintWriter writer;
+    private final String debuggerAddress;
+
+    private BrowserLease(Socket socket, PrintWriter writer, String debuggerAddress) {
+        this.socket = socket;
+        this.writer = writer;
+        this.debuggerAddress = debuggerAddress;
+    }
+
+    /**
+     * Borrows a warm browser from the daemon on the local machine.
+     *
+     * @param port The daemon port
+     * @param timeoutSeconds How long the daemon may wait for a browser to become free
+     * @return The lease, or null if no browser became free within the timeout
+     * @throws IOException if the daemon is not running or the connection fails
+     */
+    public static BrowserLease borrow(int port, int timeoutSeconds) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout((timeoutSeconds + 5) * 1000);
+            PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+            writer.println("BORROW " + timeoutSeconds);
+            String reply = reader.readLine();
+            if (reply != null && reply.startsWith("LEASE ")) {
+                socket.setSoTimeout(0);
+                return new BrowserLease(socket, writer, reply.substring("LEASE ".length()).trim());
+            }
+            socket.close();
+            return null;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the host:port of the browser's DevTools endpoint, for chromedriver's debuggerAddress option.
+     *
+     * @return The debugger address
+     */
+    public String getDebuggerAddress() {
+        return debuggerAddress;
+    }
+
+    /**
+     * Returns the browser to the daemon for reset.
+     */
+    @Override
+    public void close() {
+        try (socket) {
+            writer.println("RETURN");
+        } catch (IOException ignored) {
+            // The daemon treats a dropped connection as a return as well
+        }
+    }
+}
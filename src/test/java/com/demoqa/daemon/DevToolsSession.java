@@ -0,0 +1,136 @@
+package com.demoqa.daemon;
+
+import org.openqa.selenium.json.Json;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal Chrome DevTools Protocol connection to a browser's websocket endpoint, used by {@link WarmBrowser}
+ * to send browser-level commands without a WebDriver session. Events are ignored; only command replies are read.
+ */
+final class DevToolsSession implements WebSocket.Listener, Closeable {
+
+    private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Json JSON = new Json();
+
+    private final Map<Integer, CompletableFuture<Map<String, Object>>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final StringBuilder message = new StringBuilder();
+    private WebSocket socket;
+
+    private DevToolsSession() {
+    }
+
+    /**
+     * Opens a connection to a DevTools websocket.
+     *
+     * @param client HTTP client to open the websocket with
+     * @param webSocketUrl The {@code webSocketDebuggerUrl} of the browser
+     * @return The open session
+     * @throws IOException if the connection cannot be opened in time
+     */
+    static DevToolsSession connect(HttpClient client, String webSocketUrl) throws IOException {
+        DevToolsSession session = new DevToolsSession();
+        session.socket = await(client.newWebSocketBuilder()
+                .connectTimeout(COMMAND_TIMEOUT)
+                .buildAsync(URI.create(webSocketUrl), session), "connect to " + webSocketUrl);
+        return session;
+    }
+
+    /**
+     * Sends a command and waits for its reply.
+     *
+     * @param method The CDP method, e.g. {@code Storage.clearCookies}
+     * @param params The command parameters
+     * @return The command result, empty if the command returns nothing
+     * @throws IOException if the command fails, times out or the connection is lost
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> send(String method, Map<String, Object> params) throws IOException {
+        int id = nextId.incrementAndGet();
+        CompletableFuture<Map<String, Object>> reply = new CompletableFuture<>();
+        pending.put(id, reply);
+        try {
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("id", id);
+            command.put("method", method);
+            command.put("params", params);
+            await(socket.sendText(JSON.toJson(command), true), method);
+            Map<String, Object> response = await(reply, method);
+            if (response.containsKey("error")) {
+                throw new IOException(method + " failed: " + response.get("error"));
+            }
+            Object result = response.get("result");
+            return result instanceof Map ? (Map<String, Object>) result : Map.of();
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    /**
+     * Closes the websocket without waiting for the browser to acknowledge.
+     */
+    @Override
+    public void close() {
+        socket.abort();
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        message.append(data);
+        if (last) {
+            Map<String, Object> response = JSON.toType(message.toString(), Json.MAP_TYPE);
+            message.setLength(0);
+            if (response.get("id") instanceof Number id) {
+                CompletableFuture<Map<String, Object>> reply = pending.get(id.intValue());
+                if (reply != null) {
+                    reply.complete(response);
+                }
+            }
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        failPending(new IOException("DevTools connection closed: " + statusCode + " " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        failPending(error);
+    }
+
+    private void failPending(Throwable error) {
+        pending.values().forEach(reply -> reply.completeExceptionally(error));
+    }
+
+    private static <T> T await(CompletableFuture<T> future, String action) throws IOException {
+        try {
+            return future.get(COMMAND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted during DevTools " + action, e);
+        } catch (ExecutionException e) {
+            throw new IOException("DevTools " + action + " failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("DevTools " + action + " timed out after " + COMMAND_TIMEOUT.toSeconds() + "s", e);
+        }
+    }
+}
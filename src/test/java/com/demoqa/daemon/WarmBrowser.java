@@ -0,0 +1,257 @@
+package com.demoqa.daemon;
+
+import com.demoqa.base.ChromeProfileTemplate;
+import com.demoqa.base.ChromeSettings;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Chrome process started by {@link BrowserDaemon} with remote debugging enabled,
+ * so chromedriver sessions can attach to it through the {@code debuggerAddress} option.
+ */
+final class WarmBrowser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmBrowser.class);
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final HttpClient DEVTOOLS_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private static final Json JSON = new Json();
+
+    private final Process process;
+    private final Path userDataDir;
+    private final String debuggerAddress;
+    private int uses;
+
+    private WarmBrowser(Process process, Path userDataDir, String debuggerAddress) {
+        this.process = process;
+        this.userDataDir = userDataDir;
+        this.debuggerAddress = debuggerAddress;
+    }
+
+    /**
+     * Starts a new Chrome process with the framework's arguments and preferences.
+     *
+     * @param chromeBinary Path to the Chrome executable
+     * @param headless Whether to start Chrome headless
+     * @return The started browser, ready for attachment
+     * @throws IOException if Chrome cannot be started or does not open its debugging port in time
+     */
+    static WarmBrowser launch(Path chromeBinary, boolean headless) throws IOException {
+        Path userDataDir = Files.createTempDirectory("demoqa-warm-chrome-");
+        writePreferences(userDataDir);
+
+        List<String> command = new ArrayList<>();
+        command.add(chromeBinary.toString());
+        command.addAll(ChromeSettings.ARGUMENTS);
+        if (headless) {
+            command.add("--headless=new");
+        }
+        command.add("--remote-debugging-port=0");
+        command.add("--user-data-dir=" + userDataDir);
+        command.add("--no-first-run");
+        command.add("--no-default-browser-check");
+        command.add("about:blank");
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            String address = "127.0.0.1:" + awaitDevToolsPort(process, userDataDir);
+            LOGGER.info("Warm browser started at {} (pid {})", address, process.pid());
+            return new WarmBrowser(process, userDataDir, address);
+        } catch (IOException e) {
+            process.destroyForcibly();
+            ChromeProfileTemplate.deleteRecursively(userDataDir);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the host:port chromedriver should attach to.
+     *
+     * @return The DevTools debugger address
+     */
+    String getDebuggerAddress() {
+        return debuggerAddress;
+    }
+
+    /**
+     * Counts a completed lease.
+     *
+     * @return The number of leases served so far
+     */
+    int incrementUses() {
+        return ++uses;
+    }
+
+    /**
+     * Checks whether the Chrome process is still running.
+     *
+     * @return true if the process is alive
+     */
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * Brings the browser back to the state of a fresh launch before it is lent again, over the browser's
+     * DevTools websocket:
+     * <ul>
+     *   <li>Opens a blank tab and closes every other tab the previous test left open</li>
+     *   <li>Clears storage (local and session storage, IndexedDB, cache storage, service workers) of every origin
+     *       that was open in a tab or holds a cookie</li>
+     *   <li>Clears all cookies</li>
+     * </ul>
+     *
+     * @throws IOException if the DevTools endpoint cannot be reached or a command fails
+     */
+    @SuppressWarnings("unchecked")
+    void reset() throws IOException {
+        Map<String, Object> version = devTools("GET", "/json/version", Json.MAP_TYPE);
+        try (DevToolsSession browser = DevToolsSession.connect(DEVTOOLS_CLIENT,
+                (String) version.get("webSocketDebuggerUrl"))) {
+            Set<String> origins = new LinkedHashSet<>();
+            List<Map<String, Object>> cookies =
+                    (List<Map<String, Object>>) browser.send("Storage.getCookies", Map.of()).get("cookies");
+            for (Map<String, Object> cookie : cookies) {
+                String domain = ((String) cookie.get("domain")).replaceFirst("^\\.", "");
+                origins.add("https://" + domain);
+                origins.add("http://" + domain);
+            }
+
+            Object blankTargetId = browser.send("Target.createTarget", Map.of("url", "about:blank")).get("targetId");
+            List<Map<String, Object>> targets =
+                    (List<Map<String, Object>>) browser.send("Target.getTargets", Map.of()).get("targetInfos");
+            for (Map<String, Object> target : targets) {
+                origin((String) target.get("url")).ifPresent(origins::add);
+                if ("page".equals(target.get("type")) && !target.get("targetId").equals(blankTargetId)) {
+                    browser.send("Target.closeTarget", Map.of("targetId", target.get("targetId")));
+                }
+            }
+
+            for (String origin : origins) {
+                browser.send("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            }
+            browser.send("Storage.clearCookies", Map.of());
+        }
+    }
+
+    /**
+     * Gets the origin of a web page URL.
+     *
+     * @param url The page URL
+     * @return The scheme, host and port, or empty for non-web URLs such as about:blank
+     */
+    private static Optional<String> origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (!(("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null)) {
+                return Optional.empty();
+            }
+            return Optional.of(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : ""));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Terminates the Chrome process and deletes its profile directory.
+     */
+    void destroy() {
+        process.destroy();
+        try {
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        ChromeProfileTemplate.deleteRecursively(userDataDir);
+    }
+
+    private <T> T devTools(String method, String path, Type type) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + path))
+                .timeout(Duration.ofSeconds(5))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            HttpResponse<String> response = DEVTOOLS_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("DevTools " + path + " returned HTTP " + response.statusCode());
+            }
+            return type == null ? null : JSON.toType(response.body(), type);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while calling DevTools " + path, e);
+        }
+    }
+
+    /**
+     * Waits until Chrome writes the DevToolsActivePort file, which contains the chosen port on its first line.
+     */
+    private static String awaitDevToolsPort(Process process, Path userDataDir) throws IOException {
+        Path portFile = userDataDir.resolve("DevToolsActivePort");
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Chrome exited during startup with code " + process.exitValue());
+            }
+            if (Files.exists(portFile)) {
+                List<String> lines = Files.readAllLines(portFile);
+                if (!lines.isEmpty() && !lines.getFirst().isBlank()) {
+                    return lines.getFirst().trim();
+                }
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for Chrome startup", e);
+            }
+        }
+        throw new IOException("Chrome did not open its debugging port within " + STARTUP_TIMEOUT.toSeconds() + "s");
+    }
+
+    /**
+     * Writes {@link ChromeSettings#PREFS} into the profile's Preferences file, expanding dotted keys
+     * into the nested JSON structure Chrome expects.
+     */
+    @SuppressWarnings("unchecked")
+    static void writePreferences(Path userDataDir) throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        ChromeSettings.PREFS.forEach((key, value) -> {
+            String[] parts = key.split("\\.");
+            Map<String, Object> node = root;
+            for (int i = 0; i < parts.length - 1; i++) {
+                node = (Map<String, Object>) node.computeIfAbsent(parts[i], k -> new LinkedHashMap<String, Object>());
+            }
+            node.put(parts[parts.length - 1], value);
+        });
+        Path defaultProfile = Files.createDirectories(userDataDir.resolve("Default"));
+        Files.writeString(defaultProfile.resolve("Preferences"), JSON.toJson(root));
+    }
+}
@@ -0,0 +1,252 @@
+package com.demoqa.data;
+
+import com.demoqa.config.ConfigurationManager;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deterministic synthetic data for the practice form and text box form.
+ * <p>
+ * Record {@code n} of a generator is a pure function of the generator's seed and {@code n}, so a record can be
+ * rebuilt from the two numbers alone and generators need no shared state between threads:
+ * <ul>
+ *   <li>Emails carry a 64-bit token from a bijective mix of seed and index, so they never repeat within a
+ *       generator and practically never across generators</li>
+ *   <li>Phone numbers are an affine permutation of the index over all ten-digit numbers, so the first ten
+ *       billion records of a generator have distinct numbers</li>
+ *   <li>Names, dates, addresses and choices are picked from the same mix; they look plausible but only the
+ *       last-name suffix makes names unique with high probability</li>
+ * </ul>
+ * {@link #fill(long, TestDataRecord)} writes into a reusable record without allocating, which makes a
+ * generator cheap enough to produce millions of records per second on one thread.
+ *
+ * <p>Tests get a generator per test method with {@link #forTest(String)}, derived from the run seed and the
+ * test's name, so a test sees the same data on every rerun with the same seed, whatever else runs in parallel.
+ * The run seed is random unless set with {@code -Dtest.data.seed}.
+ */
+public final class TestDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "Ava", "Liam", "Mia", "Noah", "Emma", "Oliver", "Sofia", "Lucas", "Amara", "Mateo", "Chloe", "Ethan",
+            "Hana", "Leo", "Isla", "Omar", "Zoe", "Arjun", "Nora", "Felix", "Yara", "Hugo", "Lena", "Ravi",
+            "Elena", "Kai", "Ines", "Jonas", "Maya", "Tomas", "Aisha", "Viktor"};
+
+    private static final String[] LAST_NAMES = {
+            "Kowalski", "Garcia", "Nguyen", "Smith", "Muller", "Rossi", "Tanaka", "Okafor", "Silva", "Novak",
+            "Johansson", "Dubois", "Kim", "Patel", "Horvat", "Costa", "Jensen", "Murphy", "Ivanova", "Haddad",
+            "Lindqvist", "Moreau", "Santos", "Fischer", "Kaur", "Yilmaz", "Brown", "Petrov", "Sato", "Mensah",
+            "Ortiz", "Weber"};
+
+    private static final String[] STREETS = {
+            "Maple", "Oak", "Pine", "Cedar", "Elm", "Birch", "Willow", "Lake", "Hill", "River", "Park", "Sunset",
+            "Main", "Church", "Mill", "Station"};
+
+    private static final String[] STREET_TYPES = {"St", "Ave", "Rd", "Ln"};
+
+    private static final String[] GENDERS = {"Male", "Female", "Other"};
+
+    private static final String[] SUBJECTS = {
+            "Maths", "English", "Physics", "Chemistry", "Biology", "Computer Science", "Commerce", "Accounting",
+            "Economics", "Arts", "History", "Civics"};
+
+    private static final String[] HOBBIES = {"Sports", "Reading", "Music"};
+
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long PHONE_NUMBERS = 10_000_000_000L;
+    private static final long HALF = 100_000L;
+
+    private static volatile Long runSeed;
+
+    private final long seed;
+    private final long phoneMultiplier;
+    private final long phoneOffset;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * Creates a generator whose records depend only on the seed.
+     *
+     * @param seed The seed
+     */
+    public TestDataGenerator(long seed) {
+        this.seed = seed;
+        // Odd and not a multiple of 5, so coprime to 10^10 and the map n -> a*n + b is a permutation
+        long multiplier = Long.remainderUnsigned(mix(seed ^ 0x5DEECE66DL), PHONE_NUMBERS / 2) * 2 + 1;
+        this.phoneMultiplier = multiplier % 5 == 0 ? multiplier + 2 : multiplier;
+        this.phoneOffset = Long.remainderUnsigned(mix(seed + GOLDEN_GAMMA), PHONE_NUMBERS);
+    }
+
+    /**
+     * Creates the generator of one test, derived from the run seed and the test's name.
+     *
+     * @param testName A name that identifies the test across runs, e.g. the qualified method name
+     * @return The test's generator
+     */
+    public static TestDataGenerator forTest(String testName) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < testName.length(); i++) {
+            hash = 31 * hash + testName.charAt(i);
+        }
+        return new TestDataGenerator(mix(runSeed() ^ mix(hash)));
+    }
+
+    /**
+     * Gets the seed of this run: test.data.seed if set, otherwise a random seed chosen once per JVM.
+     *
+     * @return The run seed
+     */
+    public static long runSeed() {
+        Long seed = runSeed;
+        if (seed == null) {
+            synchronized (TestDataGenerator.class) {
+                seed = runSeed;
+                if (seed == null) {
+                    Long configured = new ConfigurationManager().getTestDataSeed();
+                    seed = configured != null ? configured : mix(System.nanoTime() ^ System.currentTimeMillis());
+                    runSeed = seed;
+                }
+            }
+        }
+        return seed;
+    }
+
+    /**
+     * @return The seed of this generator
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Creates the generator's next record. Thread-safe; each call gets a different index.
+     *
+     * @return A new record
+     */
+    public TestDataRecord next() {
+        TestDataRecord record = new TestDataRecord();
+        fill(next.getAndIncrement(), record);
+        return record;
+    }
+
+    /**
+     * Overwrites a record with record {@code index} of this generator, without allocating.
+     *
+     * @param index The record index, 0 or greater
+     * @param record The record to fill
+     */
+    public void fill(long index, TestDataRecord record) {
+        long bits = mix(seed + index * GOLDEN_GAMMA);
+        long more = mix(bits);
+        record.index = index;
+
+        String first = FIRST_NAMES[(int) (bits & 31)];
+        String last = LAST_NAMES[(int) ((bits >>> 5) & 31)];
+        record.firstName.setLength(0);
+        record.firstName.append(first);
+        record.lastName.setLength(0);
+        record.lastName.append(last).append('-');
+        appendLetters(record.lastName, (more >>> 40) | (1L << 14));
+
+        record.email.setLength(0);
+        appendLowerCase(record.email, first);
+        record.email.append('.');
+        appendLowerCase(record.email, last);
+        record.email.append('.');
+        appendUnsigned(record.email, bits, 36);
+        record.email.append("@example.com");
+
+        record.phone.setLength(0);
+        appendPadded(record.phone, phoneNumber(index), 10);
+
+        record.dateOfBirth.setLength(0);
+        appendPadded(record.dateOfBirth, 1 + (more & 0xFFFF) % 12, 2);
+        record.dateOfBirth.append('/');
+        appendPadded(record.dateOfBirth, 1 + ((more >>> 16) & 0xFFFF) % 28, 2);
+        record.dateOfBirth.append('/');
+        appendPadded(record.dateOfBirth, 1950 + ((more >>> 32) & 0xFFFF) % 56, 4);
+
+        appendAddress(record.currentAddress, bits >>> 10);
+        appendAddress(record.permanentAddress, bits >>> 30);
+
+        record.gender = GENDERS[(int) Long.remainderUnsigned(bits >>> 50, GENDERS.length)];
+        record.subject = SUBJECTS[(int) Long.remainderUnsigned(more >>> 48, SUBJECTS.length)];
+        record.hobby = HOBBIES[(int) Long.remainderUnsigned(more >>> 56, HOBBIES.length)];
+    }
+
+    /**
+     * Maps the index to a ten-digit number with a*n + b mod 10^10, computed in two halves to avoid overflow.
+     */
+    private long phoneNumber(long index) {
+        long n = Long.remainderUnsigned(index, PHONE_NUMBERS);
+        long high = phoneMultiplier / HALF;
+        long low = phoneMultiplier % HALF;
+        long product = ((high * n) % PHONE_NUMBERS * HALF + low * n) % PHONE_NUMBERS;
+        return (product + phoneOffset) % PHONE_NUMBERS;
+    }
+
+    private static void appendAddress(StringBuilder target, long bits) {
+        target.setLength(0);
+        target.append(1 + (bits & 0x3FF) % 999).append(' ')
+                .append(STREETS[(int) ((bits >>> 10) & 15)]).append(' ')
+                .append(STREET_TYPES[(int) ((bits >>> 14) & 3)]);
+    }
+
+    private static void appendLowerCase(StringBuilder target, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            target.append(Character.toLowerCase(text.charAt(i)));
+        }
+    }
+
+    /**
+     * Appends a positive value as letters, most significant first and capitalized, e.g. "Qbx".
+     */
+    private static void appendLetters(StringBuilder target, long value) {
+        int start = target.length();
+        do {
+            target.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        reverse(target, start);
+        target.setCharAt(start, Character.toUpperCase(target.charAt(start)));
+    }
+
+    private static void appendUnsigned(StringBuilder target, long value, int radix) {
+        int start = target.length();
+        if (value < 0) {
+            // One unsigned division brings the value into the signed range, where % and / are cheaper
+            target.append(DIGITS[(int) Long.remainderUnsigned(value, radix)]);
+            value = Long.divideUnsigned(value, radix);
+        }
+        do {
+            target.append(DIGITS[(int) (value % radix)]);
+            value /= radix;
+        } while (value != 0);
+        reverse(target, start);
+    }
+
+    private static void appendPadded(StringBuilder target, long value, int width) {
+        int start = target.length();
+        for (int i = 0; i < width; i++) {
+            target.append((char) ('0' + value % 10));
+            value /= 10;
+        }
+        reverse(target, start);
+    }
+
+    private static void reverse(StringBuilder target, int start) {
+        for (int i = start, j = target.length() - 1; i < j; i++, j--) {
+            char c = target.charAt(i);
+            target.setCharAt(i, target.charAt(j));
+            target.setCharAt(j, c);
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer; a bijection on 64-bit values.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
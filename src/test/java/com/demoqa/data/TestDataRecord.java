@@ -0,0 +1,111 @@
+package com.demoqa.data;
+
+/**
+ * One synthetic person for the practice form and text box form, filled in place by {@link TestDataGenerator}.
+ * <p>
+ * Text fields are reusable buffers, so refilling a record allocates nothing; strings are only created
+ * when a field is read. The choice fields (gender, subject, hobby) are shared constants.
+ */
+public final class TestDataRecord {
+
+    final StringBuilder firstName = new StringBuilder(16);
+    final StringBuilder lastName = new StringBuilder(24);
+    final StringBuilder email = new StringBuilder(48);
+    final StringBuilder phone = new StringBuilder(10);
+    final StringBuilder dateOfBirth = new StringBuilder(10);
+    final StringBuilder currentAddress = new StringBuilder(40);
+    final StringBuilder permanentAddress = new StringBuilder(40);
+    String gender;
+    String subject;
+    String hobby;
+    long index;
+
+    /**
+     * @return First name, e.g. Ava
+     */
+    public String firstName() {
+        return firstName.toString();
+    }
+
+    /**
+     * @return Last name with a letter suffix from the record's hash, e.g. Kowalski-Qbx
+     */
+    public String lastName() {
+        return lastName.toString();
+    }
+
+    /**
+     * @return First and last name separated by a space, as entered in the text box form
+     */
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+
+    /**
+     * @return Email address, unique per generator, e.g. ava.kowalski.3k9x0c2m1z7qb@example.com
+     */
+    public String email() {
+        return email.toString();
+    }
+
+    /**
+     * @return Mobile number of exactly ten digits, unique per generator
+     */
+    public String phone() {
+        return phone.toString();
+    }
+
+    /**
+     * @return Date of birth as MM/dd/yyyy, between 1950 and 2005
+     */
+    public String dateOfBirth() {
+        return dateOfBirth.toString();
+    }
+
+    /**
+     * @return Street address, e.g. 742 Maple St
+     */
+    public String currentAddress() {
+        return currentAddress.toString();
+    }
+
+    /**
+     * @return A second street address, e.g. 18 Oak Ave
+     */
+    public String permanentAddress() {
+        return permanentAddress.toString();
+    }
+
+    /**
+     * @return Male, Female or Other, as labelled on the practice form
+     */
+    public String gender() {
+        return gender;
+    }
+
+    /**
+     * @return A subject offered by the practice form's autocomplete, e.g. Maths
+     */
+    public String subject() {
+        return subject;
+    }
+
+    /**
+     * @return Sports, Reading or Music, as labelled on the practice form
+     */
+    public String hobby() {
+        return hobby;
+    }
+
+    /**
+     * @return Position of the record in its generator's sequence
+     */
+    public long index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + index + " " + fullName() + " <" + email + "> " + phone;
+    }
+}
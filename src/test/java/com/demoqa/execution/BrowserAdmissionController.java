@@ -0,0 +1,169 @@
+package com.demoqa.execution;
+
+import com.demoqa.config.ConfigurationManager;
+import com.sun.management.OperatingSystemMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits new browser sessions only while the host has capacity for them.
+ * <p>
+ * Test threads are cheap (see {@link VirtualThreadExecutorServiceFactory}), browsers are not.
+ * Instead of a fixed {@code thread-count}, every {@link com.demoqa.base.BaseTest} acquires a permit
+ * before starting a browser and a session is admitted only when:
+ * <ul>
+ *   <li>Host CPU load is below {@code scheduler.max.cpu.load}</li>
+ *   <li>Free physical memory is above {@code scheduler.min.free.memory.mb}</li>
+ *   <li>Fewer than {@code scheduler.max.sessions} sessions are active</li>
+ *   <li>Fewer than {@code scheduler.max.sessions.<browser>} sessions of the same browser are active,
+ *       so a cross-browser matrix can run e.g. four Chrome but only two Firefox sessions at once</li>
+ *   <li>At least {@code scheduler.admission.interval.ms} passed since the previous admission,
+ *       so the previous browser is already visible in the load readings</li>
+ * </ul>
+ * The first session is always admitted immediately, within its browser's limit, so a run can never stall
+ * on a busy host.
+ */
+public final class BrowserAdmissionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserAdmissionController.class);
+
+    private static final long POLL_INTERVAL_MILLIS = 250;
+
+    private static volatile BrowserAdmissionController instance;
+
+    private final double maxCpuLoad;
+    private final long minFreeMemoryBytes;
+    private final int maxSessions;
+    private final long admissionIntervalNanos;
+    private final OperatingSystemMXBean osBean;
+    private final ConfigurationManager config;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private int activeSessions;
+    private final Map<String, Integer> activeSessionsByBrowser = new HashMap<>();
+    private final Map<String, Integer> maxSessionsByBrowser = new HashMap<>();
+    private long lastAdmissionNanos;
+
+    private BrowserAdmissionController(ConfigurationManager config) {
+        this.maxCpuLoad = config.getSchedulerMaxCpuLoad();
+        this.minFreeMemoryBytes = config.getSchedulerMinFreeMemoryMb() * 1024 * 1024;
+        this.maxSessions = config.getSchedulerMaxSessions();
+        this.admissionIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getSchedulerAdmissionIntervalMillis());
+        this.osBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        this.config = config;
+    }
+
+    /**
+     * Returns the JVM-wide admission controller, created from {@link ConfigurationManager} on first use.
+     *
+     * @return The shared BrowserAdmissionController instance
+     */
+    public static BrowserAdmissionController getInstance() {
+        BrowserAdmissionController controller = instance;
+        if (controller == null) {
+            synchronized (BrowserAdmissionController.class) {
+                controller = instance;
+                if (controller == null) {
+                    controller = new BrowserAdmissionController(new ConfigurationManager());
+                    instance = controller;
+                }
+            }
+        }
+        return controller;
+    }
+
+    /**
+     * Blocks until a new session of the given browser may be started.
+     * Every successful call must be paired with {@link #release(String)}.
+     *
+     * @param browser The browser name in lower case, e.g. chrome
+     * @throws IllegalStateException if the waiting thread is interrupted
+     */
+    public void acquire(String browser) {
+        long waitStart = System.nanoTime();
+        lock.lock();
+        try {
+            while (!canAdmit(browser)) {
+                released.await(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            activeSessions++;
+            activeSessionsByBrowser.merge(browser, 1, Integer::sum);
+            lastAdmissionNanos = System.nanoTime();
+            LOGGER.debug("Browser session admitted after {} ms ({} active, {} {})",
+                    TimeUnit.NANOSECONDS.toMillis(lastAdmissionNanos - waitStart), activeSessions,
+                    activeSessionsByBrowser.get(browser), browser);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for browser session admission", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit obtained by {@link #acquire(String)} after the browser session has been closed.
+     *
+     * @param browser The browser name passed to {@link #acquire(String)}
+     */
+    public void release(String browser) {
+        lock.lock();
+        try {
+            if (activeSessions > 0) {
+                activeSessions--;
+            }
+            activeSessionsByBrowser.computeIfPresent(browser, (name, count) -> count > 1 ? count - 1 : null);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of currently admitted browser sessions.
+     *
+     * @return Active session count
+     */
+    public int getActiveSessions() {
+        lock.lock();
+        try {
+            return activeSessions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evaluates the admission rules. Must be called while holding the lock.
+     */
+    private boolean canAdmit(String browser) {
+        int browserLimit = maxSessionsByBrowser.computeIfAbsent(browser,
+                name -> Math.max(1, config.getSchedulerMaxSessions(name)));
+        if (activeSessionsByBrowser.getOrDefault(browser, 0) >= browserLimit) {
+            return false;
+        }
+        if (activeSessions == 0) {
+            return true;
+        }
+        if (activeSessions >= maxSessions) {
+            return false;
+        }
+        if (System.nanoTime() - lastAdmissionNanos < admissionIntervalNanos) {
+            return false;
+        }
+        double cpuLoad = osBean.getCpuLoad();
+        long freeMemory = osBean.getFreeMemorySize();
+        boolean admit = cpuLoad < maxCpuLoad && freeMemory > minFreeMemoryBytes;
+        if (!admit) {
+            LOGGER.debug("Browser session deferred: cpu={}, freeMemoryMb={}, active={}",
+                    String.format("%.2f", cpuLoad), freeMemory / (1024 * 1024), activeSessions);
+        }
+        return admit;
+    }
+}
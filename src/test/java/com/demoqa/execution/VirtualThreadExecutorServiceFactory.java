@@ -0,0 +1,38 @@
+package com.demoqa.execution;
+
+import org.testng.IExecutorServiceFactory;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs every test task on its own virtual thread.
+ * <p>
+ * Test threads spend almost all of their time blocked on WebDriver HTTP calls, so a fixed pool of
+ * platform threads sized by {@code thread-count} is the wrong limit. The pool sizes requested by
+ * TestNG are ignored; real concurrency is bounded by {@link BrowserAdmissionController}, which
+ * admits browser sessions according to host CPU load and free memory.
+ *
+ * <p>Enabled with the {@code virtual-threads} Maven profile, which registers {@link VirtualThreadSuiteListener}.
+ */
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+
+    /**
+     * Creates a thread-per-task executor backed by virtual threads.
+     *
+     * @param corePoolSize Ignored
+     * @param maximumPoolSize Ignored
+     * @param keepAliveTime Ignored
+     * @param unit Ignored
+     * @param workQueue Ignored, tasks start immediately on a new virtual thread
+     * @param threadFactory Ignored, virtual threads are named "testng-vt-N"
+     * @return Executor starting a new virtual thread for every submitted task
+     */
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("testng-vt-", 0).factory());
+    }
+}
@@ -0,0 +1,51 @@
+package com.demoqa.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.SuiteRunner;
+import org.testng.internal.IConfiguration;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * A TestNG listener that installs {@link VirtualThreadExecutorServiceFactory} for the suite it is registered in.
+ * <p>
+ * TestNG only takes an executor factory from its {@code -threadpoolfactoryclass} command line option, which
+ * surefire does not pass on. The factory lives in the run's configuration, which the suite runner holds but does
+ * not expose, so it is set on the runner's configuration when the suite starts, before any {@code <test>}
+ * creates its executor. The field is read through a method handle rather than {@link java.lang.reflect.Field},
+ * since reflecting over the runner's fields would load its optional Guice types. If the runner's layout changes
+ * in a later TestNG version, a warning is logged and the suite keeps running on platform threads.
+ *
+ * <p>Registered by the {@code virtual-threads} Maven profile.
+ */
+public class VirtualThreadSuiteListener implements ISuiteListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadSuiteListener.class);
+
+    /**
+     * Sets the virtual thread executor factory on the starting suite's configuration.
+     *
+     * @param suite The suite that is about to start
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        if (!(suite instanceof SuiteRunner)) {
+            LOGGER.warn("Virtual threads not installed for suite {}, unknown runner {}", suite.getName(),
+                    suite.getClass().getName());
+            return;
+        }
+        try {
+            IConfiguration configuration = (IConfiguration) MethodHandles
+                    .privateLookupIn(SuiteRunner.class, MethodHandles.lookup())
+                    .findGetter(SuiteRunner.class, "configuration", IConfiguration.class)
+                    .invoke(suite);
+            configuration.setExecutorServiceFactory(new VirtualThreadExecutorServiceFactory());
+            LOGGER.info("Suite {} runs its parallel tests on virtual threads", suite.getName());
+        } catch (Throwable e) {
+            LOGGER.warn("Virtual threads not installed for suite {}, running on platform threads: {}",
+                    suite.getName(), e.toString());
+        }
+    }
+}
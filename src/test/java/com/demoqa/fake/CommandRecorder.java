@@ -0,0 +1,194 @@
+package com.demoqa.fake;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the driver and element commands of a real session as JSON lines, for replay with {@link ReplayBrowser}.
+ * <p>
+ * Each line holds the {@link FakeCommand} fields plus either {@code result} or {@code error}. Elements in
+ * results are stored as {@code {"@element": id}}, screenshots as {@code {"@png": base64}}. Calls to
+ * {@code manage()}, {@code navigate()} and {@code switchTo()} are not recorded, since {@link FakeWebDriver}
+ * handles them locally.
+ */
+public final class CommandRecorder implements WebDriverListener, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommandRecorder.class);
+
+    private static final Set<String> LOCAL_METHODS = Set.of("manage", "navigate", "switchTo",
+            "equals", "hashCode", "toString", "getWrappedDriver", "getWrappedElement", "getCapabilities");
+
+    /**
+     * Key of the map an element result is stored as
+     */
+    static final String ELEMENT_KEY = "@element";
+
+    /**
+     * Key of the map a screenshot result is stored as
+     */
+    static final String PNG_KEY = "@png";
+
+    private static final Json JSON = new Json();
+
+    /**
+     * Set while a command is being serialized. Page factory proxies passed as arguments look their element up
+     * again when asked for its id; those lookups are not part of the page layer's commands and are skipped.
+     */
+    private static final ThreadLocal<Boolean> SERIALIZING = ThreadLocal.withInitial(() -> false);
+
+    private final BufferedWriter writer;
+
+    private CommandRecorder(BufferedWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Wraps a driver so that all its driver and element commands are appended to a file.
+     *
+     * @param driver The real driver
+     * @param file JSON lines file to write, replaced if it exists
+     * @param <T> The driver type, kept by the returned decorator
+     * @return The session holding the recording driver, to be used instead of the original, and its recorder
+     * @throws IOException if the file cannot be opened
+     */
+    public static <T extends WebDriver> RecordingSession<T> record(T driver, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        CommandRecorder recorder = new CommandRecorder(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+        T decorated = new EventFiringDecorator<T>(recorder).decorate(driver);
+        return new RecordingSession<>(decorated, recorder);
+    }
+
+    /**
+     * A recording driver together with the recorder to close when the session ends.
+     *
+     * @param driver The decorated driver
+     * @param recorder The recorder writing the command file
+     * @param <T> The driver type
+     */
+    public record RecordingSession<T extends WebDriver>(T driver, CommandRecorder recorder) {
+    }
+
+    @Override
+    public void afterAnyWebDriverCall(WebDriver driver, Method method, Object[] args, Object result) {
+        write(FakeCommand.DRIVER, method, args, "result", encode(result));
+    }
+
+    @Override
+    public void afterAnyWebElementCall(WebElement element, Method method, Object[] args, Object result) {
+        write(FakeCommand.elementId(element), method, args, "result", encode(result));
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        String commandTarget;
+        if (target instanceof WebElement element) {
+            commandTarget = FakeCommand.elementId(element);
+        } else if (target instanceof WebDriver) {
+            commandTarget = FakeCommand.DRIVER;
+        } else {
+            return;
+        }
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("type", cause.getClass().getName());
+        error.put("message", firstLine(cause.getMessage()));
+        write(commandTarget, method, args, "error", error);
+    }
+
+    /**
+     * Flushes and closes the command file.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close command recording: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void write(String target, Method method, Object[] args, String outcome, Object value) {
+        if (LOCAL_METHODS.contains(method.getName()) || SERIALIZING.get()) {
+            return;
+        }
+        FakeCommand command;
+        SERIALIZING.set(true);
+        try {
+            // executeScript(String, Object...) arrives as [script, Object[]], matching FakeWebDriver's commands
+            command = FakeCommand.of(target, method.getName(), args);
+        } finally {
+            SERIALIZING.set(false);
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("target", command.target());
+        line.put("method", command.method());
+        line.put("args", command.args());
+        line.put(outcome, value);
+        try {
+            writer.write(JSON.toJson(line).replace('\n', ' '));
+            writer.newLine();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to record {}: {}", method.getName(), e.getMessage());
+        }
+    }
+
+    private static Object encode(Object result) {
+        if (result instanceof WebElement element) {
+            return Map.of(ELEMENT_KEY, FakeCommand.elementId(element));
+        }
+        if (result instanceof byte[] png) {
+            return Map.of(PNG_KEY, Base64.getEncoder().encodeToString(png));
+        }
+        if (result instanceof Rectangle rect) {
+            return Map.of("x", rect.getX(), "y", rect.getY(), "width", rect.getWidth(), "height", rect.getHeight());
+        }
+        if (result instanceof Point point) {
+            return Map.of("x", point.getX(), "y", point.getY());
+        }
+        if (result instanceof Dimension dimension) {
+            return Map.of("width", dimension.getWidth(), "height", dimension.getHeight());
+        }
+        if (result instanceof Collection<?> collection) {
+            List<Object> list = new ArrayList<>(collection.size());
+            collection.forEach(item -> list.add(encode(item)));
+            return list;
+        }
+        if (result instanceof Map<?, ?> map) {
+            Map<String, Object> encoded = new LinkedHashMap<>();
+            map.forEach((key, value) -> encoded.put(String.valueOf(key), encode(value)));
+            return encoded;
+        }
+        return FakeCommand.normalize(result);
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
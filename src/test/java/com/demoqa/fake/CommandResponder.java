@@ -0,0 +1,22 @@
+package com.demoqa.fake;
+
+/**
+ * Produces the browser's answer to a command sent to a {@link FakeWebDriver} or {@link FakeWebElement}.
+ *
+ * @see ScriptedBrowser
+ * @see ReplayBrowser
+ */
+@FunctionalInterface
+public interface CommandResponder {
+
+    /**
+     * Answers a command.
+     *
+     * @param driver The driver the command was sent through, used to create element references
+     * @param command The command
+     * @return The result in the type the WebDriver method returns: {@link FakeWebElement} for elements,
+     *         lists, strings, numbers, booleans, maps, PNG bytes for screenshots, or null
+     * @throws org.openqa.selenium.WebDriverException to simulate a browser-side error
+     */
+    Object respond(FakeWebDriver driver, FakeCommand command);
+}
@@ -0,0 +1,114 @@
+package com.demoqa.fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single WebDriver command in a browser-independent form, as answered by a {@link CommandResponder}
+ * and as stored by {@link CommandRecorder}.
+ *
+ * @param target {@link #DRIVER} for driver commands, otherwise the id of the element the command was sent to
+ * @param method The WebDriver or WebElement method name, e.g. "findElement" or "click"
+ * @param args Normalized arguments: elements as "element:&lt;id&gt;", locators as their toString,
+ *             key sequences joined, arrays as lists
+ */
+public record FakeCommand(String target, String method, List<Object> args) {
+
+    /**
+     * Target of commands sent to the driver itself
+     */
+    public static final String DRIVER = "driver";
+
+    /**
+     * Creates a command, normalizing the raw call arguments.
+     *
+     * @param target The command target
+     * @param method The method name
+     * @param rawArgs Arguments as passed to the WebDriver method, may be null
+     * @return The normalized command
+     */
+    public static FakeCommand of(String target, String method, Object... rawArgs) {
+        List<Object> args = new ArrayList<>();
+        if (rawArgs != null) {
+            for (Object arg : rawArgs) {
+                args.add(normalize(arg));
+            }
+        }
+        return new FakeCommand(target, method, args);
+    }
+
+    /**
+     * Gets the argument at the given position.
+     *
+     * @param index The argument index
+     * @return The normalized argument, or null if there are fewer arguments
+     */
+    public Object arg(int index) {
+        return index < args.size() ? args.get(index) : null;
+    }
+
+    /**
+     * Gets the id of an element, as used for {@link #target()} and in normalized arguments.
+     *
+     * @param element A fake, remote, decorated or wrapped element
+     * @return The element id
+     */
+    public static String elementId(WebElement element) {
+        if (element instanceof FakeWebElement fake) {
+            return fake.getId();
+        }
+        if (element instanceof RemoteWebElement remote) {
+            return remote.getId();
+        }
+        if (element instanceof Decorated<?> decorated && decorated.getOriginal() instanceof WebElement original) {
+            return elementId(original);
+        }
+        if (element instanceof WrapsElement wrapper && wrapper.getWrappedElement() != element) {
+            return elementId(wrapper.getWrappedElement());
+        }
+        return "unknown-" + System.identityHashCode(element);
+    }
+
+    static Object normalize(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof WebElement element) {
+            return "element:" + elementId(element);
+        }
+        if (value instanceof CharSequence[] keys) {
+            StringBuilder joined = new StringBuilder();
+            for (CharSequence key : keys) {
+                joined.append(key);
+            }
+            return joined.toString();
+        }
+        if (value instanceof Object[] array) {
+            return normalize(Arrays.asList(array));
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> list = new ArrayList<>(collection.size());
+            collection.forEach(item -> list.add(normalize(item)));
+            return list;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> normalized = new LinkedHashMap<>();
+            map.forEach((key, item) -> normalized.put(String.valueOf(key), normalize(item)));
+            return normalized;
+        }
+        if (value instanceof By || value instanceof OutputType<?> || value instanceof CharSequence) {
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+}
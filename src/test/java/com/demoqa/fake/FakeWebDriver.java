@@ -0,0 +1,248 @@
+package com.demoqa.fake;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link WebDriver} that page objects can run against without a browser.
+ * <p>
+ * Every driver and element command is turned into a {@link FakeCommand} and answered by a
+ * {@link CommandResponder}:
+ * <ul>
+ *   <li>{@link ScriptedBrowser} - an in-memory page with elements, scripts and alerts set up by the test</li>
+ *   <li>{@link ReplayBrowser} - answers recorded by {@link CommandRecorder} during a real run</li>
+ * </ul>
+ * Commands are counted per method, so benchmarks can relate framework time to the number of commands
+ * that would have gone over the wire. {@code manage()} and the window/frame parts of {@code switchTo()}
+ * are accepted locally as no-ops; {@code switchTo().alert()} is sent to the responder.
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot, HasCapabilities {
+
+    private final CommandResponder responder;
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final Map<String, FakeWebElement> elements = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a driver answering commands with the given responder.
+     *
+     * @param responder Produces the results of all commands
+     */
+    public FakeWebDriver(CommandResponder responder) {
+        this.responder = responder;
+    }
+
+    /**
+     * Returns the element reference with the given id, creating it on first use.
+     * Responders use this to return elements, so the same id always maps to an equal reference.
+     *
+     * @param id The element id
+     * @return The element reference
+     */
+    public FakeWebElement element(String id) {
+        return elements.computeIfAbsent(id, key -> new FakeWebElement(this, key));
+    }
+
+    /**
+     * Gets the number of commands sent so far.
+     *
+     * @return Total command count
+     */
+    public long getCommandCount() {
+        return commandCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Gets the number of commands sent so far per method.
+     *
+     * @return Counts keyed by method name, sorted by name
+     */
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        commandCounts.forEach((method, count) -> counts.put(method, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Resets all command counters.
+     */
+    public void resetCommandCounts() {
+        commandCounts.clear();
+    }
+
+    /**
+     * Sends a command to the responder.
+     *
+     * @param target {@link FakeCommand#DRIVER} or an element id
+     * @param method The method name
+     * @param args The raw call arguments
+     * @return The responder's result
+     */
+    Object execute(String target, String method, Object... args) {
+        commandCounts.computeIfAbsent(method, key -> new LongAdder()).increment();
+        return responder.respond(this, FakeCommand.of(target, method, args));
+    }
+
+    @Override
+    public void get(String url) {
+        execute(FakeCommand.DRIVER, "get", url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return (String) execute(FakeCommand.DRIVER, "getCurrentUrl");
+    }
+
+    @Override
+    public String getTitle() {
+        return (String) execute(FakeCommand.DRIVER, "getTitle");
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return toElementList(execute(FakeCommand.DRIVER, "findElements", by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return (WebElement) execute(FakeCommand.DRIVER, "findElement", by);
+    }
+
+    @Override
+    public String getPageSource() {
+        return (String) execute(FakeCommand.DRIVER, "getPageSource");
+    }
+
+    @Override
+    public void close() {
+        execute(FakeCommand.DRIVER, "close");
+    }
+
+    @Override
+    public void quit() {
+        execute(FakeCommand.DRIVER, "quit");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<String> getWindowHandles() {
+        Object handles = execute(FakeCommand.DRIVER, "getWindowHandles");
+        return handles == null ? Set.of() : new LinkedHashSet<>((List<String>) handles);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return (String) execute(FakeCommand.DRIVER, "getWindowHandle");
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return execute(FakeCommand.DRIVER, "executeScript", script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return execute(FakeCommand.DRIVER, "executeAsyncScript", script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return target.convertFromPngBytes((byte[]) execute(FakeCommand.DRIVER, "getScreenshotAs", target));
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return new ImmutableCapabilities("browserName", "fake");
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return localProxy(TargetLocator.class);
+    }
+
+    @Override
+    public Navigation navigate() {
+        return localProxy(Navigation.class);
+    }
+
+    @Override
+    public Options manage() {
+        return localProxy(Options.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<WebElement> toElementList(Object result) {
+        return result == null ? new ArrayList<>() : new ArrayList<>((List<WebElement>) result);
+    }
+
+    /**
+     * Implements the driver's helper interfaces locally: navigation is forwarded as "get", alerts go to the
+     * responder, methods returning the driver return this driver, nested helpers return further proxies,
+     * and everything else is a no-op.
+     */
+    private <T> T localProxy(Class<T> type) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> handleLocally(self, method, args));
+        return type.cast(proxy);
+    }
+
+    private Object handleLocally(Object self, Method method, Object[] args) {
+        String name = method.getName();
+        Class<?> returnType = method.getReturnType();
+        switch (name) {
+            case "equals" -> {
+                return self == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(self);
+            }
+            case "toString" -> {
+                return "Fake" + method.getDeclaringClass().getSimpleName();
+            }
+            case "to" -> {
+                get(String.valueOf(args[0]));
+                return null;
+            }
+            case "alert" -> {
+                return (Alert) execute(FakeCommand.DRIVER, "switchTo.alert");
+            }
+            default -> {
+            }
+        }
+        if (returnType == WebDriver.class) {
+            return this;
+        }
+        if (returnType.isInterface() && returnType.getEnclosingClass() == WebDriver.class) {
+            return localProxy(returnType);
+        }
+        if (returnType == Set.class) {
+            return Collections.emptySet();
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == Duration.class) {
+            return Duration.ZERO;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,170 @@
+package com.demoqa.fake;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Element reference of a {@link FakeWebDriver}. Holds only its id; every call is sent to the driver's
+ * {@link CommandResponder} with the id as command target.
+ */
+public final class FakeWebElement implements WebElement {
+
+    private final FakeWebDriver driver;
+    private final String id;
+
+    FakeWebElement(FakeWebDriver driver, String id) {
+        this.driver = driver;
+        this.id = id;
+    }
+
+    /**
+     * Gets the element id.
+     *
+     * @return The id assigned by the responder
+     */
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void click() {
+        driver.execute(id, "click");
+    }
+
+    @Override
+    public void submit() {
+        driver.execute(id, "submit");
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.execute(id, "sendKeys", (Object) keysToSend);
+    }
+
+    @Override
+    public void clear() {
+        driver.execute(id, "clear");
+    }
+
+    @Override
+    public String getTagName() {
+        return (String) driver.execute(id, "getTagName");
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return (String) driver.execute(id, "getDomProperty", name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return (String) driver.execute(id, "getDomAttribute", name);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return (String) driver.execute(id, "getAttribute", name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return Boolean.TRUE.equals(driver.execute(id, "isSelected"));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(driver.execute(id, "isEnabled"));
+    }
+
+    @Override
+    public String getText() {
+        return (String) driver.execute(id, "getText");
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return FakeWebDriver.toElementList(driver.execute(id, "findElements", by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return (WebElement) driver.execute(id, "findElement", by);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return Boolean.TRUE.equals(driver.execute(id, "isDisplayed"));
+    }
+
+    @Override
+    public Point getLocation() {
+        Rectangle rect = toRectangle(driver.execute(id, "getLocation"));
+        return rect.getPoint();
+    }
+
+    @Override
+    public Dimension getSize() {
+        Rectangle rect = toRectangle(driver.execute(id, "getSize"));
+        return rect.getDimension();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return toRectangle(driver.execute(id, "getRect"));
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return (String) driver.execute(id, "getCssValue", propertyName);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return target.convertFromPngBytes((byte[]) driver.execute(id, "getScreenshotAs", target));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FakeWebElement element && element.driver == driver && element.id.equals(id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FakeWebElement[" + id + "]";
+    }
+
+    /**
+     * Accepts geometry as Selenium types or as the maps {@link CommandRecorder} stores.
+     */
+    private static Rectangle toRectangle(Object value) {
+        if (value instanceof Rectangle rectangle) {
+            return rectangle;
+        }
+        if (value instanceof Point point) {
+            return new Rectangle(point, new Dimension(0, 0));
+        }
+        if (value instanceof Dimension dimension) {
+            return new Rectangle(new Point(0, 0), dimension);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return new Rectangle(intValue(map.get("x")), intValue(map.get("y")),
+                    intValue(map.get("height")), intValue(map.get("width")));
+        }
+        return new Rectangle(0, 0, 0, 0);
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+}
@@ -0,0 +1,153 @@
+package com.demoqa.fake;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers commands with the results recorded by {@link CommandRecorder} in a real run.
+ * <p>
+ * Commands must arrive in the recorded order. Since every recorded result is returned as it was, waits
+ * and retries in the page layer take the same paths as in the real run, only without browser latency.
+ * A command that differs from the next recorded one means the page layer changed its behavior, and
+ * fails the replay with an {@link IllegalStateException} naming both commands.
+ */
+public class ReplayBrowser implements CommandResponder {
+
+    private static final Json JSON = new Json();
+
+    private final List<Map<String, Object>> recorded;
+    private final List<String> recordedKeys;
+    private int position;
+
+    /**
+     * Creates a replay of recorded commands.
+     *
+     * @param recorded Recorded command lines as maps with target, method, args and result or error
+     */
+    public ReplayBrowser(List<Map<String, Object>> recorded) {
+        this.recorded = new ArrayList<>(recorded);
+        this.recordedKeys = new ArrayList<>(recorded.size());
+        recorded.forEach(line -> recordedKeys.add(key(toCommand(line))));
+    }
+
+    /**
+     * Loads a recording written by {@link CommandRecorder}.
+     *
+     * @param file The JSON lines file
+     * @return The replay, positioned at the first command
+     * @throws IOException if the file cannot be read
+     */
+    public static ReplayBrowser load(Path file) throws IOException {
+        List<Map<String, Object>> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                lines.add(JSON.toType(line, Json.MAP_TYPE));
+            }
+        }
+        return new ReplayBrowser(lines);
+    }
+
+    /**
+     * Rewinds to the first recorded command, so the same recording can be replayed repeatedly, e.g. in benchmarks.
+     */
+    public synchronized void rewind() {
+        position = 0;
+    }
+
+    /**
+     * Gets the number of recorded commands not replayed yet.
+     *
+     * @return Remaining command count
+     */
+    public synchronized int remaining() {
+        return recorded.size() - position;
+    }
+
+    @Override
+    public synchronized Object respond(FakeWebDriver driver, FakeCommand command) {
+        if (position >= recorded.size()) {
+            throw new IllegalStateException("Replay exhausted after " + recorded.size() + " commands, got " + describe(command));
+        }
+        Map<String, Object> expected = recorded.get(position);
+        if (!recordedKeys.get(position).equals(key(command))) {
+            throw new IllegalStateException("Replay diverged at command " + (position + 1) + ": recorded "
+                    + describe(toCommand(expected)) + " but got " + describe(command));
+        }
+        position++;
+
+        if (expected.containsKey("error")) {
+            throw toException((Map<?, ?>) expected.get("error"));
+        }
+        Object result = decode(driver, expected.get("result"));
+        if ("getScreenshotAs".equals(command.method()) && result instanceof String base64) {
+            return Base64.getDecoder().decode(base64);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FakeCommand toCommand(Map<String, Object> line) {
+        List<Object> args = line.get("args") instanceof List<?> list ? (List<Object>) list : List.of();
+        return new FakeCommand(String.valueOf(line.get("target")), String.valueOf(line.get("method")), args);
+    }
+
+    private static Object decode(FakeWebDriver driver, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            if (map.size() == 1 && map.containsKey(CommandRecorder.ELEMENT_KEY)) {
+                return driver.element(String.valueOf(map.get(CommandRecorder.ELEMENT_KEY)));
+            }
+            if (map.size() == 1 && map.containsKey(CommandRecorder.PNG_KEY)) {
+                return Base64.getDecoder().decode(String.valueOf(map.get(CommandRecorder.PNG_KEY)));
+            }
+            Map<String, Object> decoded = new LinkedHashMap<>();
+            map.forEach((key, item) -> decoded.put(String.valueOf(key), decode(driver, item)));
+            return decoded;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> decoded = new ArrayList<>(list.size());
+            list.forEach(item -> decoded.add(decode(driver, item)));
+            return decoded;
+        }
+        return value;
+    }
+
+    /**
+     * Recreates the recorded exception type if it is a WebDriverException with a message constructor.
+     */
+    private static RuntimeException toException(Map<?, ?> error) {
+        String message = String.valueOf(error.get("message"));
+        try {
+            Class<?> type = Class.forName(String.valueOf(error.get("type")));
+            if (WebDriverException.class.isAssignableFrom(type)) {
+                Constructor<?> constructor = type.getConstructor(String.class);
+                return (RuntimeException) constructor.newInstance(message);
+            }
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // Fall through to a generic WebDriverException
+        }
+        return new WebDriverException(error.get("type") + ": " + message);
+    }
+
+    /**
+     * Renders a command for comparison. Using the string form lets numbers parsed from the recording (Long)
+     * compare equal to live ones (Integer).
+     */
+    private static String key(FakeCommand command) {
+        return command.target() + '.' + command.method() + command.args();
+    }
+
+    private static String describe(FakeCommand command) {
+        String args = JSON.toJson(command.args()).replace('\n', ' ');
+        return command.target() + "." + command.method() + (args.length() > 200 ? args.substring(0, 200) + "..." : args);
+    }
+}
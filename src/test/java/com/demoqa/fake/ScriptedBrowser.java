@@ -0,0 +1,362 @@
+package com.demoqa.fake;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * In-memory page for {@link FakeWebDriver}, set up by the test instead of loaded from a server.
+ * <p>
+ * Elements are registered per locator and answer the usual WebElement queries from their state;
+ * {@code sendKeys} appends to the "value" attribute and {@code clear} empties it. Scripts are answered by
+ * handlers registered for a fragment of the script source, checked in registration order. Built in:
+ * <ul>
+ *   <li>{@code document.readyState} returns "complete"</li>
+ *   <li>{@code arguments[0].click()} clicks the element passed as first argument</li>
+ *   <li>Any other script returns null</li>
+ * </ul>
+ * Example:
+ * <pre>{@code
+ * ScriptedBrowser browser = new ScriptedBrowser();
+ * browser.element(By.id("submit")).tag("button");
+ * browser.element(By.id("output")).text("Name:John").displayed(false);
+ * WebDriver driver = new FakeWebDriver(browser);
+ * }</pre>
+ */
+public class ScriptedBrowser implements CommandResponder {
+
+    /**
+     * Smallest valid PNG (1x1 transparent), returned for screenshots unless an element defines its own
+     */
+    private static final byte[] BLANK_PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    private final Map<String, List<Element>> elementsByLocator = new HashMap<>();
+    private final Map<String, Element> elementsById = new HashMap<>();
+    private final Map<String, Function<List<Object>, Object>> scripts = new LinkedHashMap<>();
+    private final Deque<Alert> alerts = new ArrayDeque<>();
+    private final List<FakeCommand> commands = new ArrayList<>();
+    private final AtomicInteger ids = new AtomicInteger();
+    private String currentUrl = "about:blank";
+    private String title = "";
+
+    /**
+     * Creates an empty page.
+     */
+    public ScriptedBrowser() {
+        script("document.readyState", args -> "complete");
+    }
+
+    /**
+     * State of a scripted element. Setters return the element for chaining.
+     */
+    public static final class Element {
+
+        private final String id;
+        private final Map<String, String> attributes = new HashMap<>();
+        private final Map<String, String> cssValues = new HashMap<>();
+        private final Map<String, List<Element>> children = new HashMap<>();
+        private String tag = "div";
+        private String text = "";
+        private boolean displayed = true;
+        private boolean enabled = true;
+        private boolean selected;
+        private Rectangle rect = new Rectangle(0, 0, 20, 100);
+        private byte[] screenshot = BLANK_PNG;
+        private Runnable onClick = () -> { };
+        private int clicks;
+
+        private Element(String id) {
+            this.id = id;
+        }
+
+        public Element tag(String tag) {
+            this.tag = tag;
+            return this;
+        }
+
+        public Element text(String text) {
+            this.text = text;
+            return this;
+        }
+
+        public Element attribute(String name, String value) {
+            attributes.put(name, value);
+            return this;
+        }
+
+        public Element css(String property, String value) {
+            cssValues.put(property, value);
+            return this;
+        }
+
+        public Element displayed(boolean displayed) {
+            this.displayed = displayed;
+            return this;
+        }
+
+        public Element enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Element selected(boolean selected) {
+            this.selected = selected;
+            return this;
+        }
+
+        public Element rect(Rectangle rect) {
+            this.rect = rect;
+            return this;
+        }
+
+        public Element screenshot(byte[] png) {
+            this.screenshot = png;
+            return this;
+        }
+
+        /**
+         * Sets an action run on every click, e.g. to reveal another element.
+         *
+         * @param onClick The action
+         * @return This element
+         */
+        public Element onClick(Runnable onClick) {
+            this.onClick = onClick;
+            return this;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getValue() {
+            return attributes.getOrDefault("value", "");
+        }
+
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        public int getClicks() {
+            return clicks;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+
+        public boolean isDisplayed() {
+            return displayed;
+        }
+    }
+
+    /**
+     * Registers an element found by the given locator. Registering several elements under the same locator
+     * makes {@code findElements} return all of them and {@code findElement} the first.
+     *
+     * @param locator The locator page objects use
+     * @return The new element
+     */
+    public synchronized Element element(By locator) {
+        Element element = new Element("fake-" + ids.incrementAndGet());
+        elementsByLocator.computeIfAbsent(locator.toString(), key -> new ArrayList<>()).add(element);
+        elementsById.put(element.id, element);
+        return element;
+    }
+
+    /**
+     * Registers an element found by the given locator inside a parent element.
+     *
+     * @param parent The parent element
+     * @param locator The locator relative to the parent
+     * @return The new element
+     */
+    public synchronized Element child(Element parent, By locator) {
+        Element element = new Element("fake-" + ids.incrementAndGet());
+        parent.children.computeIfAbsent(locator.toString(), key -> new ArrayList<>()).add(element);
+        elementsById.put(element.id, element);
+        return element;
+    }
+
+    /**
+     * Removes all elements registered for a locator, e.g. to simulate an element disappearing.
+     *
+     * @param locator The locator
+     */
+    public synchronized void remove(By locator) {
+        List<Element> removed = elementsByLocator.remove(locator.toString());
+        if (removed != null) {
+            removed.forEach(element -> elementsById.remove(element.id));
+        }
+    }
+
+    /**
+     * Registers the answer to scripts containing the given fragment. Later registrations for the
+     * same fragment replace earlier ones.
+     *
+     * @param fragment Part of the script source identifying the script
+     * @param handler Computes the result from the normalized script arguments (elements as "element:&lt;id&gt;")
+     */
+    public synchronized void script(String fragment, Function<List<Object>, Object> handler) {
+        scripts.remove(fragment);
+        scripts.put(fragment, handler);
+    }
+
+    /**
+     * Queues an alert returned by the next {@code switchTo().alert()}.
+     *
+     * @param alert The alert
+     */
+    public synchronized void alert(Alert alert) {
+        alerts.add(alert);
+    }
+
+    /**
+     * Sets the title returned by {@code getTitle()}.
+     *
+     * @param title The page title
+     */
+    public void title(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Gets the scripted element behind a fake element reference.
+     *
+     * @param id The element id
+     * @return The element state, or null if the id is unknown
+     */
+    public synchronized Element lookup(String id) {
+        return elementsById.get(id);
+    }
+
+    /**
+     * Gets all commands answered so far, in order.
+     *
+     * @return A copy of the command log
+     */
+    public synchronized List<FakeCommand> getCommands() {
+        return new ArrayList<>(commands);
+    }
+
+    @Override
+    public synchronized Object respond(FakeWebDriver driver, FakeCommand command) {
+        commands.add(command);
+        if (FakeCommand.DRIVER.equals(command.target())) {
+            return respondToDriver(driver, command);
+        }
+        Element element = elementsById.get(command.target());
+        if (element == null) {
+            throw new StaleElementReferenceException("Element " + command.target() + " is gone");
+        }
+        return respondToElement(driver, element, command);
+    }
+
+    private Object respondToDriver(FakeWebDriver driver, FakeCommand command) {
+        return switch (command.method()) {
+            case "get" -> {
+                currentUrl = String.valueOf(command.arg(0));
+                yield null;
+            }
+            case "getCurrentUrl" -> currentUrl;
+            case "getTitle" -> title;
+            case "getPageSource" -> "<html></html>";
+            case "getWindowHandle" -> "fake-window";
+            case "getWindowHandles" -> List.of("fake-window");
+            case "close", "quit" -> null;
+            case "findElement" -> first(driver, elementsByLocator, command);
+            case "findElements" -> all(driver, elementsByLocator, command);
+            case "executeScript", "executeAsyncScript" -> runScript(command);
+            case "getScreenshotAs" -> BLANK_PNG;
+            case "switchTo.alert" -> {
+                if (alerts.isEmpty()) {
+                    throw new NoAlertPresentException();
+                }
+                yield alerts.poll();
+            }
+            default -> throw new UnsupportedCommandException(command.method());
+        };
+    }
+
+    private Object respondToElement(FakeWebDriver driver, Element element, FakeCommand command) {
+        return switch (command.method()) {
+            case "click" -> {
+                element.clicks++;
+                element.onClick.run();
+                yield null;
+            }
+            case "submit" -> null;
+            case "sendKeys" -> {
+                element.attributes.put("value", element.getValue() + command.arg(0));
+                yield null;
+            }
+            case "clear" -> {
+                element.attributes.put("value", "");
+                yield null;
+            }
+            case "getTagName" -> element.tag;
+            case "getAttribute", "getDomAttribute", "getDomProperty" -> element.attributes.get(String.valueOf(command.arg(0)));
+            case "getCssValue" -> element.cssValues.getOrDefault(String.valueOf(command.arg(0)), "");
+            case "getText" -> element.displayed ? element.text : "";
+            case "isDisplayed" -> element.displayed;
+            case "isEnabled" -> element.enabled;
+            case "isSelected" -> element.selected;
+            case "getRect", "getLocation", "getSize" -> element.rect;
+            case "getScreenshotAs" -> element.screenshot;
+            case "findElement" -> first(driver, element.children, command);
+            case "findElements" -> all(driver, element.children, command);
+            default -> throw new UnsupportedCommandException(command.method());
+        };
+    }
+
+    private Object first(FakeWebDriver driver, Map<String, List<Element>> index, FakeCommand command) {
+        List<Element> matches = index.get(String.valueOf(command.arg(0)));
+        if (matches == null || matches.isEmpty()) {
+            throw new NoSuchElementException("No scripted element for " + command.arg(0));
+        }
+        return driver.element(matches.getFirst().id);
+    }
+
+    private Object all(FakeWebDriver driver, Map<String, List<Element>> index, FakeCommand command) {
+        List<Object> result = new ArrayList<>();
+        index.getOrDefault(String.valueOf(command.arg(0)), List.of())
+                .forEach(element -> result.add(driver.element(element.id)));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object runScript(FakeCommand command) {
+        String source = String.valueOf(command.arg(0));
+        List<Object> args = command.arg(1) instanceof List<?> list ? (List<Object>) list : List.of();
+        if (source.trim().startsWith("arguments[0].click()") && !args.isEmpty()
+                && String.valueOf(args.getFirst()).startsWith("element:")) {
+            Element element = elementsById.get(String.valueOf(args.getFirst()).substring("element:".length()));
+            if (element != null) {
+                element.clicks++;
+                element.onClick.run();
+            }
+            return null;
+        }
+        for (Map.Entry<String, Function<List<Object>, Object>> script : scripts.entrySet()) {
+            if (source.contains(script.getKey())) {
+                return script.getValue().apply(args);
+            }
+        }
+        return null;
+    }
+}
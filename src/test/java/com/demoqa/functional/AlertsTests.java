@@ -1,12 +1,10 @@
 package com.demoqa.functional;
 
 import com.demoqa.base.BaseTest;
-import com.demoqa.config.ConfigurationManager;
 import com.demoqa.pages.alerts.AlertPage;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.TimeoutException;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 /**
@@ -32,15 +30,6 @@ public class AlertsTests extends BaseTest {
      */
     private AlertPage alertPage;
 
-    /**
-     * Initializes page objects before each test method execution.
-     * Creates new instance of AlertsPage bound to the current WebDriver.
-     */
-    @BeforeMethod
-    public void setupPages() {
-        alertPage = new AlertPage(driver);
-    }
-
     /**
      * Tests basic JavaScript alert functionality.
      * Verifies:
@@ -52,7 +41,7 @@ public class AlertsTests extends BaseTest {
      */
     @Test
     public void testSimpleAlert() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/alerts");
+        alertPage = navigateTo(AlertPage.class);
 
         alertPage.clickAlertButton();
 
@@ -77,7 +66,7 @@ public class AlertsTests extends BaseTest {
      */
     @Test
     public void testConfirmAlert() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/alerts");
+        alertPage = navigateTo(AlertPage.class);
 
         alertPage.clickConfirmButton();
 
@@ -103,7 +92,7 @@ public class AlertsTests extends BaseTest {
     @Test
     public void testPromptAlert() {
         final String testText = "Hello World";
-        driver.get(new ConfigurationManager().getBaseUrl() + "/alerts");
+        alertPage = navigateTo(AlertPage.class);
 
         alertPage.clickPromptButton();
 
@@ -1,13 +1,14 @@
 package com.demoqa.functional;
 
 import com.demoqa.base.BaseTest;
-import com.demoqa.config.ConfigurationManager;
+import com.demoqa.data.TestDataRecord;
+import com.demoqa.pages.ElementSnapshot;
 import com.demoqa.pages.elements.CheckBoxPage;
 import com.demoqa.pages.elements.RadioButtonPage;
 import com.demoqa.pages.elements.TextBoxPage;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import java.util.List;
 
 /**
  * Functional test class for verifying various HTML elements functionality.
@@ -42,34 +43,20 @@ public class ElementsTests extends BaseTest {
      */
     private RadioButtonPage radioButtonPage;
 
-    /**
-     * Initializes all page objects before each test method execution.
-     * Creates instances of:
-     * - TextBoxPage
-     * - CheckBoxPage
-     * - RadioButtonPage
-     * bound to the current WebDriver instance.
-     */
-    @BeforeMethod
-    public void setupPages() {
-        textBoxPage = new TextBoxPage(driver);
-        checkBoxPage = new CheckBoxPage(driver);
-        radioButtonPage = new RadioButtonPage(driver);
-    }
-
     /**
      * Tests Text Box form submission functionality.
      * Verifies:
      * <ul>
-     *   <li>Form can be filled with test data</li>
+     *   <li>Form can be filled with a synthetic person from {@link #testData()}</li>
      *   <li>Form can be successfully submitted</li>
      *   <li>Output section appears after submission</li>
      * </ul>
      */
     @Test
     public void testTextBoxFormSubmission() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/text-box");
-        textBoxPage.fillForm("John Doe", "john.doe@example.com", "123 Main St", "456 Park Ave");
+        textBoxPage = navigateTo(TextBoxPage.class);
+        TestDataRecord person = testData().next();
+        textBoxPage.fillForm(person.fullName(), person.email(), person.currentAddress(), person.permanentAddress());
         textBoxPage.submitForm();
         Assert.assertTrue(textBoxPage.isOutputDisplayed(),
                 "Output box should be visible after form submission");
@@ -81,17 +68,20 @@ public class ElementsTests extends BaseTest {
      * <ul>
      *   <li>All nodes can be expanded</li>
      *   <li>Parent checkbox selects all child nodes</li>
-     *   <li>Correct number of checkboxes are selected</li>
+     *   <li>Correct number of checkboxes are selected and visible</li>
      *   <li>Result text reflects the selection</li>
      * </ul>
      */
     @Test
     public void testCheckBoxSelection() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/checkbox");
+        checkBoxPage = navigateTo(CheckBoxPage.class);
         checkBoxPage.expandAll();
         checkBoxPage.selectHomeCheckBox();
-        Assert.assertEquals(checkBoxPage.getSelectedCheckboxesCount(), 17,
+        List<ElementSnapshot> selectedCheckboxes = checkBoxPage.getSelectedCheckboxes();
+        Assert.assertEquals(selectedCheckboxes.size(), 17,
                 "All 17 child nodes should be selected when choosing Home");
+        Assert.assertTrue(selectedCheckboxes.stream().allMatch(ElementSnapshot::isDisplayed),
+                "All selected checkboxes should be visible in the expanded tree");
         Assert.assertTrue(checkBoxPage.getResultText().contains("home"),
                 "Selection result should include 'home'");
     }
@@ -108,7 +98,7 @@ public class ElementsTests extends BaseTest {
      */
     @Test
     public void testRadioButtonSelection() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/radio-button");
+        radioButtonPage = navigateTo(RadioButtonPage.class);
         radioButtonPage.clickYesRadioButton();
         Assert.assertTrue(radioButtonPage.getResultText().contains("Yes"),
                 "Result should reflect 'Yes' selection");
@@ -1,10 +1,9 @@
 package com.demoqa.functional;
 
 import com.demoqa.base.BaseTest;
-import com.demoqa.config.ConfigurationManager;
+import com.demoqa.data.TestDataRecord;
 import com.demoqa.pages.forms.PracticeFormPage;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import java.io.File;
 import java.util.List;
@@ -34,15 +33,6 @@ public class FormsTests extends BaseTest {
      */
     private static final String TEST_IMAGE_PATH = new File("src/test/resources/test_data/test_image.png").getAbsolutePath();
 
-    /**
-     * Initializes page objects before each test method execution.
-     * Creates instance of PracticeFormPage bound to the current WebDriver.
-     */
-    @BeforeMethod
-    public void setupPages() {
-        practiceFormPage = new PracticeFormPage(driver);
-    }
-
     /**
      * Tests complete form submission with all possible field types.
      * Verifies:
@@ -55,33 +45,26 @@ public class FormsTests extends BaseTest {
      *   <li>Modal can be closed</li>
      * </ul>
      *
-     * <p>Test data includes:
-     * <ul>
-     *   <li>Name: John Doe</li>
-     *   <li>Email: john.doe@example.com</li>
-     *   <li>Gender: Male</li>
-     *   <li>Phone: 1234567890</li>
-     *   <li>Date of Birth: 01 Jan 2000</li>
-     *   <li>Subject: Maths</li>
-     *   <li>Hobby: Sports</li>
-     *   <li>Image: test_image.png</li>
-     *   <li>Address: 123 Main St, New York</li>
-     * </ul>
+     * <p>Name, email, gender, phone, date of birth, subject, hobby and address come from
+     * {@link #testData()}, so every run submits a unique person that can be reproduced from the logged seed.
+     * The picture is test_image.png.
      */
     @Test
     public void testFormSubmissionWithAllFields() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/automation-practice-form");
+        practiceFormPage = navigateTo(PracticeFormPage.class);
+
+        TestDataRecord person = testData().next();
 
-        practiceFormPage.enterFirstName("John");
-        practiceFormPage.enterLastName("Doe");
-        practiceFormPage.enterEmail("john.doe@example.com");
-        practiceFormPage.selectGender("Male");
-        practiceFormPage.enterPhoneNumber("1234567890");
-        practiceFormPage.setDateOfBirthSimple("01/15/1990");
-        practiceFormPage.enterSubjects("Maths");
-        practiceFormPage.selectHobbies(List.of("Sports"));
+        practiceFormPage.enterFirstName(person.firstName());
+        practiceFormPage.enterLastName(person.lastName());
+        practiceFormPage.enterEmail(person.email());
+        practiceFormPage.selectGender(person.gender());
+        practiceFormPage.enterPhoneNumber(person.phone());
+        practiceFormPage.setDateOfBirthSimple(person.dateOfBirth());
+        practiceFormPage.enterSubjects(person.subject());
+        practiceFormPage.selectHobbies(List.of(person.hobby()));
         practiceFormPage.uploadPicture(TEST_IMAGE_PATH);
-        practiceFormPage.enterAddress("123 Main St");
+        practiceFormPage.enterAddress(person.currentAddress());
         practiceFormPage.submitForm();
 
         Assert.assertTrue(practiceFormPage.isModalDisplayed(),
@@ -0,0 +1,185 @@
+package com.demoqa.history;
+
+import com.demoqa.history.RunHistory.Outcome;
+import com.demoqa.history.RunHistory.Status;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds duration regressions and flaky tests in a {@link RunHistory}.
+ * <p>
+ * Only the last {@code window} runs of each test are considered, so old failures and timings age out.
+ * <ul>
+ *   <li>Duration regression: the test passed in the current run, at least {@link #MIN_BASELINE_RUNS}
+ *       earlier passing runs exist, and its duration is at least {@code ratio} times the median of those
+ *       runs and at least {@code minMillis} above it</li>
+ *   <li>Flaky: the test both passed and failed within the window and its outcome changed at least twice,
+ *       or it both passed and failed within a single run (retries)</li>
+ * </ul>
+ */
+public final class HistoryAnalyzer {
+
+    /**
+     * Earlier passing runs required before a test's duration is compared
+     */
+    public static final int MIN_BASELINE_RUNS = 5;
+
+    private final int window;
+    private final double ratio;
+    private final long minMillis;
+
+    /**
+     * A test that got slower in the current run.
+     *
+     * @param test The test name
+     * @param currentMillis Duration in the current run
+     * @param baselineMillis Median duration of earlier passing runs in the window
+     */
+    public record Regression(String test, long currentMillis, long baselineMillis) {
+    }
+
+    /**
+     * A test with changing outcomes.
+     *
+     * @param test The test name
+     * @param runs Runs in the window
+     * @param failedRuns Runs with at least one failure
+     * @param flips Outcome changes between consecutive runs, plus runs that both passed and failed
+     */
+    public record Flakiness(String test, int runs, int failedRuns, int flips) {
+
+        /**
+         * Gets how often the outcome changed relative to the number of runs.
+         *
+         * @return Flips per run, between 0 and 1
+         */
+        public double flipRate() {
+            return runs == 0 ? 0 : Math.min(1.0, (double) flips / runs);
+        }
+    }
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param window Number of most recent runs per test to consider
+     * @param ratio Minimum current/baseline duration ratio for a regression
+     * @param minMillis Minimum absolute slowdown for a regression, to ignore noise on fast tests
+     */
+    public HistoryAnalyzer(int window, double ratio, long minMillis) {
+        this.window = window;
+        this.ratio = ratio;
+        this.minMillis = minMillis;
+    }
+
+    /**
+     * Compares the current run's durations with each test's earlier runs.
+     *
+     * @param history Outcomes per test, including the current run
+     * @param currentRunId Run id of the current run
+     * @return Regressions, largest slowdown ratio first
+     */
+    public List<Regression> findRegressions(Map<String, List<Outcome>> history, long currentRunId) {
+        List<Regression> regressions = new ArrayList<>();
+        history.forEach((test, outcomes) -> {
+            Map<Long, List<Outcome>> runs = lastRuns(outcomes);
+            List<Outcome> current = runs.remove(currentRunId);
+            if (current == null) {
+                return;
+            }
+            long currentMillis = medianPassingDuration(current);
+            List<Long> baseline = new ArrayList<>();
+            runs.values().forEach(run -> {
+                long millis = medianPassingDuration(run);
+                if (millis >= 0) {
+                    baseline.add(millis);
+                }
+            });
+            if (currentMillis < 0 || baseline.size() < MIN_BASELINE_RUNS) {
+                return;
+            }
+            long baselineMillis = median(baseline);
+            if (currentMillis >= baselineMillis * ratio && currentMillis - baselineMillis >= minMillis) {
+                regressions.add(new Regression(test, currentMillis, baselineMillis));
+            }
+        });
+        regressions.sort(Comparator.comparingDouble(
+                (Regression r) -> (double) r.currentMillis() / Math.max(1, r.baselineMillis())).reversed());
+        return regressions;
+    }
+
+    /**
+     * Finds tests whose outcome changes between or within runs.
+     *
+     * @param history Outcomes per test
+     * @return Flaky tests, highest flip rate first
+     */
+    public List<Flakiness> findFlaky(Map<String, List<Outcome>> history) {
+        List<Flakiness> flaky = new ArrayList<>();
+        history.forEach((test, outcomes) -> {
+            int runs = 0;
+            int failedRuns = 0;
+            int flips = 0;
+            boolean mixedRun = false;
+            Boolean previousFailed = null;
+            for (List<Outcome> run : lastRuns(outcomes).values()) {
+                boolean passed = run.stream().anyMatch(outcome -> outcome.status() == Status.PASS);
+                boolean failed = run.stream().anyMatch(outcome -> outcome.status() == Status.FAIL);
+                if (!passed && !failed) {
+                    continue;
+                }
+                runs++;
+                if (failed) {
+                    failedRuns++;
+                }
+                if (passed && failed) {
+                    mixedRun = true;
+                    flips++;
+                }
+                if (previousFailed != null && previousFailed != failed) {
+                    flips++;
+                }
+                previousFailed = failed;
+            }
+            if (mixedRun || (failedRuns > 0 && failedRuns < runs && flips >= 2)) {
+                flaky.add(new Flakiness(test, runs, failedRuns, flips));
+            }
+        });
+        flaky.sort(Comparator.comparingDouble(Flakiness::flipRate).reversed());
+        return flaky;
+    }
+
+    /**
+     * Groups a test's outcomes by run and keeps the most recent runs, oldest first.
+     */
+    private Map<Long, List<Outcome>> lastRuns(List<Outcome> outcomes) {
+        Map<Long, List<Outcome>> runs = new LinkedHashMap<>();
+        for (Outcome outcome : outcomes) {
+            runs.computeIfAbsent(outcome.runId(), key -> new ArrayList<>()).add(outcome);
+        }
+        List<Long> runIds = new ArrayList<>(runs.keySet());
+        for (int i = 0; i < runIds.size() - window; i++) {
+            runs.remove(runIds.get(i));
+        }
+        return runs;
+    }
+
+    /**
+     * Gets the median duration of the passing outcomes of a run, or -1 if none passed.
+     */
+    private static long medianPassingDuration(List<Outcome> run) {
+        List<Long> durations = new ArrayList<>();
+        run.stream()
+                .filter(outcome -> outcome.status() == Status.PASS)
+                .forEach(outcome -> durations.add((long) outcome.durationMillis()));
+        return durations.isEmpty() ? -1 : median(durations);
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        return sorted.get(sorted.size() / 2);
+    }
+}
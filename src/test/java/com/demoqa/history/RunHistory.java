@@ -0,0 +1,157 @@
+package com.demoqa.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only store of per-test outcomes and durations across runs.
+ * <p>
+ * Two files in the history directory:
+ * <ul>
+ *   <li>{@code tests.txt} - one test name per line; the line number is the test's index</li>
+ *   <li>{@code results.bin} - a 4-byte magic number, then fixed 17-byte records:
+ *       run id (long, run start in epoch millis), test index (int), status (byte), duration in ms (int)</li>
+ * </ul>
+ * Fixed records keep thousands of runs in a few megabytes and let {@link #read()} scan a memory-mapped
+ * file without parsing. Appends hold an exclusive lock on results.bin, so parallel forks can share a store.
+ */
+public final class RunHistory {
+
+    private static final int MAGIC = 0x52484931; // "RHI1"
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final int RECORD_BYTES = Long.BYTES + Integer.BYTES + 1 + Integer.BYTES;
+
+    private final Path namesFile;
+    private final Path resultsFile;
+
+    /**
+     * Outcome of a test in a run.
+     */
+    public enum Status {
+        PASS, FAIL, SKIP
+    }
+
+    /**
+     * One test execution.
+     *
+     * @param runId Start of the run in epoch millis, shared by all outcomes of the run
+     * @param test Test name, e.g. the qualified method name plus browser
+     * @param status The outcome
+     * @param durationMillis Execution time of the test method
+     */
+    public record Outcome(long runId, String test, Status status, int durationMillis) {
+    }
+
+    /**
+     * Creates a store in the given directory. Files are created on the first append.
+     *
+     * @param directory The history directory
+     */
+    public RunHistory(Path directory) {
+        this.namesFile = directory.resolve("tests.txt");
+        this.resultsFile = directory.resolve("results.bin");
+    }
+
+    /**
+     * Appends the outcomes of a run.
+     *
+     * @param outcomes The outcomes to append
+     * @throws IOException if the store cannot be written
+     */
+    public void append(List<Outcome> outcomes) throws IOException {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        try (FileChannel results = FileChannel.open(resultsFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             FileLock ignored = results.lock()) {
+            // Names are only read and extended while holding the lock, so indices stay consistent
+            List<String> names = readNames();
+            Map<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                indices.put(names.get(i), i);
+            }
+            List<String> newNames = new ArrayList<>();
+
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + outcomes.size() * RECORD_BYTES);
+            if (results.size() == 0) {
+                buffer.putInt(MAGIC);
+            }
+            for (Outcome outcome : outcomes) {
+                Integer index = indices.get(outcome.test());
+                if (index == null) {
+                    index = names.size() + newNames.size();
+                    indices.put(outcome.test(), index);
+                    newNames.add(outcome.test());
+                }
+                buffer.putLong(outcome.runId())
+                        .putInt(index)
+                        .put((byte) outcome.status().ordinal())
+                        .putInt(outcome.durationMillis());
+            }
+            if (!newNames.isEmpty()) {
+                Files.write(namesFile, newNames, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                results.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Reads all outcomes, grouped by test in append order (oldest first).
+     * A truncated last record, e.g. from a killed fork, is ignored.
+     *
+     * @return Outcomes per test name, empty if the store does not exist yet
+     * @throws IOException if the store cannot be read or is not a run history
+     */
+    public Map<String, List<Outcome>> read() throws IOException {
+        Map<String, List<Outcome>> byTest = new LinkedHashMap<>();
+        if (!Files.exists(resultsFile)) {
+            return byTest;
+        }
+        List<String> names = readNames();
+        try (FileChannel results = FileChannel.open(resultsFile, StandardOpenOption.READ)) {
+            long size = results.size();
+            if (size < HEADER_BYTES) {
+                return byTest;
+            }
+            MappedByteBuffer buffer = results.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a run history file: " + resultsFile);
+            }
+            Status[] statuses = Status.values();
+            while (buffer.remaining() >= RECORD_BYTES) {
+                long runId = buffer.getLong();
+                int index = buffer.getInt();
+                Status status = statuses[buffer.get()];
+                int duration = buffer.getInt();
+                if (index < names.size()) {
+                    String test = names.get(index);
+                    byTest.computeIfAbsent(test, key -> new ArrayList<>())
+                            .add(new Outcome(runId, test, status, duration));
+                }
+            }
+        }
+        return byTest;
+    }
+
+    private List<String> readNames() throws IOException {
+        return Files.exists(namesFile) ? Files.readAllLines(namesFile, StandardCharsets.UTF_8) : new ArrayList<>();
+    }
+}
@@ -0,0 +1,248 @@
+package com.demoqa.impact;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the test methods affected by a change, using the {@link SourceGraph} of the project.
+ * <p>
+ * Changed lines of Java sources are mapped to the members they fall in; every test method that directly
+ * or indirectly uses one of those members is selected. A change to the page layer therefore only selects
+ * the tests that use the changed page, and a change to a single {@code BasePage} or {@code SeleniumUtils}
+ * method only the tests whose pages call it. Smoke tests are always selected.
+ * <p>
+ * The whole suite is selected when a change cannot be attributed, e.g. to pom.xml, suite files,
+ * resources, deleted classes, or classes only reachable from suite files such as listeners.
+ */
+public final class ImpactAnalysis {
+
+    /**
+     * Source roots scanned for the graph, relative to the project directory
+     */
+    public static final List<Path> SOURCE_ROOTS = List.of(Paths.get("src", "main", "java"), Paths.get("src", "test", "java"));
+
+    /**
+     * Package whose tests run regardless of the change
+     */
+    public static final String ALWAYS_RUN_PACKAGE = "com.demoqa.smoke";
+
+    private static final String BASE_PAGE = "com.demoqa.pages.BasePage";
+    private static final String SELENIUM_UTILS = "com.demoqa.utils.SeleniumUtils";
+    private static final Pattern DIFF_FILE = Pattern.compile("^\\+\\+\\+ (?:b/)?(.+)$");
+    private static final Pattern DIFF_OLD_FILE = Pattern.compile("^--- (?:a/)?(.+)$");
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final Set<String> IGNORED_FILES = Set.of(".gitignore", "LICENSE");
+
+    /**
+     * Tests selected for a change.
+     *
+     * @param runAll Whether the change requires the whole suite
+     * @param tests Selected methods as {@code qualified.ClassName#method}
+     * @param reasons Why tests or the whole suite were selected, one line per changed file
+     */
+    public record Selection(boolean runAll, Set<String> tests, List<String> reasons) {
+
+        /**
+         * Checks whether a test method should run.
+         *
+         * @param className Qualified class name
+         * @param methodName Method name
+         * @return true if selected, in the always-run package, or if the whole suite runs
+         */
+        public boolean includes(String className, String methodName) {
+            return runAll || className.startsWith(ALWAYS_RUN_PACKAGE + ".") || tests.contains(className + "#" + methodName);
+        }
+    }
+
+    private ImpactAnalysis() {
+    }
+
+    /**
+     * Gets the changed lines of the working tree relative to a git revision, including untracked files.
+     *
+     * @param projectDir The project directory (git working tree)
+     * @param base The revision to compare against, e.g. origin/main
+     * @return Changed line numbers per file path relative to the project directory
+     * @throws IOException if git cannot be run or fails
+     */
+    public static Map<String, Set<Integer>> changesFromGit(Path projectDir, String base) throws IOException {
+        Map<String, Set<Integer>> changes = parseDiff(git(projectDir, "diff", "--no-renames", "--unified=0", base, "--", "."));
+        for (String untracked : git(projectDir, "ls-files", "--others", "--exclude-standard").split("\n")) {
+            if (!untracked.isBlank()) {
+                changes.put(untracked.strip(), allLines(projectDir.resolve(untracked.strip())));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Parses a unified diff in git format into changed line numbers of the new file versions.
+     * A pure deletion marks the lines on both sides of it. Deleted files get an empty line set.
+     *
+     * @param diff Unified diff text, e.g. from {@code git diff --unified=0}
+     * @return Changed line numbers per new file path
+     */
+    public static Map<String, Set<Integer>> parseDiff(String diff) {
+        Map<String, Set<Integer>> changes = new LinkedHashMap<>();
+        String oldFile = null;
+        Set<Integer> current = null;
+        // File names are only read in the header of each file's section; "--- " may also start a removed line
+        boolean inHeader = true;
+        for (String line : diff.split("\n")) {
+            Matcher oldMatcher = DIFF_OLD_FILE.matcher(line);
+            Matcher fileMatcher = DIFF_FILE.matcher(line);
+            Matcher hunk = HUNK.matcher(line);
+            if (line.startsWith("diff ")) {
+                inHeader = true;
+            } else if (inHeader && oldMatcher.matches()) {
+                oldFile = oldMatcher.group(1);
+            } else if (inHeader && fileMatcher.matches()) {
+                String file = fileMatcher.group(1);
+                current = changes.computeIfAbsent("/dev/null".equals(file) ? oldFile : file, key -> new TreeSet<>());
+            } else if (current != null && hunk.find()) {
+                inHeader = false;
+                int start = Integer.parseInt(hunk.group(1));
+                int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+                if (count == 0) {
+                    current.add(Math.max(1, start));
+                    current.add(start + 1);
+                } else {
+                    for (int i = start; i < start + count; i++) {
+                        current.add(i);
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Selects the tests affected by changed lines.
+     *
+     * @param graph The source graph of the changed tree
+     * @param projectDir The project directory the change paths are relative to
+     * @param changes Changed line numbers per file path
+     * @return The selection
+     */
+    public static Selection select(SourceGraph graph, Path projectDir, Map<String, Set<Integer>> changes) {
+        List<String> reasons = new ArrayList<>();
+        Set<String> changedNodes = new TreeSet<>();
+        boolean runAll = false;
+        for (Map.Entry<String, Set<Integer>> change : changes.entrySet()) {
+            String path = change.getKey();
+            Path file = projectDir.resolve(path);
+            String fileName = file.getFileName().toString();
+            if (fileName.endsWith(".md") || IGNORED_FILES.contains(fileName)) {
+                continue;
+            }
+            if (!fileName.endsWith(".java") || SOURCE_ROOTS.stream().noneMatch(root -> Path.of(path).startsWith(root))) {
+                runAll = true;
+                reasons.add(path + ": not a Java source, running all tests");
+                continue;
+            }
+            if (!Files.exists(file)) {
+                runAll = true;
+                reasons.add(path + ": deleted, running all tests");
+                continue;
+            }
+            Set<String> nodes = graph.nodesAt(file, change.getValue());
+            if (nodes == null) {
+                runAll = true;
+                reasons.add(path + ": declares no class, running all tests");
+                continue;
+            }
+            if (nodes.isEmpty()) {
+                continue;
+            }
+            String className = SourceGraph.classOf(nodes.iterator().next());
+            if (!graph.isTestClass(className) && !graph.isReferenced(className)) {
+                runAll = true;
+                reasons.add(path + ": " + className + " is only used from suite files, running all tests");
+                continue;
+            }
+            changedNodes.addAll(nodes);
+            reasons.add(path + ": changed " + nodes);
+        }
+
+        Set<String> affected = graph.affectedBy(changedNodes);
+        Set<String> tests = new TreeSet<>();
+        graph.testMethods().forEach((className, methods) -> methods.stream()
+                .filter(affected::contains)
+                .forEach(method -> tests.add(className + "#" + SourceGraph.memberOf(method))));
+        return new Selection(runAll, tests, reasons);
+    }
+
+    /**
+     * Describes which pages and which {@code BasePage}/{@code SeleniumUtils} members each test method uses.
+     *
+     * @param graph The source graph
+     * @return One line per test method
+     */
+    public static List<String> dependencyMap(SourceGraph graph) {
+        List<String> lines = new ArrayList<>();
+        graph.testMethods().forEach((className, methods) -> methods.forEach(method -> {
+            Set<String> pages = new TreeSet<>();
+            Set<String> basePage = new TreeSet<>();
+            Set<String> seleniumUtils = new TreeSet<>();
+            for (String used : graph.usedBy(method)) {
+                String usedClass = SourceGraph.classOf(used);
+                String member = SourceGraph.memberOf(used);
+                if (BASE_PAGE.equals(usedClass) && !SourceGraph.CLASS_NODE.equals(member)) {
+                    basePage.add(member);
+                } else if (SELENIUM_UTILS.equals(usedClass) && !SourceGraph.CLASS_NODE.equals(member)) {
+                    seleniumUtils.add(member);
+                }
+                if (usedClass.startsWith("com.demoqa.pages.") && !BASE_PAGE.equals(usedClass)) {
+                    pages.add(SourceGraph.simpleName(usedClass));
+                }
+            }
+            lines.add(className + "#" + SourceGraph.memberOf(method) + ": pages=" + pages
+                    + " BasePage=" + basePage + " SeleniumUtils=" + seleniumUtils);
+        }));
+        return lines;
+    }
+
+    private static Set<Integer> allLines(Path file) throws IOException {
+        Set<Integer> lines = new TreeSet<>();
+        if (Files.isRegularFile(file)) {
+            int count = Files.readAllLines(file, StandardCharsets.UTF_8).size();
+            for (int i = 1; i <= Math.max(1, count); i++) {
+                lines.add(i);
+            }
+        }
+        return lines;
+    }
+
+    private static String git(Path projectDir, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command)
+                .directory(projectDir.toFile())
+                .redirectErrorStream(true)
+                .start();
+        byte[] output = process.getInputStream().readAllBytes();
+        try {
+            if (!process.waitFor(60, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new IOException("git " + String.join(" ", args) + " failed: "
+                        + new String(output, StandardCharsets.UTF_8).strip());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running git", e);
+        }
+        return new String(output, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,725 @@
+package com.demoqa.impact;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Member-level reference graph of the project's own Java sources, built by scanning the source text.
+ * <p>
+ * Nodes are {@code qualified.ClassName#member}. Each top-level class has a {@code #<class>} node for everything
+ * outside its members (imports, header, class javadoc) and an {@code #<init>} node for construction, which
+ * covers its constructors, initialized instance fields and the superclass construction. An edge points from
+ * a member to each member it uses:
+ * <ul>
+ *   <li>Unqualified calls and field reads resolved along the superclass chain, e.g. {@code step(...)} in a
+ *       page resolves to {@code BasePage#step}</li>
+ *   <li>{@code Type.member}, {@code Type::member}, {@code new Type(...)} and {@code new Type(...).member}
+ *       for project classes; {@code Type::new} and {@code Type.class} count as construction, since page
+ *       objects are created from constructor references and class literals by {@code PageRouter}</li>
+ *   <li>{@code variable.member} where the variable is a field, parameter or local of a project type, or of a
+ *       type parameter bounded by one</li>
+ *   <li>Test methods use their class's and superclasses' configuration methods ({@code @Before*}/{@code @After*})
+ *       and data providers, since those are referenced by annotation or by name only</li>
+ * </ul>
+ * A call resolved to a superclass member may run any override of it, so a change to an override affects
+ * everything that uses the overridden member, e.g. {@code TextBoxPage#readinessCondition} affects the users
+ * of {@code BasePage#readinessCondition}.
+ * <p>
+ * Sources are scanned rather than compiled so that the graph can be built before the change under test
+ * compiles; the price is that resolution is by name, which over-approximates (more tests, never fewer)
+ * except for calls through interfaces or reflection. A simple name declared in several packages resolves
+ * to the class the referencing source imports or shares a package with, otherwise to all of them.
+ * Nested types are treated as one member of their top-level class.
+ */
+public final class SourceGraph {
+
+    /**
+     * Member name of the class-level node
+     */
+    public static final String CLASS_NODE = "<class>";
+
+    /**
+     * Member name of the construction node
+     */
+    public static final String INIT_NODE = "<init>";
+
+    private static final Pattern PACKAGE = Pattern.compile("\\bpackage\\s+([\\w.]+)\\s*;");
+    private static final Pattern IMPORT = Pattern.compile("\\bimport\\s+([\\w.]+(?:\\.\\*)?)\\s*;");
+    private static final Pattern TYPE_DECLARATION = Pattern.compile("\\b(?:class|interface|enum|record)\\s+(\\w+)");
+    private static final Pattern EXTENDS = Pattern.compile("\\bextends\\s+(\\w+)");
+    private static final Pattern ANNOTATION = Pattern.compile("@\\w+(?:\\.\\w+)*(?:\\s*\\([^)]*\\))?");
+    private static final Pattern TEST_ANNOTATION = Pattern.compile("@Test\\b");
+    private static final Pattern LIFECYCLE_ANNOTATION =
+            Pattern.compile("@(?:(?:Before|After)(?:Method|Class|Test|Suite|Groups)|DataProvider|Factory)\\b");
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][\\w$]*");
+    private static final Pattern DECLARATION = Pattern.compile(
+            "\\b([A-Z][\\w$]*)(?:\\s*<[^;{}()]*?>)?(?:\\s*\\[\\s*])*\\s+([a-z_$][\\w$]*)\\s*[=;:,)]");
+    private static final Pattern QUALIFIED = Pattern.compile(
+            "(?<![\\w$.:])([A-Za-z_$][\\w$]*)\\s*(\\.|::)\\s*([A-Za-z_$][\\w$]*)");
+    private static final Pattern TYPE_PARAMETER =
+            Pattern.compile("[<,]\\s*([A-Z][\\w$]*)\\s+extends\\s+([A-Z][\\w$]*)");
+    private static final Pattern CONSTRUCTION = Pattern.compile("\\bnew\\s+([A-Z][\\w$]*)");
+    private static final Pattern CHAINED_MEMBER = Pattern.compile("\\s*\\.\\s*([A-Za-z_$][\\w$]*)");
+    private static final Pattern STATIC = Pattern.compile("\\bstatic\\b");
+    private static final Pattern SUPER_CALL = Pattern.compile("\\bsuper\\s*\\(");
+
+    private final Map<String, SourceClass> classes = new LinkedHashMap<>();
+    private final Map<String, List<SourceClass>> classesBySimpleName = new HashMap<>();
+    private final Map<Path, SourceClass> classesByFile = new HashMap<>();
+    private final Map<String, Set<String>> uses = new HashMap<>();
+    private final Map<String, Set<String>> usedBy = new HashMap<>();
+    // Overridden members per override; kept apart from usedBy since the override is not referenced by name
+    private final Map<String, Set<String>> overridden = new HashMap<>();
+
+    /**
+     * A member of a top-level class: method, constructor, field, initializer or nested type.
+     * Overloads share one node; a member may therefore have several line spans.
+     *
+     * @param name Member name, {@link #INIT_NODE} for constructors and initializers
+     * @param firstLine First line attributed to the member, including its javadoc and annotations
+     * @param lastLine Last line of the member
+     * @param text The member's source with comments and literals blanked
+     * @param field Whether the member is a field
+     * @param test Whether the member is a {@code @Test} method
+     * @param lifecycle Whether the member is a {@code @Before*}/{@code @After*}, data provider or factory method
+     */
+    record Member(String name, int firstLine, int lastLine, String text, boolean field, boolean test,
+                  boolean lifecycle) {
+    }
+
+    /**
+     * A scanned top-level class.
+     *
+     * @param name Simple name
+     * @param qualifiedName Package-qualified name
+     * @param superName Simple name of the superclass, or null
+     * @param imports Imported type names, including on-demand imports such as {@code com.demoqa.pages.*}
+     * @param members Members in source order
+     */
+    record SourceClass(String name, String qualifiedName, String superName, List<String> imports,
+                       List<Member> members) {
+
+        String packageName() {
+            int dot = qualifiedName.lastIndexOf('.');
+            return dot < 0 ? "" : qualifiedName.substring(0, dot);
+        }
+
+        boolean declares(String member) {
+            return INIT_NODE.equals(member) || members.stream().anyMatch(m -> m.name().equals(member));
+        }
+
+        boolean isTestClass() {
+            return members.stream().anyMatch(Member::test);
+        }
+    }
+
+    private SourceGraph() {
+    }
+
+    /**
+     * Checks whether a scanned class declares {@code @Test} methods.
+     *
+     * @param className Qualified class name
+     * @return true for test classes
+     */
+    public boolean isTestClass(String className) {
+        SourceClass sourceClass = classes.get(className);
+        return sourceClass != null && sourceClass.isTestClass();
+    }
+
+    /**
+     * Scans all Java sources below the given roots and builds the graph.
+     *
+     * @param sourceRoots Source roots, e.g. src/main/java and src/test/java
+     * @return The graph
+     * @throws IOException if a source cannot be read
+     */
+    public static SourceGraph build(List<Path> sourceRoots) throws IOException {
+        SourceGraph graph = new SourceGraph();
+        for (Path root : sourceRoots) {
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            List<Path> sources;
+            try (Stream<Path> files = Files.walk(root)) {
+                sources = files.filter(file -> file.toString().endsWith(".java"))
+                        .sorted(Comparator.comparing(Path::toString))
+                        .toList();
+            }
+            for (Path source : sources) {
+                SourceClass parsed = parse(Files.readString(source));
+                if (parsed != null && !graph.classes.containsKey(parsed.qualifiedName())) {
+                    graph.classes.put(parsed.qualifiedName(), parsed);
+                    graph.classesBySimpleName.computeIfAbsent(parsed.name(), key -> new ArrayList<>()).add(parsed);
+                    graph.classesByFile.put(source.toAbsolutePath().normalize(), parsed);
+                }
+            }
+        }
+        graph.link();
+        return graph;
+    }
+
+    /**
+     * Gets the nodes touched by changed lines of a source file.
+     * Lines outside any member map to the class node.
+     *
+     * @param file The changed source file
+     * @param lines Changed line numbers (1-based) in the new version of the file
+     * @return The touched nodes, or null if the file is not a scanned class
+     */
+    public Set<String> nodesAt(Path file, Set<Integer> lines) {
+        SourceClass sourceClass = classesByFile.get(file.toAbsolutePath().normalize());
+        if (sourceClass == null) {
+            return null;
+        }
+        Set<String> nodes = new TreeSet<>();
+        for (int line : lines) {
+            Member member = sourceClass.members().stream()
+                    .filter(m -> line >= m.firstLine() && line <= m.lastLine())
+                    .findFirst()
+                    .orElse(null);
+            nodes.add(node(sourceClass, member == null ? CLASS_NODE : member.name()));
+        }
+        return nodes;
+    }
+
+    /**
+     * Gets all nodes that directly or indirectly use any of the given nodes, including the nodes themselves.
+     *
+     * @param nodes Changed nodes
+     * @return The affected nodes
+     */
+    public Set<String> affectedBy(Set<String> nodes) {
+        return closure(nodes, usedBy, overridden);
+    }
+
+    /**
+     * Gets all nodes a node directly or indirectly uses, including itself.
+     *
+     * @param node The node
+     * @return The used nodes
+     */
+    public Set<String> usedBy(String node) {
+        return closure(Set.of(node), uses, Map.of());
+    }
+
+    /**
+     * Checks whether any other class uses a class. Classes nobody uses, such as TestNG listeners,
+     * are only reachable from suite files, so changes to them cannot be attributed to tests.
+     *
+     * @param className Qualified class name
+     * @return true if a member of another class uses a member of this class
+     */
+    public boolean isReferenced(String className) {
+        String prefix = className + "#";
+        return usedBy.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .flatMap(entry -> entry.getValue().stream())
+                .anyMatch(user -> !user.startsWith(prefix));
+    }
+
+    /**
+     * Gets the test methods of all test classes as nodes, keyed by qualified class name.
+     *
+     * @return Test method nodes per qualified class name
+     */
+    public Map<String, List<String>> testMethods() {
+        Map<String, List<String>> tests = new LinkedHashMap<>();
+        classes.values().forEach(sourceClass -> sourceClass.members().stream()
+                .filter(Member::test)
+                .forEach(member -> tests.computeIfAbsent(sourceClass.qualifiedName(), key -> new ArrayList<>())
+                        .add(node(sourceClass, member.name()))));
+        return tests;
+    }
+
+    /**
+     * Gets the class of a node.
+     *
+     * @param node The node
+     * @return Qualified class name
+     */
+    public static String classOf(String node) {
+        return node.substring(0, node.indexOf('#'));
+    }
+
+    /**
+     * Gets the member of a node.
+     *
+     * @param node The node
+     * @return Member name
+     */
+    public static String memberOf(String node) {
+        return node.substring(node.indexOf('#') + 1);
+    }
+
+    /**
+     * Gets the simple name of a qualified class name.
+     *
+     * @param className Qualified class name
+     * @return Simple class name
+     */
+    public static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String node(SourceClass sourceClass, String member) {
+        return sourceClass.qualifiedName() + "#" + member;
+    }
+
+    private static Set<String> closure(Set<String> start, Map<String, Set<String>> edges,
+                                       Map<String, Set<String>> moreEdges) {
+        Set<String> seen = new LinkedHashSet<>(start);
+        Deque<String> queue = new ArrayDeque<>(start);
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            for (Map<String, Set<String>> map : List.of(edges, moreEdges)) {
+                for (String next : map.getOrDefault(current, Set.of())) {
+                    if (seen.add(next)) {
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+        return seen;
+    }
+
+    private void edge(String from, String to) {
+        if (to == null || from.equals(to)) {
+            return;
+        }
+        uses.computeIfAbsent(from, key -> new LinkedHashSet<>()).add(to);
+        usedBy.computeIfAbsent(to, key -> new LinkedHashSet<>()).add(from);
+    }
+
+    /**
+     * Gets the project classes a simple type name refers to from a class: the class itself, an imported
+     * class, a class of the same package or an on-demand import, in that order, or else every class of
+     * that name.
+     *
+     * @return The classes, empty if no project class has the name
+     */
+    private List<SourceClass> types(SourceClass owner, String simpleName) {
+        List<SourceClass> candidates = classesBySimpleName.getOrDefault(simpleName, List.of());
+        if (candidates.size() <= 1) {
+            return candidates;
+        }
+        for (SourceClass candidate : candidates) {
+            if (candidate == owner || owner.imports().contains(candidate.qualifiedName())) {
+                return List.of(candidate);
+            }
+        }
+        List<SourceClass> visible = candidates.stream()
+                .filter(candidate -> candidate.packageName().equals(owner.packageName())
+                        || owner.imports().contains(candidate.packageName() + ".*"))
+                .toList();
+        return visible.isEmpty() ? candidates : visible;
+    }
+
+    private SourceClass superclass(SourceClass sourceClass) {
+        if (sourceClass.superName() == null) {
+            return null;
+        }
+        List<SourceClass> candidates = types(sourceClass, sourceClass.superName());
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    /**
+     * Finds the class declaring a member along the superclass chain.
+     *
+     * @return The member's node, or null if no project class in the chain declares it
+     */
+    private String resolve(SourceClass sourceClass, String member) {
+        Set<String> visited = new HashSet<>();
+        SourceClass current = sourceClass;
+        while (current != null && visited.add(current.qualifiedName())) {
+            if (current.declares(member)) {
+                return node(current, member);
+            }
+            current = superclass(current);
+        }
+        return null;
+    }
+
+    private void link() {
+        for (SourceClass sourceClass : classes.values()) {
+            String init = node(sourceClass, INIT_NODE);
+            edge(init, node(sourceClass, CLASS_NODE));
+            SourceClass superclass = superclass(sourceClass);
+            if (superclass != null) {
+                edge(init, node(superclass, INIT_NODE));
+            }
+            Map<String, String> fieldTypes = new HashMap<>();
+            for (Member member : sourceClass.members()) {
+                if (member.field()) {
+                    collectDeclarations(member.text(), fieldTypes);
+                    // Only instance initializers run on construction; injected fields such as @FindBy are lazy
+                    if (member.text().contains("=") && !STATIC.matcher(member.text()).find()) {
+                        edge(init, node(sourceClass, member.name()));
+                    }
+                } else if (superclass != null && !INIT_NODE.equals(member.name())) {
+                    String base = resolve(superclass, member.name());
+                    if (base != null) {
+                        overridden.computeIfAbsent(node(sourceClass, member.name()), key -> new LinkedHashSet<>())
+                                .add(base);
+                    }
+                }
+            }
+            List<String> lifecycle = lifecycleMethods(sourceClass);
+            for (Member member : sourceClass.members()) {
+                String from = node(sourceClass, member.name());
+                edge(from, node(sourceClass, CLASS_NODE));
+                linkMember(sourceClass, from, member.text(), fieldTypes);
+                if (member.test()) {
+                    edge(from, init);
+                    lifecycle.forEach(configuration -> edge(from, configuration));
+                }
+            }
+        }
+    }
+
+    private List<String> lifecycleMethods(SourceClass sourceClass) {
+        List<String> lifecycle = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        SourceClass current = sourceClass;
+        while (current != null && visited.add(current.qualifiedName())) {
+            for (Member member : current.members()) {
+                if (member.lifecycle()) {
+                    lifecycle.add(node(current, member.name()));
+                }
+            }
+            current = superclass(current);
+        }
+        return lifecycle;
+    }
+
+    private void linkMember(SourceClass owner, String from, String text, Map<String, String> fieldTypes) {
+        Map<String, String> variableTypes = new HashMap<>(fieldTypes);
+        collectDeclarations(text, variableTypes);
+
+        Matcher construction = CONSTRUCTION.matcher(text);
+        while (construction.find()) {
+            for (SourceClass type : types(owner, construction.group(1))) {
+                edge(from, node(type, INIT_NODE));
+                String chained = chainedMember(text, construction.end());
+                if (chained != null) {
+                    edge(from, resolve(type, chained));
+                }
+            }
+        }
+        SourceClass superclass = superclass(owner);
+        if (SUPER_CALL.matcher(text).find() && superclass != null) {
+            edge(from, node(superclass, INIT_NODE));
+        }
+
+        Matcher qualified = QUALIFIED.matcher(text);
+        while (qualified.find()) {
+            String target = qualified.group(1);
+            String member = qualified.group(3);
+            List<SourceClass> targetTypes = types(owner, target);
+            if ("this".equals(target)) {
+                edge(from, resolve(owner, member));
+            } else if ("super".equals(target)) {
+                edge(from, resolve(superclass, member));
+            } else if (!targetTypes.isEmpty()) {
+                for (SourceClass type : targetTypes) {
+                    linkQualified(from, type, member);
+                }
+            } else if (variableTypes.containsKey(target)) {
+                for (SourceClass type : types(owner, variableTypes.get(target))) {
+                    linkQualified(from, type, member);
+                }
+            }
+        }
+
+        Matcher identifier = IDENTIFIER.matcher(text);
+        while (identifier.find()) {
+            String word = identifier.group();
+            int start = identifier.start();
+            if (start > 0 && (text.charAt(start - 1) == '.' || text.charAt(start - 1) == ':')) {
+                continue;
+            }
+            List<SourceClass> wordTypes = types(owner, word);
+            if (wordTypes.isEmpty()) {
+                edge(from, resolve(owner, word));
+            }
+            for (SourceClass type : wordTypes) {
+                if (type != owner) {
+                    edge(from, node(type, CLASS_NODE));
+                }
+            }
+        }
+    }
+
+    private void linkQualified(String from, SourceClass type, String member) {
+        if ("new".equals(member) || "class".equals(member)) {
+            // Constructor references and class literals are how PageRouter creates page objects
+            edge(from, node(type, INIT_NODE));
+            return;
+        }
+        String resolved = resolve(type, member);
+        edge(from, resolved != null ? resolved : node(type, CLASS_NODE));
+    }
+
+    /**
+     * Gets the member called directly on a new instance, as in {@code new Page(driver).open()}.
+     *
+     * @param text Member text
+     * @param offset Offset right after the constructed type name
+     * @return The member name, or null if the instance is not used directly
+     */
+    private static String chainedMember(String text, int offset) {
+        int i = offset;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        if (i >= text.length() || text.charAt(i) != '(') {
+            return null;
+        }
+        int depth = 0;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                break;
+            }
+        }
+        Matcher member = CHAINED_MEMBER.matcher(text);
+        member.region(Math.min(i + 1, text.length()), text.length());
+        return member.lookingAt() ? member.group(1) : null;
+    }
+
+    private void collectDeclarations(String text, Map<String, String> types) {
+        // A variable of a type parameter, as in <T extends BasePage> T page, has the members of its bound
+        Map<String, String> bounds = new HashMap<>();
+        Matcher typeParameter = TYPE_PARAMETER.matcher(text);
+        while (typeParameter.find()) {
+            bounds.put(typeParameter.group(1), typeParameter.group(2));
+        }
+        Matcher declaration = DECLARATION.matcher(text);
+        while (declaration.find()) {
+            String type = bounds.getOrDefault(declaration.group(1), declaration.group(1));
+            if (classesBySimpleName.containsKey(type)) {
+                types.put(declaration.group(2), type);
+            }
+        }
+    }
+
+    /**
+     * Splits a source into its top-level class and the members of its body.
+     *
+     * @return The class, or null if the source declares no type
+     */
+    static SourceClass parse(String source) {
+        String text = blank(source);
+        int[] lineStarts = lineStarts(text);
+
+        Matcher packageMatcher = PACKAGE.matcher(text);
+        String packageName = packageMatcher.find() ? packageMatcher.group(1) : "";
+        List<String> imports = new ArrayList<>();
+
+        int bodyOpen = -1;
+        String className = null;
+        String superName = null;
+        int depth = 0;
+        int headerStart = 0;
+        for (int i = 0; i < text.length() && bodyOpen < 0; i++) {
+            char c = text.charAt(i);
+            if (c == ';' && depth == 0) {
+                Matcher importMatcher = IMPORT.matcher(text.substring(headerStart, i + 1));
+                if (importMatcher.find()) {
+                    imports.add(importMatcher.group(1));
+                }
+                headerStart = i + 1;
+            } else if (c == '{' && depth == 0) {
+                String header = text.substring(headerStart, i);
+                Matcher type = TYPE_DECLARATION.matcher(ANNOTATION.matcher(header).replaceAll(" "));
+                if (type.find()) {
+                    className = type.group(1);
+                    Matcher extendsMatcher = EXTENDS.matcher(header.substring(header.indexOf(type.group())));
+                    superName = extendsMatcher.find() ? extendsMatcher.group(1) : null;
+                    bodyOpen = i;
+                }
+            }
+        }
+        if (className == null) {
+            return null;
+        }
+
+        List<Member> members = new ArrayList<>();
+        int previousLastLine = lineOf(lineStarts, bodyOpen);
+        depth = 1;
+        headerStart = bodyOpen + 1;
+        boolean pendingField = false;
+        int blockOpenDepth = -1;
+        for (int i = bodyOpen + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                if (depth == 1 && blockOpenDepth < 0) {
+                    String header = ANNOTATION.matcher(text.substring(headerStart, i)).replaceAll(" ");
+                    pendingField = isFieldHeader(header);
+                    blockOpenDepth = 1;
+                }
+                depth++;
+            } else if (c == '}') {
+                depth--;
+                if (depth == 0) {
+                    break;
+                }
+                if (depth == 1 && blockOpenDepth == 1 && !pendingField) {
+                    blockOpenDepth = -1;
+                    Member member = member(className, text, headerStart, i + 1, previousLastLine + 1, lineStarts);
+                    if (member != null) {
+                        members.add(member);
+                        previousLastLine = member.lastLine();
+                    }
+                    headerStart = i + 1;
+                }
+            } else if (c == ';' && depth == 1) {
+                blockOpenDepth = -1;
+                pendingField = false;
+                Member member = member(className, text, headerStart, i + 1, previousLastLine + 1, lineStarts);
+                if (member != null) {
+                    members.add(member);
+                    previousLastLine = member.lastLine();
+                }
+                headerStart = i + 1;
+            }
+        }
+        return new SourceClass(className, packageName.isEmpty() ? className : packageName + "." + className,
+                superName, imports, members);
+    }
+
+    private static boolean isFieldHeader(String header) {
+        int paren = header.indexOf('(');
+        int equals = header.indexOf('=');
+        return equals >= 0 && (paren < 0 || equals < paren) && !TYPE_DECLARATION.matcher(header).find();
+    }
+
+    private static Member member(String className, String text, int start, int end, int firstLine, int[] lineStarts) {
+        String memberText = text.substring(start, end);
+        String raw = memberText.strip();
+        if (raw.isEmpty() || raw.equals(";")) {
+            return null;
+        }
+        int bodyStart = memberText.indexOf('{');
+        String header = bodyStart >= 0 ? memberText.substring(0, bodyStart) : memberText;
+        String stripped = ANNOTATION.matcher(header).replaceAll(" ");
+
+        String name;
+        boolean field = false;
+        Matcher type = TYPE_DECLARATION.matcher(stripped);
+        if (isFieldHeader(stripped) || (bodyStart < 0 && stripped.indexOf('(') < 0)) {
+            String declarator = stripped.contains("=") ? stripped.substring(0, stripped.indexOf('=')) : stripped;
+            name = lastIdentifier(declarator.replace(";", " "));
+            field = true;
+        } else if (type.find()) {
+            name = type.group(1);
+        } else if (stripped.indexOf('(') >= 0) {
+            name = lastIdentifier(stripped.substring(0, stripped.indexOf('(')));
+            if (className.equals(name)) {
+                name = INIT_NODE;
+            }
+        } else {
+            // Initializer blocks and compact record constructors run on construction
+            name = INIT_NODE;
+        }
+        if (name == null) {
+            return null;
+        }
+        return new Member(name, firstLine, lineOf(lineStarts, end - 1), memberText, field,
+                TEST_ANNOTATION.matcher(header).find(), LIFECYCLE_ANNOTATION.matcher(header).find());
+    }
+
+    private static String lastIdentifier(String text) {
+        Matcher identifier = IDENTIFIER.matcher(text);
+        String last = null;
+        while (identifier.find()) {
+            last = identifier.group();
+        }
+        return last;
+    }
+
+    /**
+     * Replaces comments and the contents of string, text block and char literals with spaces,
+     * keeping line breaks so that offsets map to the original lines.
+     */
+    static String blank(String source) {
+        StringBuilder out = new StringBuilder(source);
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (source.startsWith("//", i)) {
+                int end = source.indexOf('\n', i);
+                i = blankRange(out, i, end < 0 ? source.length() : end);
+            } else if (source.startsWith("/*", i)) {
+                int end = source.indexOf("*/", i + 2);
+                i = blankRange(out, i, end < 0 ? source.length() : end + 2);
+            } else if (source.startsWith("\"\"\"", i)) {
+                int end = source.indexOf("\"\"\"", i + 3);
+                blankRange(out, i + 3, end < 0 ? source.length() : end);
+                i = end < 0 ? source.length() : end + 3;
+            } else if (c == '"' || c == '\'') {
+                int j = i + 1;
+                while (j < source.length() && source.charAt(j) != c && source.charAt(j) != '\n') {
+                    j += source.charAt(j) == '\\' ? 2 : 1;
+                }
+                blankRange(out, i + 1, Math.min(j, source.length()));
+                i = j + 1;
+            } else {
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    private static int blankRange(StringBuilder out, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (out.charAt(i) != '\n') {
+                out.setCharAt(i, ' ');
+            }
+        }
+        return end;
+    }
+
+    private static int[] lineStarts(String text) {
+        List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                starts.add(i + 1);
+            }
+        }
+        return starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int lineOf(int[] lineStarts, int offset) {
+        int low = 0;
+        int high = lineStarts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lineStarts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low + 1;
+    }
+}
@@ -0,0 +1,236 @@
+package com.demoqa.listeners;
+
+import com.demoqa.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IReporter;
+import org.testng.ISuite;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A TestNG listener that runs each suite test on every browser of a cross-browser matrix.
+ * <p>
+ * Inactive unless browser.matrix is set (e.g. {@code -Dbrowser.matrix=chrome,firefox,edge}). Every
+ * {@code <test>} with a browser parameter is then replaced by one copy per browser, named
+ * {@code "<test> [<browser>]"}. Tests without a browser parameter, such as the unit tests, are left alone.
+ * Suites that are not parallel already run their tests in parallel, so the browser variants run at the same
+ * time instead of one after another; {@link com.demoqa.execution.BrowserAdmissionController} keeps each browser
+ * within its scheduler.max.sessions.&lt;browser&gt; limit.
+ *
+ * <p>After the run, the outcome and duration of every test method on every browser are written side by side
+ * to {@code target/browser-matrix-report.txt}, with methods whose outcome differs between browsers marked.
+ */
+public class BrowserMatrixListener implements IAlterSuiteListener, IReporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserMatrixListener.class);
+
+    private static final Path REPORT_FILE = Path.of("target", "browser-matrix-report.txt");
+
+    private final List<String> browsers = new ConfigurationManager().getBrowserMatrix();
+
+    /**
+     * Expands the suites' tests into the configured browser matrix.
+     *
+     * @param suites The suites about to run
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (browsers.isEmpty()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            int variants = expand(suite, browsers);
+            if (variants > 0) {
+                LOGGER.info("Browser matrix: {} expanded to {} tests on {}", suite.getName(), variants, browsers);
+            }
+        }
+    }
+
+    /**
+     * Replaces each test with a browser parameter by one copy per browser, in place, and makes the suite run
+     * its tests in parallel unless it is parallel already.
+     *
+     * @param suite The suite to expand
+     * @param browsers The browsers of the matrix
+     * @return Number of browser variants created, 0 if the suite has no test with a browser parameter
+     */
+    public static int expand(XmlSuite suite, List<String> browsers) {
+        List<XmlTest> originals = new ArrayList<>(suite.getTests());
+        // XmlTest.clone() adds the copy to its suite, so the suite is rebuilt in the original order
+        suite.getTests().clear();
+        int variants = 0;
+        for (XmlTest test : originals) {
+            if (test.getParameter("browser") == null) {
+                suite.getTests().add(test);
+                continue;
+            }
+            for (String browser : browsers) {
+                XmlTest variant = (XmlTest) test.clone();
+                variant.setName(test.getName() + " [" + browser + "]");
+                Map<String, String> parameters = new HashMap<>(test.getLocalParameters());
+                parameters.put("browser", browser);
+                variant.setParameters(parameters);
+                List<XmlClass> classes = new ArrayList<>();
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    XmlClass copy = (XmlClass) xmlClass.clone();
+                    // Classes read their parameters through their test
+                    copy.setXmlTest(variant);
+                    classes.add(copy);
+                }
+                variant.setXmlClasses(classes);
+                variants++;
+            }
+        }
+        if (variants > 0 && suite.getParallel() == XmlSuite.ParallelMode.NONE) {
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(Math.max(suite.getThreadCount(), suite.getTests().size()));
+        }
+        return variants;
+    }
+
+    /**
+     * Writes the combined report of all browser variants.
+     *
+     * @param xmlSuites The suites as configured
+     * @param suites The suites as run
+     * @param outputDirectory TestNG's output directory, not used
+     */
+    @Override
+    public void generateReport(List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectory) {
+        if (browsers.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Cell>> rows = new TreeMap<>();
+        long firstStart = Long.MAX_VALUE;
+        long lastEnd = 0;
+        long variantMillis = 0;
+        for (ISuite suite : suites) {
+            for (ISuiteResult suiteResult : suite.getResults().values()) {
+                ITestContext context = suiteResult.getTestContext();
+                String browser = context.getCurrentXmlTest().getParameter("browser");
+                if (browser == null || !browsers.contains(browser)) {
+                    continue;
+                }
+                firstStart = Math.min(firstStart, context.getStartDate().getTime());
+                lastEnd = Math.max(lastEnd, context.getEndDate().getTime());
+                variantMillis += context.getEndDate().getTime() - context.getStartDate().getTime();
+                addResults(rows, browser, context.getPassedTests().getAllResults());
+                addResults(rows, browser, context.getFailedTests().getAllResults());
+                addResults(rows, browser, context.getSkippedTests().getAllResults());
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, reportLines(rows, lastEnd - firstStart, variantMillis), StandardCharsets.UTF_8);
+            LOGGER.info("Browser matrix report written to {}", REPORT_FILE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write browser matrix report: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Outcome of a test method on one browser; repeated invocations keep the worst status and add up.
+     */
+    private static final class Cell {
+        private int status = ITestResult.SUCCESS;
+        private long millis;
+    }
+
+    private static void addResults(Map<String, Map<String, Cell>> rows, String browser, Iterable<ITestResult> results) {
+        for (ITestResult result : results) {
+            String test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+            Cell cell = rows.computeIfAbsent(test, key -> new TreeMap<>()).computeIfAbsent(browser, key -> new Cell());
+            if (rank(result.getStatus()) > rank(cell.status)) {
+                cell.status = result.getStatus();
+            }
+            cell.millis += result.getEndMillis() - result.getStartMillis();
+        }
+    }
+
+    /**
+     * Orders statuses by severity: passed, skipped, failed.
+     */
+    private static int rank(int status) {
+        return switch (status) {
+            case ITestResult.SUCCESS -> 0;
+            case ITestResult.SKIP -> 1;
+            default -> 2;
+        };
+    }
+
+    private static String label(int status) {
+        return switch (rank(status)) {
+            case 0 -> "PASS";
+            case 1 -> "SKIP";
+            default -> "FAIL";
+        };
+    }
+
+    private List<String> reportLines(Map<String, Map<String, Cell>> rows, long wallClockMillis, long variantMillis) {
+        int width = rows.keySet().stream().mapToInt(String::length).max().orElse(0) + 2;
+        List<String> lines = new ArrayList<>();
+        lines.add("Browser matrix: " + String.join(", ", browsers));
+        lines.add(String.format("Wall clock %.1f s for %.1f s of browser variants", wallClockMillis / 1000.0,
+                variantMillis / 1000.0));
+        lines.add("");
+
+        StringBuilder header = new StringBuilder(String.format("  %-" + width + "s", "Test"));
+        browsers.forEach(browser -> header.append(String.format("%-14s", browser)));
+        lines.add(header.toString().stripTrailing());
+
+        int[] passed = new int[browsers.size()];
+        int[] run = new int[browsers.size()];
+        for (Map.Entry<String, Map<String, Cell>> row : rows.entrySet()) {
+            StringBuilder line = new StringBuilder(String.format("%-" + width + "s", row.getKey()));
+            boolean differs = false;
+            Integer firstRank = null;
+            for (int i = 0; i < browsers.size(); i++) {
+                Cell cell = row.getValue().get(browsers.get(i));
+                if (cell == null) {
+                    line.append(String.format("%-14s", "-"));
+                    differs = true;
+                    continue;
+                }
+                run[i]++;
+                if (rank(cell.status) == 0) {
+                    passed[i]++;
+                }
+                if (firstRank == null) {
+                    firstRank = rank(cell.status);
+                } else if (firstRank != rank(cell.status)) {
+                    differs = true;
+                }
+                line.append(String.format("%-14s", String.format("%s %.1fs", label(cell.status), cell.millis / 1000.0)));
+            }
+            lines.add(((differs ? "* " : "  ") + line).stripTrailing());
+        }
+
+        StringBuilder totals = new StringBuilder(String.format("  %-" + width + "s", "Passed"));
+        for (int i = 0; i < browsers.size(); i++) {
+            totals.append(String.format("%-14s", passed[i] + "/" + run[i]));
+        }
+        lines.add("");
+        lines.add(totals.toString().stripTrailing());
+        lines.add("");
+        lines.add("* outcome differs between browsers or the test did not run on every browser");
+        return lines;
+    }
+}
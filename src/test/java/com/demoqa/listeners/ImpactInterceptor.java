@@ -0,0 +1,110 @@
+package com.demoqa.listeners;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.impact.ImpactAnalysis;
+import com.demoqa.impact.SourceGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A TestNG method interceptor that runs only the test methods affected by a change.
+ * <p>
+ * Inactive unless impact.base (a git revision, e.g. origin/main) or impact.diff (a file with
+ * {@code git diff --unified=0} output) is set. The selection is computed once per fork with
+ * {@link ImpactAnalysis} and written, together with the test-to-page dependency map, to
+ * {@code target/impact-report.txt}. If the analysis fails, all tests run.
+ *
+ * @see ImpactAnalysis
+ */
+public class ImpactInterceptor implements IMethodInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImpactInterceptor.class);
+
+    private static final Path REPORT_FILE = Path.of("target", "impact-report.txt");
+
+    /**
+     * Selection for this fork; empty if impact analysis is off or failed
+     */
+    private static Optional<ImpactAnalysis.Selection> selection;
+
+    /**
+     * Drops the test methods the change does not affect.
+     *
+     * @param methods The methods TestNG is about to run
+     * @param context The test context
+     * @return The affected methods, or all methods if impact analysis is off
+     */
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Optional<ImpactAnalysis.Selection> current = selection();
+        if (current.isEmpty() || current.get().runAll()) {
+            return methods;
+        }
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (current.get().includes(method.getMethod().getRealClass().getName(), method.getMethod().getMethodName())) {
+                selected.add(method);
+            }
+        }
+        LOGGER.info("Test impact analysis: running {} of {} methods in {}", selected.size(), methods.size(),
+                context.getName());
+        return selected;
+    }
+
+    private static synchronized Optional<ImpactAnalysis.Selection> selection() {
+        if (selection == null) {
+            selection = Optional.ofNullable(analyze());
+        }
+        return selection;
+    }
+
+    private static ImpactAnalysis.Selection analyze() {
+        ConfigurationManager config = new ConfigurationManager();
+        if (config.getImpactBase() == null && config.getImpactDiffFile() == null) {
+            return null;
+        }
+        Path projectDir = Path.of("").toAbsolutePath();
+        try {
+            Map<String, Set<Integer>> changes = config.getImpactDiffFile() != null
+                    ? ImpactAnalysis.parseDiff(Files.readString(Path.of(config.getImpactDiffFile())))
+                    : ImpactAnalysis.changesFromGit(projectDir, config.getImpactBase());
+            SourceGraph graph = SourceGraph.build(ImpactAnalysis.SOURCE_ROOTS.stream().map(projectDir::resolve).toList());
+            ImpactAnalysis.Selection result = ImpactAnalysis.select(graph, projectDir, changes);
+
+            List<String> report = new ArrayList<>();
+            report.add(result.runAll() ? "Running all tests" : "Selected " + result.tests().size()
+                    + " test methods plus " + ImpactAnalysis.ALWAYS_RUN_PACKAGE);
+            report.add("");
+            report.add("Changes:");
+            result.reasons().forEach(reason -> report.add("  " + reason));
+            report.add("");
+            report.add("Selected:");
+            result.tests().forEach(test -> report.add("  " + test));
+            report.add("");
+            report.add("Dependencies:");
+            ImpactAnalysis.dependencyMap(graph).forEach(line -> report.add("  " + line));
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.write(REPORT_FILE, report, StandardCharsets.UTF_8);
+
+            LOGGER.info("Test impact analysis: {} changed files, {}; report at {}", changes.size(),
+                    result.runAll() ? "running all tests" : result.tests().size() + " affected test methods",
+                    REPORT_FILE);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Test impact analysis failed, running all tests: {}", e.getMessage());
+            return null;
+        }
+    }
+}
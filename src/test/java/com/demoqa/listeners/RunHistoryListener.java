@@ -0,0 +1,155 @@
+package com.demoqa.listeners;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.history.HistoryAnalyzer;
+import com.demoqa.history.RunHistory;
+import com.demoqa.history.RunHistory.Outcome;
+import com.demoqa.history.RunHistory.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A TestNG listener that keeps per-test outcomes and durations across runs in a {@link RunHistory}.
+ * <p>
+ * At the end of each suite the run's outcomes are appended to the store, then the history is analyzed
+ * with {@link HistoryAnalyzer}: tests that got markedly slower than their recent median and tests
+ * that flip between passing and failing are logged as warnings and written to
+ * {@code target/run-history-<suite>.txt}. Nothing fails the run.
+ *
+ * <p>Tests are keyed by qualified method name, plus the parameter values of the data provider row for
+ * data-driven tests and the browser parameter when one is set, so each row and each browser has a separate
+ * history. Otherwise rows with different outcomes in one run would look like a flaky test. Rows are keyed
+ * by their values rather than their position, since TestNG does not expose a row index and invocation
+ * counts also advance on retries.
+ */
+public class RunHistoryListener implements ITestListener, ISuiteListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RunHistoryListener.class);
+
+    private final Map<String, Long> runIds = new ConcurrentHashMap<>();
+    private final Map<String, List<Outcome>> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a new run for the suite; the start time is the run id.
+     *
+     * @param suite The suite that is about to run
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        runIds.put(suite.getName(), System.currentTimeMillis());
+        outcomes.put(suite.getName(), new ArrayList<>());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, Status.PASS);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, Status.FAIL);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, Status.SKIP);
+    }
+
+    /**
+     * Appends the suite's outcomes to the store and reports regressions and flaky tests.
+     *
+     * @param suite The suite that has finished
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        ConfigurationManager config = new ConfigurationManager();
+        Long runId = runIds.remove(suite.getName());
+        List<Outcome> run = outcomes.remove(suite.getName());
+        if (config.getRunHistoryDir() == null || runId == null || run == null || run.isEmpty()) {
+            return;
+        }
+        RunHistory history = new RunHistory(Path.of(config.getRunHistoryDir()));
+        try {
+            List<Outcome> snapshot;
+            synchronized (run) {
+                snapshot = new ArrayList<>(run);
+            }
+            history.append(snapshot);
+            // Only this suite's tests are analyzed; other suites report on their own
+            Map<String, List<Outcome>> all = history.read();
+            all.keySet().retainAll(snapshot.stream().map(Outcome::test).toList());
+
+            HistoryAnalyzer analyzer = new HistoryAnalyzer(config.getRunHistoryWindow(),
+                    config.getDurationRegressionRatio(), config.getDurationRegressionMinMillis());
+            List<HistoryAnalyzer.Regression> regressions = analyzer.findRegressions(all, runId);
+            List<HistoryAnalyzer.Flakiness> flaky = analyzer.findFlaky(all);
+            report(suite.getName(), snapshot.size(), regressions, flaky);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Run history not updated for suite {}: {}", suite.getName(), e.getMessage());
+        }
+    }
+
+    private void record(ITestResult result, Status status) {
+        List<Outcome> run = outcomes.get(result.getTestContext().getSuite().getName());
+        Long runId = runIds.get(result.getTestContext().getSuite().getName());
+        if (run == null || runId == null) {
+            return;
+        }
+        String test = result.getMethod().getQualifiedName();
+        if (result.getParameters().length > 0) {
+            test += Arrays.stream(result.getParameters()).map(String::valueOf)
+                    .collect(Collectors.joining(", ", "(", ")"));
+        }
+        String browser = result.getTestContext().getCurrentXmlTest().getParameter("browser");
+        if (browser != null) {
+            test += "[" + browser + "]";
+        }
+        int duration = (int) Math.max(0, result.getEndMillis() - result.getStartMillis());
+        synchronized (run) {
+            run.add(new Outcome(runId, test, status, duration));
+        }
+    }
+
+    private void report(String suiteName, int recorded, List<HistoryAnalyzer.Regression> regressions,
+                        List<HistoryAnalyzer.Flakiness> flaky) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("Run history for suite " + suiteName + ": " + recorded + " results recorded");
+        lines.add("");
+        lines.add("Duration regressions (" + regressions.size() + "):");
+        for (HistoryAnalyzer.Regression regression : regressions) {
+            String line = String.format("  %s: %d ms, median of earlier runs %d ms (x%.1f)",
+                    regression.test(), regression.currentMillis(), regression.baselineMillis(),
+                    (double) regression.currentMillis() / Math.max(1, regression.baselineMillis()));
+            lines.add(line);
+            LOGGER.warn("Slower than usual: {}", line.trim());
+        }
+        lines.add("");
+        lines.add("Flaky tests (" + flaky.size() + "):");
+        for (HistoryAnalyzer.Flakiness test : flaky) {
+            String line = String.format("  %s: failed in %d of %d runs, %d outcome changes",
+                    test.test(), test.failedRuns(), test.runs(), test.flips());
+            lines.add(line);
+            LOGGER.warn("Flaky: {}", line.trim());
+        }
+        Path reportFile = Path.of("target",
+                "run-history-" + suiteName.toLowerCase().replaceAll("[^a-z0-9]+", "-") + ".txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, lines, StandardCharsets.UTF_8);
+        LOGGER.info("Run history: {} regressions, {} flaky tests, report at {}",
+                regressions.size(), flaky.size(), reportFile);
+    }
+}
@@ -1,13 +1,26 @@
 package com.demoqa.listeners;
 
 import com.demoqa.base.BaseTest;
+import com.demoqa.data.TestDataGenerator;
+import com.demoqa.logging.LogOutput;
+import com.demoqa.logging.TestLogCapture;
+import com.demoqa.utils.AllureSteps;
 import com.demoqa.utils.SeleniumUtils;
-import io.qameta.allure.Attachment;
+import com.demoqa.utils.TypingMetrics;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
@@ -17,22 +30,117 @@ import org.testng.ITestResult;
  * This class implements {@link ITestListener} to capture test execution events and:
  * <ul>
  *   <li>Captures screenshots on test failures</li>
- *   <li>Attaches screenshots to Allure reports</li>
+ *   <li>Attaches screenshots to Allure reports through the lifecycle API (no AspectJ agent required)</li>
  *   <li>Saves screenshots locally</li>
  *   <li>Logs test execution status</li>
+ *   <li>Logs fork startup time for comparing Allure reporting modes</li>
+ *   <li>Logs per-field typing latency once at the end of the suite</li>
+ *   <li>Buffers each test's log with {@link TestLogCapture}: passing tests log one summary line,
+ *       failing and skipped tests write their full log and attach it to the Allure report</li>
  * </ul>
+ * A test's log capture runs from its first {@code @BeforeMethod} to its last {@code @AfterMethod}, so browser
+ * setup and teardown are buffered with the test. TestNG reports the test result before the
+ * {@code @AfterMethod} configurations run, so the result hooks take the screenshot and attach the log captured
+ * so far, while Allure still has the test case open, and the capture is ended by the configuration listener
+ * once every {@code @AfterMethod} of the test class has finished.
  *
  * @see ITestListener
  * @see BaseTest
  * @see SeleniumUtils
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener, IInvokedMethodListener, IConfigurationListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TestListener.class);
 
+    private static final AtomicBoolean STARTUP_LOGGED = new AtomicBoolean();
+
+    /**
+     * The finished test of the calling thread whose {@code @AfterMethod} configurations are still running
+     */
+    private static final ThreadLocal<FinishedTest> FINISHED_TEST = new ThreadLocal<>();
+
+    /**
+     * A test whose result is known and whose log capture ends after its remaining {@code @AfterMethod} methods.
+     */
+    private static final class FinishedTest {
+
+        private final ITestResult result;
+        private int remainingAfterMethods;
+
+        FinishedTest(ITestResult result, int remainingAfterMethods) {
+            this.result = result;
+            this.remainingAfterMethods = remainingAfterMethods;
+        }
+    }
+
+    /**
+     * Logs the time from JVM start until the first test context starts and the test data run seed, once per fork.
+     * Comparing this value between the default and the {@code allure-lifecycle} Maven profile
+     * shows the startup cost of the AspectJ weaver javaagent.
+     *
+     * @param context The test context that is about to start
+     */
+    @Override
+    public void onStart(ITestContext context) {
+        if (STARTUP_LOGGED.compareAndSet(false, true)) {
+            LOGGER.info("Fork startup time: {} ms (allure.reporting.mode={})",
+                    ManagementFactory.getRuntimeMXBean().getUptime(),
+                    System.getProperty("allure.reporting.mode", "aspectj"));
+            LOGGER.info("Test data run seed: {} (rerun with -Dtest.data.seed={})",
+                    TestDataGenerator.runSeed(), TestDataGenerator.runSeed());
+        }
+    }
+
+    /**
+     * Starts capturing the test's log before its first {@code @BeforeMethod}, so browser setup is included.
+     *
+     * @param method The configuration or test method about to run
+     * @param testResult The result of the method
+     */
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() || method.getTestMethod().isBeforeMethodConfiguration()) {
+            // A previous test whose @AfterMethod methods were not all reported must not pass on its capture
+            endTestLog();
+            TestLogCapture.begin();
+        }
+    }
+
+    /**
+     * Counts a finished {@code @AfterMethod} and ends the test's log capture after the last one.
+     *
+     * @param result The result of the configuration method
+     */
+    @Override
+    public void onConfigurationSuccess(ITestResult result) {
+        afterMethodFinished(result);
+    }
+
+    /**
+     * Counts a failed {@code @AfterMethod} and ends the test's log capture after the last one.
+     *
+     * @param result The result of the configuration method
+     */
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        afterMethodFinished(result);
+    }
+
+    /**
+     * Counts a skipped {@code @AfterMethod} and ends the test's log capture after the last one.
+     *
+     * @param result The result of the configuration method
+     */
+    @Override
+    public void onConfigurationSkip(ITestResult result) {
+        afterMethodFinished(result);
+    }
+
     /**
      * Invoked when a test fails. Captures screenshot and attaches it to Allure report,
-     * then saves it locally via {@link SeleniumUtils#takeScreenshot}.
+     * then saves the same capture locally via {@link SeleniumUtils#saveScreenshot}, while the browser is still open.
+     * The log buffered so far is attached now, since Allure writes the test case when its own listener sees
+     * the failure; the full log, including the {@code @AfterMethod} methods, is written to the console after them.
      *
      * @param result The test result containing information about the failed test
      */
@@ -45,7 +153,9 @@ public class TestListener implements ITestListener {
             if (driver != null) {
                 String screenshotName = result.getMethod().getMethodName();
                 byte[] allureScreenshot = saveScreenshotForAllure(driver);
-                String filePath = SeleniumUtils.takeScreenshot(driver, screenshotName);
+                String filePath = allureScreenshot.length > 0
+                        ? SeleniumUtils.saveScreenshot(allureScreenshot, screenshotName)
+                        : null;
 
                 if (allureScreenshot.length > 0 && filePath != null) {
                     LOGGER.info("Screenshot captured and saved successfully: {}", filePath);
@@ -54,50 +164,133 @@ public class TestListener implements ITestListener {
                 }
             }
         }
+        attachTestLog();
+        testFinished(result);
     }
 
     /**
      * Captures a screenshot of the current browser state and returns it as byte array.
      * <p>
-     * The screenshot will be attached to the Allure report with the name "Failure Screenshot".
+     * The screenshot is attached to the Allure report with the name "Failure Screenshot"
+     * via {@link AllureSteps#attach}, which works with and without the AspectJ agent.
      *
      * @param driver The WebDriver instance used to capture the screenshot
      * @return Byte array representing the PNG screenshot, or empty array if capture fails
      */
-    @Attachment(value = "Failure Screenshot", type = "image/png")
     private byte[] saveScreenshotForAllure(WebDriver driver) {
         if (driver instanceof TakesScreenshot) {
-            return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            AllureSteps.attach("Failure Screenshot", "image/png", ".png", screenshot);
+            return screenshot;
         }
         return new byte[0];
     }
 
     /**
-     * Logs test start information to console output.
+     * Logs test start information into the test's log capture, so a passing test only prints its summary line.
      *
      * @param result The test result containing information about the starting test
      */
     @Override
     public void onTestStart(ITestResult result) {
+        TestLogCapture.begin();
         LOGGER.info("Test started: {}", result.getName());
     }
 
     /**
-     * Logs test success information to console output.
+     * Invoked when a test passes. A summary line is logged and the buffered log discarded after the test's
+     * {@code @AfterMethod} methods.
      *
      * @param result The test result containing information about the passed test
      */
     @Override
     public void onTestSuccess(ITestResult result) {
-        LOGGER.info("Test passed: {}", result.getName());    }
+        testFinished(result);
+    }
 
     /**
-     * Logs test skip information to console output.
+     * Invoked when a test is skipped. The log buffered so far is attached to the report now, and the skip and
+     * the full log are written to the console after the test's {@code @AfterMethod} methods.
      *
      * @param result The test result containing information about the skipped test
      */
     @Override
     public void onTestSkipped(ITestResult result) {
-        LOGGER.warn("Test skipped: {}", result.getName());
+        attachTestLog();
+        testFinished(result);
+    }
+
+    /**
+     * Attaches the calling thread's log captured so far to the running Allure test case, before Allure
+     * stops and writes it.
+     */
+    private void attachTestLog() {
+        TestLogCapture.Captured log = TestLogCapture.snapshot();
+        if (log != null && !log.text().isEmpty()) {
+            AllureSteps.attach("Test log", "text/plain", ".log", log.text().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Keeps capturing until the test class's {@code @AfterMethod} methods have run, or ends the capture now
+     * if it has none.
+     */
+    private void testFinished(ITestResult result) {
+        int afterMethods = result.getMethod().getTestClass().getAfterTestMethods().length;
+        FINISHED_TEST.set(new FinishedTest(result, afterMethods));
+        if (afterMethods == 0) {
+            endTestLog();
+        }
+    }
+
+    private void afterMethodFinished(ITestResult configuration) {
+        FinishedTest finished = FINISHED_TEST.get();
+        if (finished != null && configuration.getMethod().isAfterMethodConfiguration()
+                && --finished.remainingAfterMethods <= 0) {
+            endTestLog();
+        }
+    }
+
+    /**
+     * Ends the log capture of the calling thread's finished test, if any, and reports its outcome: a summary
+     * line for a passed test, the buffered log for a failed or skipped one.
+     */
+    private void endTestLog() {
+        FinishedTest finished = FINISHED_TEST.get();
+        if (finished == null) {
+            return;
+        }
+        FINISHED_TEST.remove();
+        ITestResult result = finished.result;
+        if (result.getStatus() == ITestResult.SUCCESS) {
+            TestLogCapture.Captured log = TestLogCapture.end();
+            LOGGER.info("Test passed: {} ({} ms, {} log lines)", result.getName(),
+                    result.getEndMillis() - result.getStartMillis(), log == null ? 0 : log.lines());
+        } else {
+            flushTestLog(result, result.getStatus() == ITestResult.SKIP ? "skipped" : "failed");
+        }
+    }
+
+    /**
+     * Ends the test's log capture and writes the buffered lines after a status line.
+     */
+    private void flushTestLog(ITestResult result, String status) {
+        TestLogCapture.Captured log = TestLogCapture.end();
+        LOGGER.warn("Test {}: {}{}", status, result.getName(),
+                log == null ? "" : ", test log (" + log.lines() + " lines) follows");
+        if (log != null && !log.text().isEmpty()) {
+            LogOutput.write(log.text());
+        }
+    }
+
+    /**
+     * Logs the per-field typing latency recorded by the page objects during the suite, once after all
+     * {@code <test>} contexts of the suite have finished.
+     *
+     * @param suite The suite that has finished
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        TypingMetrics.logSummary();
     }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.demoqa.load;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the step latencies of two deployments by running the same {@link LoadScenario}s against both,
+ * interleaved.
+ * <p>
+ * Each round runs every scenario once against the baseline and once against the candidate, back to back on
+ * one session, in an order drawn per scenario and round. Interleaving spreads drift in the network, the
+ * machine and the sites themselves evenly over both arms, and the random order keeps the second run of a
+ * pair, which finds a warmer browser, from always favouring the same arm. The first rounds only warm up and
+ * are discarded.
+ *
+ * <p>Each step is then tested with {@link MannWhitney}: the report gives the median difference with its
+ * confidence interval and a p-value Holm-adjusted over all steps, so one run of many steps does not flag
+ * noise as a change.
+ *
+ * @see ABReport
+ */
+public final class ABComparison {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ABComparison.class);
+
+    private final List<LoadScenario> scenarios;
+    private final String baselineUrl;
+    private final String candidateUrl;
+    private final int rounds;
+    private final int warmupRounds;
+    private final long seed;
+    private final Supplier<WebDriver> sessions;
+
+    /**
+     * Creates a comparison.
+     *
+     * @param scenarios Scenarios run against both deployments each round
+     * @param baselineUrl Base URL of the reference deployment, e.g. production
+     * @param candidateUrl Base URL of the deployment under test
+     * @param rounds Measured rounds, i.e. samples per step and deployment
+     * @param warmupRounds Rounds run first and discarded
+     * @param seed Seed of the order in which the deployments are run each round
+     * @param sessions Starts the session, e.g. a headless browser
+     * @throws IllegalArgumentException if no scenario is given or there are fewer than two measured rounds
+     */
+    public ABComparison(List<LoadScenario> scenarios, String baselineUrl, String candidateUrl, int rounds,
+                        int warmupRounds, long seed, Supplier<WebDriver> sessions) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        if (rounds < 2) {
+            throw new IllegalArgumentException("At least two measured rounds are required, was " + rounds);
+        }
+        this.scenarios = List.copyOf(scenarios);
+        this.baselineUrl = baselineUrl;
+        this.candidateUrl = candidateUrl;
+        this.rounds = rounds;
+        this.warmupRounds = Math.max(0, warmupRounds);
+        this.seed = seed;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Runs all rounds and tests the differences.
+     *
+     * @param alpha Significance level applied to the adjusted p-values, e.g. 0.05; the confidence
+     *              intervals have level 1 - alpha
+     * @return The report
+     */
+    public ABReport run(double alpha) {
+        long start = System.nanoTime();
+        Random order = new Random(seed);
+        Map<String, Timings[]> timings = new LinkedHashMap<>();
+        long[] failedIterations = new long[2];
+        WebDriver driver = null;
+        try {
+            for (int round = 0; round < warmupRounds + rounds; round++) {
+                boolean measured = round >= warmupRounds;
+                for (LoadScenario scenario : scenarios) {
+                    int first = order.nextBoolean() ? 1 : 0;
+                    for (int arm : new int[]{first, 1 - first}) {
+                        if (driver == null) {
+                            driver = sessions.get();
+                        }
+                        Recorder steps = new Recorder(scenario.name(), arm, measured ? timings : null);
+                        try {
+                            scenario.flow().run(driver, arm == 0 ? baselineUrl : candidateUrl, steps);
+                        } catch (NoSuchSessionException e) {
+                            failedIterations[arm] += measured ? 1 : 0;
+                            LOGGER.warn("A/B comparison lost its session, starting a new one");
+                            quit(driver);
+                            driver = null;
+                        } catch (RuntimeException e) {
+                            failedIterations[arm] += measured ? 1 : 0;
+                        }
+                    }
+                }
+                LOGGER.debug("A/B round {} of {} done", round + 1, warmupRounds + rounds);
+            }
+        } finally {
+            quit(driver);
+        }
+        return report(timings, failedIterations, alpha, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private ABReport report(Map<String, Timings[]> timings, long[] failedIterations, double alpha, Duration elapsed) {
+        List<String> steps = new ArrayList<>();
+        List<MannWhitney.Result> results = new ArrayList<>();
+        // Steps in scenario order, so the report groups a scenario's steps together
+        for (LoadScenario scenario : scenarios) {
+            timings.forEach((step, arms) -> {
+                if (step.startsWith(scenario.name() + "/")) {
+                    steps.add(step);
+                    results.add(arms[0].size == 0 || arms[1].size == 0 ? null
+                            : MannWhitney.compare(arms[0].values(), arms[1].values(), 1 - alpha));
+                }
+            });
+        }
+        double[] adjusted = MannWhitney.holm(results.stream()
+                .filter(result -> result != null)
+                .mapToDouble(MannWhitney.Result::pValue)
+                .toArray());
+
+        List<ABReport.StepComparison> comparisons = new ArrayList<>();
+        int tested = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            Timings[] arms = timings.get(steps.get(i));
+            MannWhitney.Result result = results.get(i);
+            comparisons.add(new ABReport.StepComparison(steps.get(i),
+                    arms[0].size, arms[0].errors, arms[0].median(),
+                    arms[1].size, arms[1].errors, arms[1].median(),
+                    result, result == null ? Double.NaN : adjusted[tested++]));
+        }
+        return new ABReport(baselineUrl, candidateUrl, rounds, warmupRounds, seed, alpha, elapsed,
+                failedIterations[0], failedIterations[1], comparisons);
+    }
+
+    private static void quit(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.warn("Failed to quit A/B comparison session: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Times the steps of one scenario run against one deployment; discards them during warm-up.
+     */
+    private static final class Recorder implements LoadScenario.Steps {
+
+        private final String scenarioName;
+        private final int arm;
+        private final Map<String, Timings[]> timings;
+
+        Recorder(String scenarioName, int arm, Map<String, Timings[]> timings) {
+            this.scenarioName = scenarioName;
+            this.arm = arm;
+            this.timings = timings;
+        }
+
+        /**
+         * Times a step; a failure is counted against the step and rethrown to end the run.
+         */
+        @Override
+        public void time(String step, Runnable action) {
+            Timings stepTimings = timings == null ? new Timings()
+                    : timings.computeIfAbsent(scenarioName + "/" + step,
+                            key -> new Timings[]{new Timings(), new Timings()})[arm];
+            long begin = System.nanoTime();
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                stepTimings.errors++;
+                LOGGER.debug("Failed step {}/{} on the {}: {}", scenarioName, step,
+                        arm == 0 ? "baseline" : "candidate", e.getMessage());
+                throw e;
+            }
+            stepTimings.add((System.nanoTime() - begin) / 1_000);
+        }
+    }
+
+    /**
+     * Latencies of one step on one deployment in microseconds, in a growable primitive array.
+     */
+    private static final class Timings {
+
+        private long[] values = new long[64];
+        private int size;
+        private long errors;
+
+        void add(long micros) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = micros;
+        }
+
+        long[] values() {
+            return Arrays.copyOf(values, size);
+        }
+
+        long median() {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = values();
+            Arrays.sort(sorted);
+            return size % 2 == 1 ? sorted[size / 2] : (sorted[size / 2 - 1] + sorted[size / 2]) / 2;
+        }
+    }
+}
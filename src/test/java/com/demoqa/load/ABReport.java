@@ -0,0 +1,123 @@
+package com.demoqa.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of an {@link ABComparison}: per step, the latency difference of the candidate from the baseline and
+ * whether it is statistically significant.
+ *
+ * @param baselineUrl Base URL of the reference deployment
+ * @param candidateUrl Base URL of the deployment under test
+ * @param rounds Measured rounds
+ * @param warmupRounds Discarded rounds run first
+ * @param seed Seed of the run order, to repeat the same interleaving
+ * @param alpha Significance level of the adjusted p-values; the intervals have level 1 - alpha
+ * @param elapsed Wall-clock time of all rounds, warm-up included
+ * @param baselineFailures Measured scenario runs against the baseline ended by a failing step
+ * @param candidateFailures Measured scenario runs against the candidate ended by a failing step
+ * @param steps Comparison per {@code scenario/step}, in scenario order
+ */
+public record ABReport(String baselineUrl, String candidateUrl, int rounds, int warmupRounds, long seed,
+                       double alpha, Duration elapsed, long baselineFailures, long candidateFailures,
+                       List<StepComparison> steps) {
+
+    /**
+     * Comparison of one step. Latencies are of successful executions only.
+     *
+     * @param step Step name as {@code scenario/step}
+     * @param baselineCount Successful executions against the baseline
+     * @param baselineErrors Failed executions against the baseline
+     * @param baselineMedianMicros Median baseline latency
+     * @param candidateCount Successful executions against the candidate
+     * @param candidateErrors Failed executions against the candidate
+     * @param candidateMedianMicros Median candidate latency
+     * @param test Mann-Whitney result in microseconds, candidate minus baseline; null if an arm has no samples
+     * @param adjustedP Holm-adjusted p-value, NaN if not tested
+     */
+    public record StepComparison(String step, long baselineCount, long baselineErrors, long baselineMedianMicros,
+                                 long candidateCount, long candidateErrors, long candidateMedianMicros,
+                                 MannWhitney.Result test, double adjustedP) {
+
+        /**
+         * Gets the estimated change relative to the baseline median.
+         *
+         * @return The change in percent, positive when the candidate is slower; NaN if not tested
+         */
+        public double changePercent() {
+            return test == null || baselineMedianMicros == 0 ? Double.NaN
+                    : test.shift() * 100.0 / baselineMedianMicros;
+        }
+
+        /**
+         * Classifies the difference at a significance level.
+         *
+         * @param alpha The significance level
+         * @return slower or faster if the adjusted p-value is below alpha, otherwise no change;
+         *         n/a if the step was not tested
+         */
+        public String verdict(double alpha) {
+            if (test == null) {
+                return "n/a";
+            }
+            if (adjustedP >= alpha) {
+                return "no change";
+            }
+            return test.shift() > 0 ? "slower" : "faster";
+        }
+    }
+
+    /**
+     * Gets the comparison of a step.
+     *
+     * @param step Step name as {@code scenario/step}
+     * @return The comparison, or null if the step never ran
+     */
+    public StepComparison step(String step) {
+        return steps.stream().filter(comparison -> comparison.step().equals(step)).findFirst().orElse(null);
+    }
+
+    /**
+     * Gets the steps on which the candidate is significantly slower.
+     *
+     * @return The regressed steps
+     */
+    public List<StepComparison> regressions() {
+        return steps.stream().filter(comparison -> comparison.verdict(alpha).equals("slower")).toList();
+    }
+
+    /**
+     * Formats the report as a table, one line per step.
+     *
+     * @return The report lines
+     */
+    public List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("A/B comparison: baseline " + baselineUrl + " vs candidate " + candidateUrl);
+        lines.add(String.format("%d measured rounds after %d warm-up rounds in %.1f s, order seed %d;"
+                        + " failed runs: %d baseline, %d candidate", rounds, warmupRounds,
+                elapsed.toMillis() / 1000.0, seed, baselineFailures, candidateFailures));
+        lines.add(String.format("diff = candidate - baseline (Hodges-Lehmann, %.0f%% CI); p = Mann-Whitney,"
+                + " Holm-adjusted over %d steps, significant below %.3f", (1 - alpha) * 100, steps.size(), alpha));
+        lines.add("");
+        lines.add(String.format("%-28s %5s %5s %9s %9s %9s %21s %8s %9s %9s  %s",
+                "step", "n A", "n B", "A p50 ms", "B p50 ms", "diff ms", "CI ms", "change", "p", "p adj",
+                "verdict"));
+        for (StepComparison comparison : steps) {
+            MannWhitney.Result test = comparison.test();
+            lines.add(String.format("%-28s %5d %5d %9.1f %9.1f %9s %21s %8s %9s %9s  %s",
+                    comparison.step(), comparison.baselineCount(), comparison.candidateCount(),
+                    comparison.baselineMedianMicros() / 1000.0, comparison.candidateMedianMicros() / 1000.0,
+                    test == null ? "-" : String.format("%+.1f", test.shift() / 1000.0),
+                    test == null ? "-" : String.format("[%+.1f, %+.1f]", test.shiftLow() / 1000.0,
+                            test.shiftHigh() / 1000.0),
+                    Double.isNaN(comparison.changePercent()) ? "-"
+                            : String.format("%+.1f%%", comparison.changePercent()),
+                    test == null ? "-" : String.format("%.4f", test.pValue()),
+                    test == null ? "-" : String.format("%.4f", comparison.adjustedP()),
+                    comparison.verdict(alpha)));
+        }
+        return lines;
+    }
+}
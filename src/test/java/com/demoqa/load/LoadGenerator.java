@@ -0,0 +1,249 @@
+package com.demoqa.load;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@link LoadScenario}s with concurrent virtual users and measures each step.
+ * <p>
+ * Every virtual user is a thread with its own session, started once and reused for all its iterations
+ * (restarted only if the session is lost). An iteration runs one scenario; users take the scenarios in turn,
+ * each starting at a different one, so the mix stays even at any user count. Latencies are collected per
+ * user without locking and merged when the run ends.
+ *
+ * @see LoadProfile
+ * @see LoadReport
+ */
+public final class LoadGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final LoadProfile profile;
+    private final List<LoadScenario> scenarios;
+    private final String baseUrl;
+    private final Supplier<WebDriver> sessions;
+
+    /**
+     * Creates a load generator.
+     *
+     * @param profile Users, limits and ramp-up
+     * @param scenarios Scenarios the users take in turn
+     * @param baseUrl Base URL of the deployment under load
+     * @param sessions Starts a new session for a virtual user, e.g. a headless browser
+     * @throws IllegalArgumentException if no scenario is given
+     */
+    public LoadGenerator(LoadProfile profile, List<LoadScenario> scenarios, String baseUrl, Supplier<WebDriver> sessions) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one load scenario is required");
+        }
+        this.profile = profile;
+        this.scenarios = List.copyOf(scenarios);
+        this.baseUrl = baseUrl;
+        this.sessions = sessions;
+    }
+
+    /**
+     * Runs the load and waits for all virtual users to finish.
+     *
+     * @return The report
+     * @throws InterruptedException if interrupted while waiting; the users are stopped
+     */
+    public LoadReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = profile.duration().isZero() ? Long.MAX_VALUE : start + profile.duration().toNanos();
+        AtomicInteger sessionStarts = new AtomicInteger();
+        List<VirtualUser> users = new ArrayList<>();
+        List<Future<?>> running = new ArrayList<>();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(profile.users(),
+                task -> new Thread(task, "virtual-user-" + threadIndex.incrementAndGet()));
+        try {
+            for (int i = 0; i < profile.users(); i++) {
+                VirtualUser user = new VirtualUser(i, start + profile.startDelay(i).toNanos(), deadline, sessionStarts);
+                users.add(user);
+                running.add(executor.submit(user::run));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Virtual user crashed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return report(users, Duration.ofNanos(System.nanoTime() - start), sessionStarts.get());
+    }
+
+    private LoadReport report(List<VirtualUser> users, Duration elapsed, int sessionStarts) {
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        long iterations = 0;
+        long failed = 0;
+        List<Long> userIterations = new ArrayList<>();
+        for (VirtualUser user : users) {
+            iterations += user.iterations;
+            failed += user.failedIterations;
+            userIterations.add(user.iterations);
+        }
+        // Steps in scenario order, so the report groups a scenario's steps together
+        for (LoadScenario scenario : scenarios) {
+            for (VirtualUser user : users) {
+                user.samples.forEach((step, samples) -> {
+                    if (step.startsWith(scenario.name() + "/")) {
+                        merged.computeIfAbsent(step, key -> new Samples()).addAll(samples);
+                    }
+                });
+            }
+        }
+        List<LoadReport.StepStats> steps = new ArrayList<>();
+        merged.forEach((step, samples) -> steps.add(samples.stats(step)));
+        return new LoadReport(profile, elapsed, iterations, List.copyOf(userIterations), failed, sessionStarts, steps);
+    }
+
+    /**
+     * One virtual user: a session and the latencies of its steps.
+     */
+    private final class VirtualUser implements LoadScenario.Steps {
+
+        private final int index;
+        private final long startAt;
+        private final long deadline;
+        private final AtomicInteger sessionStarts;
+        private final Map<String, Samples> samples = new LinkedHashMap<>();
+        private String scenarioName;
+        private long iterations;
+        private long failedIterations;
+
+        VirtualUser(int index, long startAt, long deadline, AtomicInteger sessionStarts) {
+            this.index = index;
+            this.startAt = startAt;
+            this.deadline = deadline;
+            this.sessionStarts = sessionStarts;
+        }
+
+        void run() {
+            try {
+                long delay = startAt - System.nanoTime();
+                if (delay > 0) {
+                    Thread.sleep(Duration.ofNanos(delay));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            WebDriver driver = null;
+            try {
+                while (!done()) {
+                    if (driver == null) {
+                        driver = sessions.get();
+                        sessionStarts.incrementAndGet();
+                    }
+                    LoadScenario scenario = scenarios.get((int) ((index + iterations) % scenarios.size()));
+                    scenarioName = scenario.name();
+                    iterations++;
+                    try {
+                        scenario.flow().run(driver, baseUrl, this);
+                    } catch (NoSuchSessionException e) {
+                        failedIterations++;
+                        LOGGER.warn("Virtual user {} lost its session, starting a new one", index + 1);
+                        quit(driver);
+                        driver = null;
+                    } catch (RuntimeException e) {
+                        failedIterations++;
+                    }
+                }
+            } finally {
+                quit(driver);
+            }
+        }
+
+        /**
+         * Times a step; a failure is counted against the step and rethrown to end the iteration.
+         */
+        @Override
+        public void time(String step, Runnable action) {
+            Samples stepSamples = samples.computeIfAbsent(scenarioName + "/" + step, key -> new Samples());
+            long begin = System.nanoTime();
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                stepSamples.errors++;
+                LOGGER.debug("Virtual user {} failed step {}/{}: {}", index + 1, scenarioName, step, e.getMessage());
+                throw e;
+            }
+            stepSamples.add((System.nanoTime() - begin) / 1_000);
+        }
+
+        private boolean done() {
+            return Thread.currentThread().isInterrupted()
+                    || System.nanoTime() >= deadline
+                    || (profile.iterations() > 0 && iterations >= profile.iterations());
+        }
+
+        private void quit(WebDriver driver) {
+            if (driver == null) {
+                return;
+            }
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                LOGGER.warn("Failed to quit session of virtual user {}: {}", index + 1, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Latencies of one step in microseconds, in a growable primitive array.
+     */
+    private static final class Samples {
+
+        private long[] values = new long[256];
+        private int size;
+        private long errors;
+
+        void add(long micros) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = micros;
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, values.length * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        LoadReport.StepStats stats(String step) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return new LoadReport.StepStats(step, size, errors, percentile(sorted, 50), percentile(sorted, 95),
+                    percentile(sorted, 99), size == 0 ? 0 : sorted[size - 1]);
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.demoqa.load;
+
+import java.time.Duration;
+
+/**
+ * How much load a {@link LoadGenerator} applies.
+ * <p>
+ * Virtual users start evenly spread over the ramp-up, e.g. 10 users with a 20 s ramp-up start one every 2 s.
+ * Each user then runs iterations until the duration has passed (measured from the start of the run, ramp-up
+ * included) or it has run the given number of iterations, whichever comes first.
+ *
+ * @param users Number of concurrent virtual users, each with its own session
+ * @param duration Run time limit; zero for no limit
+ * @param iterations Iterations per virtual user; zero for no limit
+ * @param rampUp Time over which the users are started
+ */
+public record LoadProfile(int users, Duration duration, int iterations, Duration rampUp) {
+
+    /**
+     * Validates the profile.
+     *
+     * @throws IllegalArgumentException if there are no users, a negative value, or neither limit
+     */
+    public LoadProfile {
+        if (users < 1) {
+            throw new IllegalArgumentException("Load profile needs at least one user, got " + users);
+        }
+        if (duration.isNegative() || rampUp.isNegative() || iterations < 0) {
+            throw new IllegalArgumentException("Load profile limits must not be negative");
+        }
+        if (duration.isZero() && iterations == 0) {
+            throw new IllegalArgumentException("Load profile needs a duration or an iteration count");
+        }
+    }
+
+    /**
+     * Gets the delay before a virtual user starts.
+     *
+     * @param user Zero-based user index
+     * @return The user's share of the ramp-up
+     */
+    public Duration startDelay(int user) {
+        return rampUp.multipliedBy(user).dividedBy(users);
+    }
+}
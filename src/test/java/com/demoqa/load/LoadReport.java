@@ -0,0 +1,85 @@
+package com.demoqa.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a {@link LoadGenerator} run: throughput and latency percentiles per step.
+ *
+ * @param profile The applied load
+ * @param elapsed Wall-clock time from the first user's start to the last user's end
+ * @param iterations Completed iterations, failed ones included
+ * @param userIterations Completed iterations of each virtual user, in start order
+ * @param failedIterations Iterations ended by a failing step
+ * @param sessionStarts Sessions started by the virtual users, including restarts after a lost session
+ * @param steps Statistics per {@code scenario/step}, in the order steps were first seen
+ */
+public record LoadReport(LoadProfile profile, Duration elapsed, long iterations, List<Long> userIterations,
+                         long failedIterations, int sessionStarts, List<StepStats> steps) {
+
+    /**
+     * Statistics of one step over all virtual users. Latencies are of successful executions only.
+     *
+     * @param step Step name as {@code scenario/step}
+     * @param count Successful executions
+     * @param errors Failed executions
+     * @param p50Micros Median latency
+     * @param p95Micros 95th percentile latency
+     * @param p99Micros 99th percentile latency
+     * @param maxMicros Maximum latency
+     */
+    public record StepStats(String step, long count, long errors, long p50Micros, long p95Micros, long p99Micros,
+                            long maxMicros) {
+    }
+
+    /**
+     * Gets the completed iterations per second of the whole run.
+     *
+     * @return Iterations per second
+     */
+    public double throughputPerSecond() {
+        return perSecond(iterations);
+    }
+
+    /**
+     * Gets the statistics of a step.
+     *
+     * @param step Step name as {@code scenario/step}
+     * @return The statistics, or null if the step never ran
+     */
+    public StepStats step(String step) {
+        return steps.stream().filter(stats -> stats.step().equals(step)).findFirst().orElse(null);
+    }
+
+    /**
+     * Formats the report as a table, one line per step.
+     *
+     * @return The report lines
+     */
+    public List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Load: %d users, ramp-up %.1f s, duration limit %.1f s, iteration limit %d per user"
+                        + " (0 = none)", profile.users(), profile.rampUp().toMillis() / 1000.0,
+                profile.duration().toMillis() / 1000.0, profile.iterations()));
+        lines.add(String.format("Ran %d iterations (%d failed) in %.1f s: %.2f iterations/s, %d sessions started",
+                iterations, failedIterations, elapsed.toMillis() / 1000.0, throughputPerSecond(), sessionStarts));
+        lines.add(String.format("Iterations per user: min %d, max %d",
+                userIterations.stream().mapToLong(Long::longValue).min().orElse(0),
+                userIterations.stream().mapToLong(Long::longValue).max().orElse(0)));
+        lines.add("");
+        lines.add(String.format("%-28s %8s %7s %9s %10s %10s %10s %10s",
+                "step", "count", "errors", "per sec", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (StepStats stats : steps) {
+            lines.add(String.format("%-28s %8d %7d %9.2f %10.1f %10.1f %10.1f %10.1f",
+                    stats.step(), stats.count(), stats.errors(), perSecond(stats.count()),
+                    stats.p50Micros() / 1000.0, stats.p95Micros() / 1000.0, stats.p99Micros() / 1000.0,
+                    stats.maxMicros() / 1000.0));
+        }
+        return lines;
+    }
+
+    private double perSecond(long count) {
+        return elapsed.isZero() ? 0 : count * 1_000_000_000.0 / elapsed.toNanos();
+    }
+}
@@ -0,0 +1,150 @@
+package com.demoqa.load;
+
+import com.demoqa.pages.PageRouter;
+import com.demoqa.pages.alerts.AlertPage;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.pages.forms.PracticeFormPage;
+import org.openqa.selenium.WebDriver;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A user flow run repeatedly by the virtual users of a {@link LoadGenerator}, built from the page objects.
+ * <p>
+ * A flow is split into named steps; each step is timed separately, so the report shows e.g. how long
+ * submitting the practice form takes apart from loading it. A step fails by throwing, which ends the
+ * iteration and counts as an error of that step.
+ *
+ * @param name Scenario name, used as prefix of its step names
+ * @param flow The steps of one iteration
+ */
+public record LoadScenario(String name, Flow flow) {
+
+    /**
+     * Names accepted by {@link #byName(String)}
+     */
+    public static final List<String> NAMES = List.of("textbox", "practice-form", "alerts");
+
+    /**
+     * One iteration of a scenario.
+     */
+    @FunctionalInterface
+    public interface Flow {
+
+        /**
+         * Runs the steps of one iteration.
+         *
+         * @param driver The virtual user's session, reused across iterations
+         * @param baseUrl The base URL of the deployment under load
+         * @param steps Times each step
+         */
+        void run(WebDriver driver, String baseUrl, Steps steps);
+    }
+
+    /**
+     * Times the steps of an iteration.
+     */
+    @FunctionalInterface
+    public interface Steps {
+
+        /**
+         * Runs and times a step.
+         *
+         * @param step Step name, unique within the scenario
+         * @param action The step's page interactions
+         */
+        void time(String step, Runnable action);
+
+        /**
+         * Runs and times a step that produces a value, such as opening a page.
+         *
+         * @param step Step name, unique within the scenario
+         * @param action The step's page interactions
+         * @param <T> The type of the step result
+         * @return The value returned by the action
+         */
+        default <T> T time(String step, Supplier<T> action) {
+            AtomicReference<T> result = new AtomicReference<>();
+            time(step, () -> result.set(action.get()));
+            return result.get();
+        }
+    }
+
+    /**
+     * Fills and submits the text box form, then checks the output box.
+     *
+     * @return The scenario
+     */
+    public static LoadScenario textBox() {
+        return new LoadScenario("textbox", (driver, baseUrl, steps) -> {
+            TextBoxPage page = steps.time("open", () -> new PageRouter(driver, baseUrl).navigateTo(TextBoxPage.class));
+            steps.time("fill", () -> page.fillForm("John Doe", "john@example.com", "123 Main St", "456 Oak Ave"));
+            steps.time("submit", () -> {
+                page.submitForm();
+                check(page.isOutputDisplayed(), "Text box output not displayed");
+            });
+        });
+    }
+
+    /**
+     * Fills the required practice form fields, submits and closes the confirmation modal.
+     *
+     * @return The scenario
+     */
+    public static LoadScenario practiceForm() {
+        return new LoadScenario("practice-form", (driver, baseUrl, steps) -> {
+            PracticeFormPage page = steps.time("open", () -> new PageRouter(driver, baseUrl).navigateTo(PracticeFormPage.class));
+            steps.time("fill", () -> {
+                page.enterFirstName("John");
+                page.enterLastName("Doe");
+                page.enterEmail("john.doe@example.com");
+                page.selectGender("Male");
+                page.enterPhoneNumber("1234567890");
+            });
+            steps.time("submit", () -> {
+                page.submitForm();
+                check(page.isModalDisplayed(), "Confirmation modal not displayed");
+            });
+            steps.time("close", page::closeModal);
+        });
+    }
+
+    /**
+     * Opens and accepts the confirmation dialog, then checks the result text.
+     *
+     * @return The scenario
+     */
+    public static LoadScenario alerts() {
+        return new LoadScenario("alerts", (driver, baseUrl, steps) -> {
+            AlertPage page = steps.time("open", () -> new PageRouter(driver, baseUrl).navigateTo(AlertPage.class));
+            steps.time("confirm", () -> {
+                page.clickConfirmButton();
+                page.waitForAlert().accept();
+                check(page.getConfirmResultText().contains("Ok"), "Confirmation result not shown");
+            });
+        });
+    }
+
+    /**
+     * Gets a scenario by name.
+     *
+     * @param name One of {@link #NAMES}
+     * @return The scenario
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static LoadScenario byName(String name) {
+        return switch (name.strip().toLowerCase()) {
+            case "textbox" -> textBox();
+            case "practice-form" -> practiceForm();
+            case "alerts" -> alerts();
+            default -> throw new IllegalArgumentException("Unknown load scenario: " + name + ", expected one of " + NAMES);
+        };
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.demoqa.load;
+
+import java.util.Arrays;
+
+/**
+ * Mann-Whitney U test of two independent samples, with the Hodges-Lehmann estimate of the shift between them.
+ * <p>
+ * Latencies are skewed and have outliers, so comparing means or a single run hides real changes and reports
+ * noise as changes. The rank-based U test makes no normality assumption; the shift estimate is the median of
+ * all pairwise differences, with a distribution-free confidence interval from their order statistics. The
+ * p-value uses the normal approximation with tie and continuity correction, which is accurate from about
+ * ten samples per side.
+ */
+public final class MannWhitney {
+
+    private MannWhitney() {
+    }
+
+    /**
+     * Result of a comparison; shifts are in the unit of the samples and positive when b is larger.
+     *
+     * @param u U statistic of the first sample
+     * @param z Standardized U, negative when the first sample tends to be smaller
+     * @param pValue Two-sided p-value
+     * @param shift Hodges-Lehmann estimate of b minus a
+     * @param shiftLow Lower bound of the confidence interval of the shift
+     * @param shiftHigh Upper bound of the confidence interval of the shift
+     */
+    public record Result(double u, double z, double pValue, double shift, double shiftLow, double shiftHigh) {
+    }
+
+    /**
+     * Compares two samples.
+     *
+     * @param a First sample, e.g. baseline latencies
+     * @param b Second sample, e.g. candidate latencies
+     * @param confidence Confidence level of the shift interval, e.g. 0.95
+     * @return The test result
+     * @throws IllegalArgumentException if a sample is empty or the confidence is not between 0 and 1
+     */
+    public static Result compare(long[] a, long[] b, double confidence) {
+        if (a.length == 0 || b.length == 0) {
+            throw new IllegalArgumentException("Both samples need at least one value");
+        }
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1, was " + confidence);
+        }
+        int n = a.length;
+        int m = b.length;
+
+        // Rank the pooled sample; tied values share their average rank
+        long[][] pooled = new long[n + m][];
+        for (int i = 0; i < n; i++) {
+            pooled[i] = new long[]{a[i], 0};
+        }
+        for (int j = 0; j < m; j++) {
+            pooled[n + j] = new long[]{b[j], 1};
+        }
+        Arrays.sort(pooled, (x, y) -> Long.compare(x[0], y[0]));
+        double rankSumA = 0;
+        double tieTerm = 0;
+        for (int start = 0; start < pooled.length; ) {
+            int end = start;
+            while (end + 1 < pooled.length && pooled[end + 1][0] == pooled[start][0]) {
+                end++;
+            }
+            double rank = (start + end + 2) / 2.0;
+            for (int k = start; k <= end; k++) {
+                if (pooled[k][1] == 0) {
+                    rankSumA += rank;
+                }
+            }
+            double ties = end - start + 1;
+            tieTerm += ties * ties * ties - ties;
+            start = end + 1;
+        }
+
+        double u = rankSumA - n * (n + 1) / 2.0;
+        double mean = n * (double) m / 2;
+        double total = n + m;
+        double variance = n * (double) m / 12 * ((total + 1) - tieTerm / (total * (total - 1)));
+        double z = 0;
+        double pValue = 1;
+        if (variance > 0) {
+            double difference = u - mean;
+            double corrected = Math.signum(difference) * Math.max(0, Math.abs(difference) - 0.5);
+            z = corrected / Math.sqrt(variance);
+            pValue = Math.min(1, erfc(Math.abs(z) / Math.sqrt(2)));
+        }
+
+        long[] differences = new long[n * m];
+        int index = 0;
+        for (long valueA : a) {
+            for (long valueB : b) {
+                differences[index++] = valueB - valueA;
+            }
+        }
+        Arrays.sort(differences);
+        double shift = differences.length % 2 == 1
+                ? differences[differences.length / 2]
+                : (differences[differences.length / 2 - 1] + differences[differences.length / 2]) / 2.0;
+        // The interval runs from the k-th smallest to the k-th largest difference (1-based), with k the
+        // large-sample critical value of U rounded to the nearest integer (Hollander & Wolfe, eq. 4.42)
+        double quantile = normalQuantile(1 - (1 - confidence) / 2);
+        int k = (int) Math.round(n * (double) m / 2 - quantile * Math.sqrt(n * (double) m * (total + 1) / 12));
+        k = Math.max(1, Math.min(k, differences.length));
+        return new Result(u, z, pValue, shift, differences[k - 1], differences[differences.length - k]);
+    }
+
+    /**
+     * Adjusts p-values for testing several hypotheses at once with the Holm-Bonferroni method.
+     *
+     * @param pValues Raw p-values
+     * @return Adjusted p-values in the same order, each compared with the overall alpha
+     */
+    public static double[] holm(double[] pValues) {
+        Integer[] order = new Integer[pValues.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(pValues[x], pValues[y]));
+        double[] adjusted = new double[pValues.length];
+        double running = 0;
+        for (int rank = 0; rank < order.length; rank++) {
+            running = Math.max(running, Math.min(1, (order.length - rank) * pValues[order[rank]]));
+            adjusted[order[rank]] = running;
+        }
+        return adjusted;
+    }
+
+    /**
+     * Complementary error function, Chebyshev approximation with a relative error below 1.2e-7.
+     */
+    static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1 / (1 + 0.5 * z);
+        double result = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? result : 2 - result;
+    }
+
+    /**
+     * Quantile of the standard normal distribution, found by bisection on the CDF.
+     */
+    static double normalQuantile(double probability) {
+        double low = -10;
+        double high = 10;
+        for (int i = 0; i < 100; i++) {
+            double middle = (low + high) / 2;
+            if (0.5 * erfc(-middle / Math.sqrt(2)) < probability) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return (low + high) / 2;
+    }
+}
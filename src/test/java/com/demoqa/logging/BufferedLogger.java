@@ -0,0 +1,81 @@
+package com.demoqa.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * SLF4J logger that hands each line to the running test's {@link TestLogCapture}, or to {@link LogOutput}
+ * when no test is being captured on the thread.
+ * <p>
+ * Lines are formatted like slf4j-simple with a time prefix, {@code HH:mm:ss.SSS [thread] LEVEL logger - message},
+ * when they are logged, so buffered lines show what happened at that moment even if flushed later.
+ * The threshold is set with {@code -Dlog.level} (trace, debug, info, warn, error; info by default).
+ */
+final class BufferedLogger extends LegacyAbstractLogger {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static final int THRESHOLD = Level.valueOf(
+            System.getProperty("log.level", "info").toUpperCase(Locale.ROOT)).toInt();
+
+    BufferedLogger(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return THRESHOLD <= Level.TRACE.toInt();
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return THRESHOLD <= Level.DEBUG.toInt();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return THRESHOLD <= Level.INFO.toInt();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return THRESHOLD <= Level.WARN.toInt();
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return THRESHOLD <= Level.ERROR.toInt();
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments,
+                                               Throwable throwable) {
+        StringBuilder line = new StringBuilder(128)
+                .append(LocalTime.now().format(TIME))
+                .append(" [").append(Thread.currentThread().getName()).append("] ")
+                .append(level).append(' ')
+                .append(name).append(" - ")
+                .append(MessageFormatter.basicArrayFormat(messagePattern, arguments));
+        if (throwable != null) {
+            StringWriter trace = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(trace));
+            line.append('\n').append(trace.toString().stripTrailing());
+        }
+        String text = line.toString();
+        if (!TestLogCapture.offer(text)) {
+            LogOutput.write(text);
+        }
+    }
+}
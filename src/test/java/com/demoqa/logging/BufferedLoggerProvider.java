@@ -0,0 +1,59 @@
+package com.demoqa.logging;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Logger;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SLF4J binding of the test classpath, registered in
+ * {@code META-INF/services/org.slf4j.spi.SLF4JServiceProvider}.
+ * <p>
+ * Replaces slf4j-simple, which wrote every line synchronously to the console: loggers are
+ * {@link BufferedLogger}s that capture per test with {@link TestLogCapture} and write asynchronously
+ * with {@link LogOutput}.
+ */
+public class BufferedLoggerProvider implements SLF4JServiceProvider {
+
+    /**
+     * SLF4J API version this provider is built against
+     */
+    public static final String REQUESTED_API_VERSION = "2.0.99";
+
+    private ILoggerFactory loggerFactory;
+    private IMarkerFactory markerFactory;
+    private MDCAdapter mdcAdapter;
+
+    @Override
+    public ILoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    @Override
+    public IMarkerFactory getMarkerFactory() {
+        return markerFactory;
+    }
+
+    @Override
+    public MDCAdapter getMDCAdapter() {
+        return mdcAdapter;
+    }
+
+    @Override
+    public String getRequestedApiVersion() {
+        return REQUESTED_API_VERSION;
+    }
+
+    @Override
+    public void initialize() {
+        Map<String, Logger> loggers = new ConcurrentHashMap<>();
+        loggerFactory = name -> loggers.computeIfAbsent(name, BufferedLogger::new);
+        markerFactory = new BasicMarkerFactory();
+        mdcAdapter = new BasicMDCAdapter();
+    }
+}
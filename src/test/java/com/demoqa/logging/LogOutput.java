@@ -0,0 +1,83 @@
+package com.demoqa.logging;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Asynchronous console output for {@link BufferedLogger}.
+ * <p>
+ * Logging threads only enqueue finished lines; a single daemon thread writes them to stderr in batches,
+ * so tests no longer wait for the console. When the queue is full, callers block until the writer catches
+ * up rather than dropping lines. Lines still queued when the JVM exits are written by a shutdown hook.
+ */
+public final class LogOutput {
+
+    private static final int QUEUE_CAPACITY = 8192;
+
+    private static final BlockingQueue<String> QUEUE = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final PrintStream OUT = System.err;
+
+    static {
+        Thread writer = new Thread(LogOutput::writeLoop, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(LogOutput::flush, "log-flush"));
+    }
+
+    private LogOutput() {
+    }
+
+    /**
+     * Queues text for output.
+     *
+     * @param text One or more complete lines, without trailing line separator
+     */
+    public static void write(String text) {
+        try {
+            QUEUE.put(text);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            synchronized (OUT) {
+                OUT.println(text);
+            }
+        }
+    }
+
+    /**
+     * Writes everything queued so far on the calling thread.
+     */
+    public static void flush() {
+        List<String> batch = new ArrayList<>();
+        QUEUE.drainTo(batch);
+        print(batch);
+    }
+
+    private static void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(QUEUE.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            QUEUE.drainTo(batch);
+            print(batch);
+            batch.clear();
+        }
+    }
+
+    private static void print(List<String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        synchronized (OUT) {
+            for (String text : batch) {
+                OUT.println(text);
+            }
+            OUT.flush();
+        }
+    }
+}
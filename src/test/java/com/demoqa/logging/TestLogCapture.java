@@ -0,0 +1,115 @@
+package com.demoqa.logging;
+
+/**
+ * Per-test log capture into a bounded in-memory ring buffer.
+ * <p>
+ * While a capture is active on a thread, {@link BufferedLogger} puts that thread's log lines into the
+ * buffer instead of the console. The buffer keeps the last log.buffer.size lines (500 by default) and counts
+ * the ones it had to drop. TestNG runs a test's configuration methods, the test and its listeners on the same
+ * thread, so the buffer holds exactly that test's log, also in parallel runs.
+ *
+ * <p>Disable with {@code -Dlog.capture=false} to see all lines live.
+ */
+public final class TestLogCapture {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("log.capture", "true"));
+    private static final int BUFFER_SIZE = Math.max(1, Integer.getInteger("log.buffer.size", 500));
+
+    private static final ThreadLocal<TestLogCapture> CURRENT = new ThreadLocal<>();
+
+    private final String[] lines = new String[BUFFER_SIZE];
+    private int next;
+    private int size;
+    private long dropped;
+
+    /**
+     * Log lines of a finished capture.
+     *
+     * @param text The buffered lines, oldest first, preceded by a note if older lines were dropped
+     * @param lines Number of lines logged during the capture, dropped ones included
+     */
+    public record Captured(String text, long lines) {
+    }
+
+    private TestLogCapture() {
+    }
+
+    /**
+     * Checks whether log capture is enabled.
+     *
+     * @return false if disabled with -Dlog.capture=false
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts capturing the calling thread's log lines, unless a capture is already active or capture is disabled.
+     */
+    public static void begin() {
+        if (ENABLED && CURRENT.get() == null) {
+            CURRENT.set(new TestLogCapture());
+        }
+    }
+
+    /**
+     * Ends the calling thread's capture.
+     *
+     * @return The captured lines, or null if no capture was active
+     */
+    public static Captured end() {
+        TestLogCapture capture = CURRENT.get();
+        if (capture == null) {
+            return null;
+        }
+        CURRENT.remove();
+        return capture.toCaptured();
+    }
+
+    /**
+     * Returns the lines captured so far on the calling thread without ending the capture.
+     *
+     * @return The captured lines, or null if no capture is active
+     */
+    public static Captured snapshot() {
+        TestLogCapture capture = CURRENT.get();
+        return capture == null ? null : capture.toCaptured();
+    }
+
+    /**
+     * Buffers a line if a capture is active on the calling thread.
+     *
+     * @param line The formatted log line
+     * @return true if buffered, false if the line should be written directly
+     */
+    static boolean offer(String line) {
+        TestLogCapture capture = CURRENT.get();
+        if (capture == null) {
+            return false;
+        }
+        if (capture.size == capture.lines.length) {
+            capture.dropped++;
+        } else {
+            capture.size++;
+        }
+        capture.lines[capture.next] = line;
+        capture.next = (capture.next + 1) % capture.lines.length;
+        return true;
+    }
+
+    private Captured toCaptured() {
+        StringBuilder text = new StringBuilder();
+        if (dropped > 0) {
+            text.append("... ").append(dropped).append(" earlier lines dropped (log.buffer.size=")
+                    .append(lines.length).append(")\n");
+        }
+        int first = (next - size + lines.length) % lines.length;
+        for (int i = 0; i < size; i++) {
+            text.append(lines[(first + i) % lines.length]).append('\n');
+        }
+        if (!text.isEmpty()) {
+            text.setLength(text.length() - 1);
+        }
+        return new Captured(text.toString(), size + dropped);
+    }
+}
@@ -0,0 +1,183 @@
+package com.demoqa.monitor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rolling metrics of the checks run by {@link SyntheticMonitor}, rendered in the Prometheus text format.
+ * <p>
+ * Run and failure counts and the duration sum are cumulative since the monitor started. Success ratio and
+ * duration quantiles cover only the last {@code window} runs of each check, in a fixed-size ring per check,
+ * so a recovered site shows as healthy again after one window instead of being diluted by old failures.
+ *
+ * <p>Exported metrics, labelled with {@code check="Class.method"}:
+ * <ul>
+ *   <li>{@code demoqa_check_up} - 1 if the last run passed, 0 otherwise</li>
+ *   <li>{@code demoqa_check_runs_total}, {@code demoqa_check_failures_total} - counters</li>
+ *   <li>{@code demoqa_check_success_ratio} - passed share of the rolling window</li>
+ *   <li>{@code demoqa_check_duration_seconds} - summary with 0.5, 0.95 and 0.99 quantiles over the window</li>
+ *   <li>{@code demoqa_check_last_run_timestamp_seconds} - end of the last run</li>
+ * </ul>
+ */
+public final class MonitorMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    private final int window;
+    private final Map<String, Check> checks = new TreeMap<>();
+    private long cycles;
+    private double lastCycleSeconds;
+
+    /**
+     * Creates empty metrics.
+     *
+     * @param window Number of recent runs per check the rolling values cover
+     * @throws IllegalArgumentException if the window is not positive
+     */
+    public MonitorMetrics(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Metrics window must be positive, got " + window);
+        }
+        this.window = window;
+    }
+
+    /**
+     * Rolling state of one check.
+     */
+    private final class Check {
+
+        private final long[] durations = new long[window];
+        private final boolean[] passed = new boolean[window];
+        private int next;
+        private int size;
+        private long runs;
+        private long failures;
+        private long durationSumMillis;
+        private long lastRunMillis;
+
+        void add(boolean success, long durationMillis, long endMillis) {
+            durations[next] = durationMillis;
+            passed[next] = success;
+            next = (next + 1) % window;
+            size = Math.min(size + 1, window);
+            runs++;
+            failures += success ? 0 : 1;
+            durationSumMillis += durationMillis;
+            lastRunMillis = endMillis;
+        }
+
+        boolean lastPassed() {
+            return passed[(next - 1 + window) % window];
+        }
+
+        double successRatio() {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                count += passed[i] ? 1 : 0;
+            }
+            return (double) count / size;
+        }
+
+        long[] sortedDurations() {
+            long[] sorted = Arrays.copyOf(durations, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    /**
+     * Records one run of a check.
+     *
+     * @param check Check name, e.g. SmokeTests.testHomePageLoadsSuccessfully
+     * @param success Whether the check passed
+     * @param durationMillis Run time of the check
+     * @param endMillis Epoch millis at which the run ended
+     */
+    public synchronized void record(String check, boolean success, long durationMillis, long endMillis) {
+        checks.computeIfAbsent(check, key -> new Check()).add(success, durationMillis, endMillis);
+    }
+
+    /**
+     * Records a completed monitoring cycle.
+     *
+     * @param durationMillis Time the cycle took, including session setup
+     */
+    public synchronized void recordCycle(long durationMillis) {
+        cycles++;
+        lastCycleSeconds = durationMillis / 1000.0;
+    }
+
+    /**
+     * Gets the passed share of a check's recent runs.
+     *
+     * @param check Check name
+     * @return The ratio in [0, 1], or NaN if the check never ran
+     */
+    public synchronized double successRatio(String check) {
+        Check state = checks.get(check);
+        return state == null ? Double.NaN : state.successRatio();
+    }
+
+    /**
+     * Renders all metrics in the Prometheus text exposition format (version 0.0.4).
+     *
+     * @return The exposition text, ending with a newline
+     */
+    public synchronized String toPrometheus() {
+        StringBuilder out = new StringBuilder(256 + checks.size() * 1024);
+        header(out, "demoqa_monitor_cycles_total", "counter", "Completed monitoring cycles");
+        out.append("demoqa_monitor_cycles_total ").append(cycles).append('\n');
+        header(out, "demoqa_monitor_last_cycle_duration_seconds", "gauge", "Duration of the last monitoring cycle");
+        out.append("demoqa_monitor_last_cycle_duration_seconds ").append(format(lastCycleSeconds)).append('\n');
+
+        header(out, "demoqa_check_up", "gauge", "1 if the last run of the check passed");
+        checks.forEach((name, check) -> sample(out, "demoqa_check_up", name, null, check.lastPassed() ? 1 : 0));
+        header(out, "demoqa_check_runs_total", "counter", "Runs of the check");
+        checks.forEach((name, check) -> sample(out, "demoqa_check_runs_total", name, null, check.runs));
+        header(out, "demoqa_check_failures_total", "counter", "Failed or skipped runs of the check");
+        checks.forEach((name, check) -> sample(out, "demoqa_check_failures_total", name, null, check.failures));
+        header(out, "demoqa_check_success_ratio", "gauge", "Passed share of the last " + window + " runs");
+        checks.forEach((name, check) -> sample(out, "demoqa_check_success_ratio", name, null, check.successRatio()));
+        header(out, "demoqa_check_duration_seconds", "summary",
+                "Check duration; quantiles over the last " + window + " runs");
+        checks.forEach((name, check) -> {
+            long[] sorted = check.sortedDurations();
+            for (double quantile : QUANTILES) {
+                int index = (int) Math.ceil(quantile * sorted.length) - 1;
+                sample(out, "demoqa_check_duration_seconds", name, quantile,
+                        sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0);
+            }
+            sample(out, "demoqa_check_duration_seconds_sum", name, null, check.durationSumMillis / 1000.0);
+            sample(out, "demoqa_check_duration_seconds_count", name, null, check.runs);
+        });
+        header(out, "demoqa_check_last_run_timestamp_seconds", "gauge", "End of the last run of the check");
+        checks.forEach((name, check) ->
+                sample(out, "demoqa_check_last_run_timestamp_seconds", name, null, check.lastRunMillis / 1000.0));
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String metric, String type, String help) {
+        out.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String metric, String check, Double quantile, double value) {
+        out.append(metric).append("{check=\"").append(escape(check)).append('"');
+        if (quantile != null) {
+            out.append(",quantile=\"").append(quantile).append('"');
+        }
+        out.append("} ").append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,219 @@
+package com.demoqa.monitor;
+
+import com.demoqa.config.ConfigurationManager;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running monitor that runs selected tests on a schedule and exports their health as Prometheus metrics.
+ * <p>
+ * Each cycle runs the tests from monitor.tests in-process with TestNG, without report listeners, then waits
+ * monitor.interval.seconds. The JVM stays up between cycles and browsers stay open: the monitor sets
+ * browser.isolation=user-context (unless configured otherwise), so every check gets a fresh BiDi user context
+ * in a browser kept warm by {@code SharedBrowserPool} instead of a new JVM and browser.
+ * <p>
+ * Results are kept in {@link MonitorMetrics} and served at {@code http://<host>:<monitor.port>/metrics}
+ * and/or written to monitor.metrics.file after every cycle (replaced atomically, so a node exporter
+ * textfile collector never reads a partial file).
+ *
+ * <p>Start with:
+ * {@code mvn test-compile exec:java -Dexec.mainClass=com.demoqa.monitor.SyntheticMonitor -Dexec.classpathScope=test}
+ */
+public class SyntheticMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SyntheticMonitor.class);
+
+    /**
+     * Listener wired in by TestNG's service loader that writes Allure results; not wanted for every cycle
+     */
+    private static final String ALLURE_LISTENER = "io.qameta.allure.testng.AllureTestNg";
+
+    private final List<String> tests;
+    private final int intervalSeconds;
+    private final int port;
+    private final Path metricsFile;
+    private final MonitorMetrics metrics;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            task -> new Thread(task, "synthetic-monitor"));
+    private HttpServer server;
+
+    /**
+     * Creates a monitor.
+     *
+     * @param tests Qualified test class names, each optionally followed by {@code #method}
+     * @param intervalSeconds Pause between cycles
+     * @param window Recent runs per check covered by rolling metrics
+     * @param port Port of the metrics endpoint, 0 for none
+     * @param metricsFile File rewritten with the metrics after each cycle, or null
+     */
+    public SyntheticMonitor(List<String> tests, int intervalSeconds, int window, int port, Path metricsFile) {
+        this.tests = List.copyOf(tests);
+        this.intervalSeconds = intervalSeconds;
+        this.port = port;
+        this.metricsFile = metricsFile;
+        this.metrics = new MonitorMetrics(window);
+    }
+
+    /**
+     * Starts the monitor with settings from {@link ConfigurationManager}.
+     *
+     * @param args Not used
+     * @throws IOException if the metrics endpoint cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty("browser.isolation") == null) {
+            System.setProperty("browser.isolation", "user-context");
+        }
+        ConfigurationManager config = new ConfigurationManager();
+        SyntheticMonitor monitor = new SyntheticMonitor(config.getMonitorTests(), config.getMonitorIntervalSeconds(),
+                config.getMonitorWindow(), config.getMonitorPort(),
+                config.getMonitorMetricsFile() == null ? null : Path.of(config.getMonitorMetricsFile()));
+        Runtime.getRuntime().addShutdownHook(new Thread(monitor::shutdown));
+        monitor.start();
+    }
+
+    /**
+     * Opens the metrics endpoint and schedules the cycles, the first one immediately.
+     *
+     * @throws IOException if the metrics endpoint cannot be opened
+     */
+    public void start() throws IOException {
+        if (port > 0) {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+            server.createContext("/metrics", exchange -> {
+                byte[] body = metrics.toPrometheus().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            LOGGER.info("Synthetic monitor metrics at http://localhost:{}/metrics", port);
+        }
+        scheduler.scheduleWithFixedDelay(this::runCycle, 0, intervalSeconds, TimeUnit.SECONDS);
+        LOGGER.info("Synthetic monitor running {} every {} s", tests, intervalSeconds);
+    }
+
+    /**
+     * Stops scheduling cycles and closes the metrics endpoint. Shared browsers are quit by their own shutdown hook.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Runs the checks once and exports the metrics. Never throws, so a failing cycle does not end the schedule.
+     */
+    void runCycle() {
+        long start = System.nanoTime();
+        try {
+            TestNG testng = new TestNG(false);
+            testng.setXmlSuites(List.of(suite()));
+            testng.setUseDefaultListeners(false);
+            testng.setVerbose(0);
+            testng.setOutputDirectory(Path.of("target", "monitor-output").toString());
+            testng.setListenersToSkipFromBeingWiredInViaServiceLoaders(ALLURE_LISTENER);
+            testng.addListener(new ITestListener() {
+                @Override
+                public void onTestSuccess(ITestResult result) {
+                    record(result);
+                }
+
+                @Override
+                public void onTestFailure(ITestResult result) {
+                    record(result);
+                }
+
+                @Override
+                public void onTestSkipped(ITestResult result) {
+                    record(result);
+                }
+            });
+            testng.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Synthetic monitor cycle failed: {}", e.getMessage(), e);
+        }
+        metrics.recordCycle((System.nanoTime() - start) / 1_000_000);
+        export();
+    }
+
+    private void record(ITestResult result) {
+        String check = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        boolean success = result.getStatus() == ITestResult.SUCCESS;
+        long duration = Math.max(0, result.getEndMillis() - result.getStartMillis());
+        metrics.record(check, success, duration, System.currentTimeMillis());
+        if (!success) {
+            LOGGER.warn("Check {} failed: {}", check,
+                    result.getThrowable() == null ? "skipped" : result.getThrowable().getMessage());
+        }
+    }
+
+    /**
+     * Builds a suite with one test containing the monitored classes, restricted to the listed methods.
+     */
+    private XmlSuite suite() {
+        Map<String, List<XmlInclude>> methodsByClass = new LinkedHashMap<>();
+        for (String test : tests) {
+            int hash = test.indexOf('#');
+            List<XmlInclude> methods = methodsByClass.computeIfAbsent(
+                    hash < 0 ? test : test.substring(0, hash), key -> new ArrayList<>());
+            if (hash >= 0) {
+                methods.add(new XmlInclude(test.substring(hash + 1)));
+            }
+        }
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Synthetic Monitor");
+        XmlTest xmlTest = new XmlTest(suite);
+        xmlTest.setName("Monitored Checks");
+        List<XmlClass> classes = new ArrayList<>();
+        methodsByClass.forEach((className, methods) -> {
+            XmlClass xmlClass = new XmlClass(className);
+            xmlClass.setIncludedMethods(methods);
+            classes.add(xmlClass);
+        });
+        xmlTest.setXmlClasses(classes);
+        return suite;
+    }
+
+    private void export() {
+        if (metricsFile == null) {
+            return;
+        }
+        try {
+            Path directory = metricsFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, metricsFile.getFileName().toString(), ".tmp");
+            Files.writeString(temp, metrics.toPrometheus(), StandardCharsets.UTF_8);
+            Files.move(temp, metricsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write monitor metrics to {}: {}", metricsFile, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package com.demoqa.network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Event;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.network.BaseParameters;
+import org.openqa.selenium.bidi.network.BeforeRequestSent;
+import org.openqa.selenium.bidi.network.FetchError;
+import org.openqa.selenium.bidi.network.FetchTimingInfo;
+import org.openqa.selenium.bidi.network.Header;
+import org.openqa.selenium.bidi.network.RequestData;
+import org.openqa.selenium.bidi.network.ResponseData;
+import org.openqa.selenium.bidi.network.ResponseDetails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Streams the network traffic of a browser session into a HAR 1.2 file, from WebDriver BiDi network events.
+ * <p>
+ * Each request is written as a HAR entry as soon as its response completes or it fails, and the file is
+ * flushed after every entry, so memory use does not grow with the length of a test and a crashed run still
+ * leaves the entries captured so far. Only requests in flight and the few slowest and largest requests for
+ * the {@link HarSummary} are held in memory. Requests still in flight when the capture stops are written as
+ * unfinished entries, since a hanging request is often what made a test slow.
+ *
+ * <p>Timings come from the BiDi fetch timing info where the browser provides it; otherwise the whole request
+ * time is reported as wait. The BiDi events are version-independent, unlike CDP, so capture works on Chrome,
+ * Edge and Firefox sessions started with {@code webSocketUrl} enabled. Response bodies are not captured.
+ */
+public final class HarRecorder implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HarRecorder.class);
+
+    /**
+     * Requests listed per category in the summary
+     */
+    static final int SUMMARY_SIZE = 5;
+
+    private static final Event<BeforeRequestSent> BEFORE_REQUEST_SENT =
+            new Event<>("network.beforeRequestSent", BeforeRequestSent::fromJsonMap);
+    private static final Event<ResponseDetails> RESPONSE_COMPLETED =
+            new Event<>("network.responseCompleted", ResponseDetails::fromJsonMap);
+    private static final Event<FetchError> FETCH_ERROR =
+            new Event<>("network.fetchError", FetchError::fromJsonMap);
+
+    private final Path file;
+    private final BufferedWriter writer;
+    private final Map<String, BeforeRequestSent> inFlight = new HashMap<>();
+    private final PriorityQueue<HarSummary.Request> slowest =
+            new PriorityQueue<>(Comparator.comparingDouble(HarSummary.Request::timeMillis));
+    private final PriorityQueue<HarSummary.Request> largest =
+            new PriorityQueue<>(Comparator.comparingLong(HarSummary.Request::bytes));
+    private final List<Long> listeners = new ArrayList<>();
+    private BiDi bidi;
+    private long entries;
+    private long failed;
+    private long unfinished;
+    private long bytesReceived;
+    private boolean closed;
+
+    private HarRecorder(Path file, BufferedWriter writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a HAR file and writes its header; entries are added through the event methods.
+     *
+     * @param file HAR file to write, replaced if it exists
+     * @return The recorder, not yet subscribed to any browser
+     * @throws IOException if the file cannot be written
+     */
+    public static HarRecorder open(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        try {
+            writer.write("{\"log\":{\"version\":\"1.2\",\"creator\":{\"name\":\"demoqa-tests\",\"version\":\"1.0\"},"
+                    + "\"pages\":[],\"entries\":[");
+            writer.flush();
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+        return new HarRecorder(file, writer);
+    }
+
+    /**
+     * Starts capturing the network traffic of a session.
+     *
+     * @param driver The session; needs a BiDi connection
+     * @param file HAR file to write, replaced if it exists
+     * @param browsingContext Window handle to capture, e.g. a test's tab in a shared browser; null for all
+     * @return The recorder, or null if the session has no BiDi connection
+     * @throws IOException if the file cannot be written
+     */
+    public static HarRecorder start(WebDriver driver, Path file, String browsingContext) throws IOException {
+        if (!(driver instanceof HasBiDi hasBiDi) || hasBiDi.maybeGetBiDi().isEmpty()) {
+            return null;
+        }
+        HarRecorder recorder = open(file);
+        Set<String> contexts = browsingContext == null ? Set.of() : Set.of(browsingContext);
+        try {
+            recorder.bidi = hasBiDi.getBiDi();
+            // Listeners are removed by id; Network.close() would clear those of other tests in a shared browser
+            recorder.listen(contexts, BEFORE_REQUEST_SENT, recorder::requestSent);
+            recorder.listen(contexts, RESPONSE_COMPLETED, recorder::responseCompleted);
+            recorder.listen(contexts, FETCH_ERROR, recorder::fetchFailed);
+        } catch (WebDriverException e) {
+            recorder.close();
+            throw e;
+        }
+        return recorder;
+    }
+
+    private <X> void listen(Set<String> contexts, Event<X> event, Consumer<X> handler) {
+        listeners.add(contexts.isEmpty() ? bidi.addListener(event, handler) : bidi.addListener(contexts, event, handler));
+    }
+
+    /**
+     * Remembers a request until its response completes or it fails.
+     *
+     * @param event The network.beforeRequestSent event
+     */
+    public synchronized void requestSent(BeforeRequestSent event) {
+        if (!closed) {
+            inFlight.put(key(event), event);
+        }
+    }
+
+    /**
+     * Writes the entry of a completed request.
+     *
+     * @param event The network.responseCompleted event
+     */
+    public synchronized void responseCompleted(ResponseDetails event) {
+        if (closed) {
+            return;
+        }
+        BeforeRequestSent sent = inFlight.remove(key(event));
+        ResponseData response = event.getResponseData();
+        long startedAt = sent != null ? sent.getTimestamp() : event.getTimestamp();
+        double time = Math.max(0, event.getTimestamp() - startedAt);
+        Map<String, Object> timings = timings(event.getRequest().getTimings(), time);
+        if (timings.get("wait") instanceof Double wait && wait > time) {
+            time = sum(timings);
+        }
+        bytesReceived += Math.max(0, response.getBytesReceived());
+        write(entry(event.getRequest(), startedAt, time, response(response), timings, null),
+                new HarSummary.Request(event.getRequest().getMethod(), event.getRequest().getUrl(),
+                        response.getStatus(), time, response.getBytesReceived()));
+    }
+
+    /**
+     * Writes the entry of a request that failed, e.g. a refused connection or a blocked request.
+     *
+     * @param event The network.fetchError event
+     */
+    public synchronized void fetchFailed(FetchError event) {
+        if (closed) {
+            return;
+        }
+        BeforeRequestSent sent = inFlight.remove(key(event));
+        long startedAt = sent != null ? sent.getTimestamp() : event.getTimestamp();
+        double time = Math.max(0, event.getTimestamp() - startedAt);
+        failed++;
+        write(entry(event.getRequest(), startedAt, time, emptyResponse(), timings(null, time),
+                        unquote(event.getErrorText())),
+                new HarSummary.Request(event.getRequest().getMethod(), event.getRequest().getUrl(), 0, time, 0));
+    }
+
+    /**
+     * Gets the summary of the entries written so far.
+     *
+     * @return The summary
+     */
+    public synchronized HarSummary summary() {
+        return new HarSummary(file, entries, failed, unfinished, bytesReceived,
+                descending(slowest, Comparator.comparingDouble(HarSummary.Request::timeMillis)),
+                descending(largest, Comparator.comparingLong(HarSummary.Request::bytes)));
+    }
+
+    /**
+     * @return The HAR file
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Stops listening, writes the requests still in flight as unfinished entries and completes the file.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        for (long id : listeners) {
+            try {
+                bidi.removeListener(id);
+            } catch (WebDriverException e) {
+                LOGGER.debug("Failed to remove network listener: {}", e.getMessage());
+            }
+        }
+        long now = System.currentTimeMillis();
+        for (BeforeRequestSent sent : inFlight.values()) {
+            double time = Math.max(0, now - sent.getTimestamp());
+            unfinished++;
+            write(entry(sent.getRequest(), sent.getTimestamp(), time, emptyResponse(), timings(null, time),
+                            "Not finished when the capture stopped"),
+                    new HarSummary.Request(sent.getRequest().getMethod(), sent.getRequest().getUrl(), 0, time, 0));
+        }
+        inFlight.clear();
+        closed = true;
+        try (writer) {
+            writer.write("]}}");
+        } catch (IOException e) {
+            LOGGER.warn("Failed to complete HAR file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void write(Map<String, Object> entry, HarSummary.Request request) {
+        try {
+            if (entries > 0) {
+                writer.write(',');
+            }
+            StringBuilder json = new StringBuilder(1024);
+            appendJson(json, entry);
+            writer.append(json);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write HAR entry to {}: {}", file, e.getMessage());
+            return;
+        }
+        entries++;
+        keepTop(slowest, request, Comparator.comparingDouble(HarSummary.Request::timeMillis));
+        if (request.bytes() > 0) {
+            keepTop(largest, request, Comparator.comparingLong(HarSummary.Request::bytes));
+        }
+    }
+
+    /**
+     * Appends a value as compact JSON; unlike Selenium's Json, keeps URLs readable by not escaping slashes.
+     */
+    private static void appendJson(StringBuilder json, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> field : map.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendJson(json, String.valueOf(field.getKey()));
+                json.append(':');
+                appendJson(json, field.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof List<?> list) {
+            json.append('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendJson(json, list.get(i));
+            }
+            json.append(']');
+        } else if (value instanceof String text) {
+            json.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    case '\n' -> json.append("\\n");
+                    case '\r' -> json.append("\\r");
+                    case '\t' -> json.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+            json.append('"');
+        } else if (value instanceof Double number && (number.isNaN() || number.isInfinite())) {
+            json.append("-1");
+        } else {
+            json.append(value);
+        }
+    }
+
+    private static Map<String, Object> entry(RequestData request, long startedAt, double time,
+                                             Map<String, Object> response, Map<String, Object> timings,
+                                             String error) {
+        Map<String, Object> requestEntry = new LinkedHashMap<>();
+        requestEntry.put("method", request.getMethod());
+        requestEntry.put("url", request.getUrl());
+        requestEntry.put("httpVersion", "");
+        requestEntry.put("cookies", List.of());
+        requestEntry.put("headers", headers(request.getHeaders()));
+        requestEntry.put("queryString", List.of());
+        requestEntry.put("headersSize", request.getHeadersSize() != null ? request.getHeadersSize() : -1);
+        requestEntry.put("bodySize", -1);
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("startedDateTime", Instant.ofEpochMilli(startedAt).toString());
+        entry.put("time", time);
+        entry.put("request", requestEntry);
+        entry.put("response", response);
+        entry.put("cache", Map.of());
+        entry.put("timings", timings);
+        if (error != null) {
+            entry.put("_error", error);
+        }
+        return entry;
+    }
+
+    private static Map<String, Object> response(ResponseData response) {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("size", response.getContent().orElse(response.getBodySize()));
+        content.put("mimeType", response.getMimeType() != null ? response.getMimeType() : "");
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("status", response.getStatus());
+        entry.put("statusText", response.getStatusText() != null ? response.getStatusText() : "");
+        entry.put("httpVersion", response.getProtocol() != null ? response.getProtocol() : "");
+        entry.put("cookies", List.of());
+        entry.put("headers", headers(response.getHeaders()));
+        entry.put("content", content);
+        entry.put("redirectURL", "");
+        entry.put("headersSize", response.getHeadersSize());
+        entry.put("bodySize", response.getBodySize());
+        entry.put("_transferSize", response.getBytesReceived());
+        entry.put("_fromCache", response.isFromCache());
+        return entry;
+    }
+
+    private static Map<String, Object> emptyResponse() {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("status", 0);
+        entry.put("statusText", "");
+        entry.put("httpVersion", "");
+        entry.put("cookies", List.of());
+        entry.put("headers", List.of());
+        entry.put("content", Map.of("size", 0, "mimeType", ""));
+        entry.put("redirectURL", "");
+        entry.put("headersSize", -1);
+        entry.put("bodySize", -1);
+        return entry;
+    }
+
+    /**
+     * Splits the request time into HAR phases from the fetch timing info, relative to its time origin.
+     * Phases the browser did not report are -1; without usable timings the whole time is wait.
+     */
+    private static Map<String, Object> timings(FetchTimingInfo info, double time) {
+        Map<String, Object> timings = new LinkedHashMap<>();
+        if (info == null || info.getRequestStart() <= 0 || info.getResponseEnd() < info.getResponseStart()
+                || info.getResponseStart() < info.getRequestStart()) {
+            timings.put("blocked", -1.0);
+            timings.put("dns", -1.0);
+            timings.put("connect", -1.0);
+            timings.put("ssl", -1.0);
+            timings.put("send", 0.0);
+            timings.put("wait", time);
+            timings.put("receive", 0.0);
+            return timings;
+        }
+        double start = info.getFetchStart() > 0 ? info.getFetchStart() : info.getRequestTime();
+        timings.put("blocked", phase(start, info.getDnsStart() > 0 ? info.getDnsStart()
+                : info.getConnectStart() > 0 ? info.getConnectStart() : info.getRequestStart()));
+        timings.put("dns", phase(info.getDnsStart(), info.getDnsEnd()));
+        timings.put("connect", phase(info.getConnectStart(), info.getConnectEnd()));
+        timings.put("ssl", phase(info.getTlsStart(), info.getConnectEnd()));
+        timings.put("send", 0.0);
+        timings.put("wait", info.getResponseStart() - info.getRequestStart());
+        timings.put("receive", info.getResponseEnd() - info.getResponseStart());
+        return timings;
+    }
+
+    private static double phase(double start, double end) {
+        return start > 0 && end >= start ? end - start : -1.0;
+    }
+
+    private static double sum(Map<String, Object> timings) {
+        double total = 0;
+        for (Map.Entry<String, Object> phase : timings.entrySet()) {
+            // ssl is part of connect in HAR and not added again
+            if (!phase.getKey().equals("ssl") && phase.getValue() instanceof Double value && value > 0) {
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    private static List<Map<String, Object>> headers(List<Header> headers) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        if (headers != null) {
+            for (Header header : headers) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("name", header.getName());
+                entry.put("value", header.getValue() != null && header.getValue().getValue() != null
+                        ? header.getValue().getValue() : "");
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Identifies a request across its events; a redirect reuses the request id with a higher redirect count.
+     */
+    private static String key(BaseParameters event) {
+        return event.getRequest().getRequestId() + "/" + event.getRedirectCount();
+    }
+
+    private static <T> void keepTop(PriorityQueue<T> top, T candidate, Comparator<T> order) {
+        if (top.size() < SUMMARY_SIZE) {
+            top.add(candidate);
+        } else if (order.compare(candidate, top.peek()) > 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private static <T> List<T> descending(PriorityQueue<T> top, Comparator<T> order) {
+        List<T> sorted = new ArrayList<>(top);
+        sorted.sort(order.reversed());
+        return sorted;
+    }
+
+    /**
+     * Selenium returns the fetch error text as a JSON string literal.
+     */
+    private static String unquote(String text) {
+        if (text != null && text.length() >= 2 && text.startsWith("\"") && text.endsWith("\"")) {
+            return text.substring(1, text.length() - 1);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,58 @@
+package com.demoqa.network;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Overview of the network traffic captured by a {@link HarRecorder}, for a first look before opening the HAR file.
+ *
+ * @param file The HAR file
+ * @param requests Entries written, failed and unfinished ones included
+ * @param failed Requests that ended with a network error
+ * @param unfinished Requests still in flight when the capture stopped
+ * @param bytesReceived Bytes received over all completed requests
+ * @param slowest The slowest requests, slowest first
+ * @param largest The largest responses, largest first
+ */
+public record HarSummary(Path file, long requests, long failed, long unfinished, long bytesReceived,
+                         List<Request> slowest, List<Request> largest) {
+
+    private static final int MAX_URL_LENGTH = 120;
+
+    /**
+     * One request of the summary.
+     *
+     * @param method HTTP method
+     * @param url Request URL
+     * @param status HTTP status, 0 if the request failed or did not finish
+     * @param timeMillis Time from sending the request to the end of the response
+     * @param bytes Bytes received
+     */
+    public record Request(String method, String url, int status, double timeMillis, long bytes) {
+    }
+
+    /**
+     * Formats the summary, one line per listed request.
+     *
+     * @return The summary lines
+     */
+    public List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Network: %d requests (%d failed, %d unfinished), %.1f KB received, HAR %s",
+                requests, failed, unfinished, bytesReceived / 1024.0, file));
+        lines.add("Slowest requests:");
+        slowest.forEach(request -> lines.add(format(request)));
+        lines.add("Largest responses:");
+        largest.forEach(request -> lines.add(format(request)));
+        return lines;
+    }
+
+    private static String format(Request request) {
+        String url = request.url().length() > MAX_URL_LENGTH
+                ? request.url().substring(0, MAX_URL_LENGTH - 3) + "..."
+                : request.url();
+        return String.format("  %9.1f ms %10.1f KB  %3s %-6s %s", request.timeMillis(), request.bytes() / 1024.0,
+                request.status() == 0 ? "-" : String.valueOf(request.status()), request.method(), url);
+    }
+}
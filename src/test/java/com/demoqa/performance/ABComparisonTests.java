@@ -0,0 +1,72 @@
+package com.demoqa.performance;
+
+import com.demoqa.base.ChromeSettings;
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.load.ABComparison;
+import com.demoqa.load.ABReport;
+import com.demoqa.load.LoadScenario;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A/B comparison of the page-object scenarios between ab.baseline.url and ab.candidate.url with headless Chrome.
+ * <p>
+ * Rounds, warm-up and significance level come from the ab.* properties, the scenarios from load.scenarios.
+ * The difference per step is logged and written to {@code target/ab-comparison-report.txt}; the test fails
+ * when the candidate is significantly slower on any step. Skipped when no candidate is configured.
+ *
+ * <p>Does not extend BaseTest; it starts one headless session for both deployments. Not part of the default
+ * suites. Run with:
+ * {@code mvn test -Dsurefire.suiteXmlFiles=src/test/resources/test_suites/ab_comparison_tests.xml
+ * -Dab.candidate.url=https://staging.example.com}
+ */
+public class ABComparisonTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ABComparisonTests.class);
+
+    private static final Path REPORT_FILE = Path.of("target", "ab-comparison-report.txt");
+
+    /**
+     * Runs the configured comparison.
+     * Verifies:
+     * <ul>
+     *   <li>The report is written with a comparison for every step that ran</li>
+     *   <li>No step is significantly slower on the candidate</li>
+     * </ul>
+     *
+     * @throws IOException if the report cannot be written
+     */
+    @Test
+    public void testCandidateIsNotSlowerThanBaseline() throws IOException {
+        ConfigurationManager config = new ConfigurationManager();
+        if (config.getAbCandidateUrl().isEmpty()) {
+            throw new SkipException("No ab.candidate.url configured");
+        }
+        WebDriverManager.chromedriver().setup();
+        long seed = System.nanoTime();
+
+        ABReport report = new ABComparison(
+                config.getLoadScenarios().stream().map(LoadScenario::byName).toList(),
+                config.getAbBaselineUrl(), config.getAbCandidateUrl(),
+                config.getAbRounds(), config.getAbWarmupRounds(), seed,
+                () -> new ChromeDriver(ChromeSettings.headlessOptions(config.getPageLoadStrategy())))
+                .run(config.getAbAlpha());
+
+        report.lines().forEach(line -> LOGGER.info("{}", line));
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.write(REPORT_FILE, report.lines(), StandardCharsets.UTF_8);
+        Assert.assertFalse(report.steps().isEmpty(), "Step comparisons should be reported");
+        Assert.assertEquals(report.regressions().stream().map(ABReport.StepComparison::step).toList(), List.of(),
+                "The candidate should not be significantly slower on any step");
+    }
+}
@@ -0,0 +1,84 @@
+package com.demoqa.performance;
+
+import com.demoqa.base.ChromeSettings;
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.load.LoadGenerator;
+import com.demoqa.load.LoadProfile;
+import com.demoqa.load.LoadReport;
+import com.demoqa.load.LoadScenario;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Load run of the page-object scenarios against load.base.url (e.g. a local deployment) with headless Chrome.
+ * <p>
+ * Users, limits, ramp-up and scenarios come from the load.* properties. Throughput and p50/p95/p99 latency
+ * per step are logged and written to {@code target/load-report.txt}. Skipped when no load.base.url is configured,
+ * so that the public site is never put under load.
+ *
+ * <p>Does not extend BaseTest; each virtual user starts its own headless session. Not part of the default
+ * suites. Run with:
+ * {@code mvn test -Dsurefire.suiteXmlFiles=src/test/resources/test_suites/load_tests.xml
+ * -Dload.base.url=http://localhost:8080 -Dload.users=10}
+ */
+public class LoadTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTests.class);
+
+    private static final Path REPORT_FILE = Path.of("target", "load-report.txt");
+
+    /**
+     * Runs the configured load.
+     * Verifies:
+     * <ul>
+     *   <li>Every virtual user completes iterations, all of its iteration limit when there is no duration limit</li>
+     *   <li>The report is written with statistics for every step that ran</li>
+     * </ul>
+     *
+     * @throws InterruptedException if interrupted during the run
+     * @throws IOException if the report cannot be written
+     */
+    @Test
+    public void testScenariosUnderLoad() throws InterruptedException, IOException {
+        ConfigurationManager config = new ConfigurationManager();
+        if (config.getLoadBaseUrl().isEmpty()) {
+            throw new SkipException("No load.base.url configured");
+        }
+        LoadProfile profile = new LoadProfile(config.getLoadUsers(),
+                Duration.ofSeconds(config.getLoadDurationSeconds()), config.getLoadIterations(),
+                Duration.ofSeconds(config.getLoadRampUpSeconds()));
+        WebDriverManager.chromedriver().setup();
+
+        LoadReport report = new LoadGenerator(profile,
+                config.getLoadScenarios().stream().map(LoadScenario::byName).toList(),
+                config.getLoadBaseUrl(),
+                () -> new ChromeDriver(ChromeSettings.headlessOptions(config.getPageLoadStrategy())))
+                .run();
+
+        report.lines().forEach(line -> LOGGER.info("{}", line));
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.write(REPORT_FILE, report.lines(), StandardCharsets.UTF_8);
+        List<Long> userIterations = report.userIterations();
+        Assert.assertEquals(userIterations.size(), profile.users(), "Every virtual user should be reported");
+        for (int user = 0; user < userIterations.size(); user++) {
+            if (profile.duration().isZero() && profile.iterations() > 0) {
+                Assert.assertEquals((long) userIterations.get(user), profile.iterations(),
+                        "Virtual user " + (user + 1) + " should run its iteration limit");
+            } else {
+                Assert.assertTrue(userIterations.get(user) > 0, "Virtual user " + (user + 1) + " should run iterations");
+            }
+        }
+        Assert.assertFalse(report.steps().isEmpty(), "Step statistics should be reported");
+    }
+}
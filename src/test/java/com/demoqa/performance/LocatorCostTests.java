@@ -0,0 +1,145 @@
+package com.demoqa.performance;
+
+import com.demoqa.base.BaseTest;
+import com.demoqa.performance.LocatorInventory.Locator;
+import com.demoqa.utils.AllureSteps;
+import org.openqa.selenium.JavascriptExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Locator cost profiler and linter for the page layer.
+ * <p>
+ * Every locator found by {@link LocatorInventory} is:
+ * <ul>
+ *   <li>Checked against the static rules of {@link LocatorLinter}</li>
+ *   <li>Resolved repeatedly inside the browser on the page it belongs to, measuring the pure DOM lookup cost
+ *       without WebDriver round-trips</li>
+ *   <li>Flagged when slower than {@code locator.slow.micros} (default 50) or when a single-element field
+ *       matches more than one element</li>
+ * </ul>
+ * The report is logged, written to target/locator-report.txt and attached to the Allure report.
+ * With {@code -Dlocator.lint.strict=true} the test fails on slow or ambiguous locators.
+ *
+ * <p>Not part of the default suites. Run with:
+ * {@code mvn test -Dsurefire.suiteXmlFiles=src/test/resources/test_suites/performance_tests.xml}
+ */
+public class LocatorCostTests extends BaseTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocatorCostTests.class);
+
+    private static final int LOOKUPS_PER_LOCATOR = 200;
+
+    private static final Path REPORT = Paths.get("target", "locator-report.txt");
+
+    /**
+     * Page each page class is profiled on. BasePage locators are profiled on a representative page.
+     */
+    private static final Map<String, String> PAGE_PATHS = Map.of(
+            "BasePage", "/text-box",
+            "TextBoxPage", "/text-box",
+            "CheckBoxPage", "/checkbox",
+            "RadioButtonPage", "/radio-button",
+            "AlertPage", "/alerts",
+            "PracticeFormPage", "/automation-practice-form",
+            "SliderPage", "/slider",
+            "ProgressBarPage", "/progress-bar",
+            "DatePickerPage", "/date-picker");
+
+    /**
+     * Resolves arguments[0] (strategy) / arguments[1] (value) arguments[2] times and returns
+     * [match count, average microseconds per lookup].
+     */
+    private static final String TIME_LOOKUP_JS =
+            "var using = arguments[0], value = arguments[1], times = arguments[2];"
+                    + "function find() {"
+                    + "  if (using === 'xpath') {"
+                    + "    return document.evaluate(value, document, null,"
+                    + "        XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;"
+                    + "  }"
+                    + "  var selector = using === 'id' ? '#' + CSS.escape(value)"
+                    + "      : using === 'name' ? '[name=\"' + CSS.escape(value) + '\"]'"
+                    + "      : using === 'className' ? '.' + CSS.escape(value)"
+                    + "      : value;"
+                    + "  return document.querySelectorAll(selector).length;"
+                    + "}"
+                    + "var count = find();"
+                    + "var start = performance.now();"
+                    + "for (var i = 0; i < times; i++) { find(); }"
+                    + "return [count, (performance.now() - start) * 1000 / times];";
+
+    /**
+     * Profiles and lints every locator of the page layer.
+     * Verifies:
+     * <ul>
+     *   <li>Locators are found in the page sources</li>
+     *   <li>In strict mode, no locator is slow or ambiguous</li>
+     * </ul>
+     *
+     * @throws IOException if the page sources cannot be read or the report cannot be written
+     */
+    @Test
+    public void testLocatorLookupCost() throws IOException {
+        double slowMicros = Double.parseDouble(System.getProperty("locator.slow.micros", "50"));
+        List<Locator> locators = LocatorInventory.scan(LocatorInventory.PAGES_SOURCE_ROOT);
+        Assert.assertFalse(locators.isEmpty(), "Page sources should declare locators");
+
+        Map<String, List<Locator>> byPage = new LinkedHashMap<>();
+        locators.forEach(locator -> byPage.computeIfAbsent(locator.page(), k -> new ArrayList<>()).add(locator));
+
+        StringBuilder report = new StringBuilder();
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, List<Locator>> page : byPage.entrySet()) {
+            String path = PAGE_PATHS.get(page.getKey());
+            report.append(String.format("%n== %s (%s)%n", page.getKey(), path == null ? "not profiled" : path));
+            if (path != null) {
+                driver.get(config.getBaseUrl() + path);
+            }
+            for (Locator locator : page.getValue()) {
+                report.append(String.format("  %-70s", locator.name() + " [" + locator.strategy() + "] " + locator.value()));
+                if (path != null) {
+                    List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(TIME_LOOKUP_JS,
+                            locator.strategy(), locator.value(), LOOKUPS_PER_LOCATOR);
+                    long matches = ((Number) result.get(0)).longValue();
+                    double micros = ((Number) result.get(1)).doubleValue();
+                    report.append(String.format(" %8.1f us %4d match(es)", micros, matches));
+                    if (micros > slowMicros) {
+                        violations.add(locator + ": " + String.format("%.1f", micros) + " us per lookup");
+                        report.append("  SLOW");
+                    }
+                    if (locator.singleElement() && matches > 1) {
+                        violations.add(locator + ": matches " + matches + " elements for a single-element field");
+                        report.append("  AMBIGUOUS");
+                    }
+                    if (matches == 0) {
+                        report.append("  (not present on initial page)");
+                    }
+                }
+                report.append(System.lineSeparator());
+                for (String finding : LocatorLinter.lint(locator)) {
+                    report.append("      - ").append(finding).append(System.lineSeparator());
+                }
+            }
+        }
+
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report, StandardCharsets.UTF_8);
+        AllureSteps.attach("Locator cost report", "text/plain", ".txt", report.toString().getBytes(StandardCharsets.UTF_8));
+        LOGGER.info("Locator cost report ({} locators, {} slow or ambiguous):{}", locators.size(), violations.size(), report);
+
+        if (Boolean.getBoolean("locator.lint.strict")) {
+            Assert.assertTrue(violations.isEmpty(), "Slow or ambiguous locators: " + violations);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.demoqa.performance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Collects every locator declared in the page layer by scanning the sources of {@code com.demoqa.pages}.
+ * <p>
+ * Sources are scanned instead of reflecting over the classes so that locators built inline in
+ * method bodies (e.g. {@code By.cssSelector(...)} inside waits) are found as well. Recognized forms:
+ * <ul>
+ *   <li>{@code @FindBy(id|css|xpath|name|className|tagName = "...")} on a field</li>
+ *   <li>{@code By.id/cssSelector/xpath/name/className/tagName("...")} with a string literal argument</li>
+ * </ul>
+ * Locators built from concatenated or computed strings are not recognized.
+ */
+public final class LocatorInventory {
+
+    /**
+     * Root of the page layer sources, relative to the project directory
+     */
+    public static final Path PAGES_SOURCE_ROOT = Paths.get("src", "main", "java", "com", "demoqa", "pages");
+
+    private static final String STRING_LITERAL = "\"((?:[^\"\\\\]|\\\\.)*)\"";
+
+    private static final Pattern FIND_BY = Pattern.compile(
+            "@FindBy\\(\\s*(id|css|xpath|name|className|tagName)\\s*=\\s*" + STRING_LITERAL + "\\s*\\)\\s*"
+                    + "(?:private\\s+|protected\\s+|public\\s+)?(List<WebElement>|WebElement)\\s+(\\w+)");
+
+    private static final Pattern BY_CALL = Pattern.compile(
+            "By\\.(id|cssSelector|xpath|name|className|tagName)\\(\\s*" + STRING_LITERAL + "\\s*\\)");
+
+    private static final Pattern BY_CONSTANT = Pattern.compile("static\\s+final\\s+By\\s+(\\w+)\\s*=\\s*$");
+
+    /**
+     * A locator found in the page sources.
+     *
+     * @param page Simple name of the declaring page class
+     * @param name Field name, or "line N" for locators built inline in a method
+     * @param strategy Normalized strategy: id, css, xpath, name, className or tagName
+     * @param value The locator expression
+     * @param singleElement true if the locator backs a single {@code WebElement} field, so multiple matches are ambiguous
+     */
+    public record Locator(String page, String name, String strategy, String value, boolean singleElement) {
+
+        @Override
+        public String toString() {
+            return page + "." + name + " [" + strategy + "] " + value;
+        }
+    }
+
+    private LocatorInventory() {
+    }
+
+    /**
+     * Scans all page sources below the given root.
+     *
+     * @param sourceRoot Directory containing the page classes
+     * @return All recognized locators, ordered by page and position in the source
+     * @throws IOException if the sources cannot be read
+     */
+    public static List<Locator> scan(Path sourceRoot) throws IOException {
+        List<Path> sources;
+        try (Stream<Path> files = Files.walk(sourceRoot)) {
+            sources = files.filter(file -> file.toString().endsWith(".java"))
+                    .sorted(Comparator.comparing(Path::toString))
+                    .toList();
+        }
+        List<Locator> locators = new ArrayList<>();
+        for (Path source : sources) {
+            locators.addAll(scanSource(source.getFileName().toString().replace(".java", ""), Files.readString(source)));
+        }
+        return locators;
+    }
+
+    /**
+     * Extracts the locators declared in a single source file.
+     *
+     * @param page Simple name of the page class
+     * @param source The Java source code
+     * @return Recognized locators in source order
+     */
+    public static List<Locator> scanSource(String page, String source) {
+        List<Locator> locators = new ArrayList<>();
+        Matcher findBy = FIND_BY.matcher(source);
+        while (findBy.find()) {
+            locators.add(new Locator(page, findBy.group(4), normalize(findBy.group(1)), unescape(findBy.group(2)),
+                    "WebElement".equals(findBy.group(3))));
+        }
+        Matcher byCall = BY_CALL.matcher(source);
+        while (byCall.find()) {
+            String before = source.substring(source.lastIndexOf('\n', byCall.start()) + 1, byCall.start());
+            Matcher constant = BY_CONSTANT.matcher(before);
+            String name = constant.find()
+                    ? constant.group(1)
+                    : "line " + source.substring(0, byCall.start()).lines().count();
+            locators.add(new Locator(page, name, normalize(byCall.group(1)), unescape(byCall.group(2)), false));
+        }
+        return locators;
+    }
+
+    private static String normalize(String strategy) {
+        return "cssSelector".equals(strategy) ? "css" : strategy;
+    }
+
+    private static String unescape(String literal) {
+        return literal.replace("\\\"", "\"").replace("\\\\", "\\");
+    }
+}
@@ -0,0 +1,100 @@
+package com.demoqa.performance;
+
+import com.demoqa.performance.LocatorInventory.Locator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Static rules flagging locator shapes that are known to be expensive and suggesting faster alternatives.
+ * <p>
+ * The rules only look at the locator expression; {@link LocatorCostTests} complements them with
+ * lookup timings and match counts measured in the browser.
+ */
+public final class LocatorLinter {
+
+    private static final Pattern XPATH_BY_ID = Pattern.compile("^//\\*?\\w*\\[@id=['\"]([\\w-]+)['\"]]$");
+
+    private static final Pattern CSS_BY_ID = Pattern.compile("^#([\\w-]+)$");
+
+    private static final Pattern XPATH_TEXT = Pattern.compile("\\[(?:text\\(\\)|normalize-space\\(\\)|\\.)\\s*=\\s*['\"]([^'\"]*)['\"]]");
+
+    private static final int MAX_ALTERNATIVES = 3;
+
+    private LocatorLinter() {
+    }
+
+    /**
+     * Checks a locator against all rules.
+     *
+     * @param locator The locator to check
+     * @return Findings with suggested alternatives, empty if the locator looks cheap
+     */
+    public static List<String> lint(Locator locator) {
+        return switch (locator.strategy()) {
+            case "xpath" -> lintXpath(locator.value());
+            case "css" -> lintCss(locator.value());
+            default -> List.of();
+        };
+    }
+
+    private static List<String> lintXpath(String xpath) {
+        List<String> findings = new ArrayList<>();
+        Matcher byId = XPATH_BY_ID.matcher(xpath);
+        if (byId.matches()) {
+            findings.add("XPath lookup by id; use By.id(\"" + byId.group(1) + "\"), which browsers resolve from an index");
+            return findings;
+        }
+        Matcher text = XPATH_TEXT.matcher(xpath);
+        if (text.find()) {
+            findings.add("XPath text match '" + text.group(1) + "' reads the text of every candidate element;"
+                    + " prefer a CSS selector on an id, for/name or data-* attribute of the element or its label");
+        }
+        if (xpath.startsWith("//") && !xpath.contains("@id")) {
+            findings.add("Unanchored // XPath scans the whole document; anchor it below an element with an id"
+                    + " (e.g. //*[@id='container']//...) or use a CSS selector");
+        }
+        return findings;
+    }
+
+    private static List<String> lintCss(String css) {
+        List<String> findings = new ArrayList<>();
+        // A plain #id selector is resolved from the id index like By.id, so it is not costly
+        if (CSS_BY_ID.matcher(css.trim()).matches()) {
+            return findings;
+        }
+        String[] alternatives = css.split(",");
+        if (alternatives.length > MAX_ALTERNATIVES) {
+            findings.add(alternatives.length + " alternatives in one selector multiply matching work;"
+                    + " split rarely needed alternatives into a separate fallback lookup");
+        }
+        for (String alternative : alternatives) {
+            String selector = alternative.trim();
+            if (selector.contains("*=")) {
+                findings.add("Substring attribute match '" + selector + "' is tested against every candidate;"
+                        + " prefer an exact ([a='x']) or prefix ([a^='x']) match or a class");
+            }
+            if (selector.startsWith("[") || selector.startsWith("*")) {
+                String attributeSelector = selector.replaceFirst("^\\*", "");
+                findings.add("'" + selector + "' has no tag, id or class, so every element is a candidate;"
+                        + " qualify it (e.g. " + likelyTag(attributeSelector) + attributeSelector + ")");
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Guesses the tag an attribute selector is meant for, to make the suggestion concrete.
+     */
+    private static String likelyTag(String attributeSelector) {
+        String attribute = attributeSelector.replaceFirst("^\\[\\s*([\\w-]+).*", "$1");
+        return switch (attribute) {
+            case "for" -> "label";
+            case "type", "name", "placeholder" -> "input";
+            case "href" -> "a";
+            case "src" -> "iframe";
+            default -> "div";
+        };
+    }
+}
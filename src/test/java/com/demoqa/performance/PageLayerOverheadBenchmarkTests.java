@@ -0,0 +1,119 @@
+package com.demoqa.performance;
+
+import com.demoqa.fake.CommandRecorder;
+import com.demoqa.fake.FakeWebDriver;
+import com.demoqa.fake.ReplayBrowser;
+import com.demoqa.fake.ScriptedBrowser;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.unit.PageLayerTests;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of the page layer's own cost, with browser latency taken out by {@link FakeWebDriver}.
+ * <p>
+ * Runs the text box flow (construct page, fill, submit, check output) against an in-memory
+ * {@link ScriptedBrowser} and against a {@link ReplayBrowser} of the same flow. The time per flow is what
+ * page objects, waits, Allure steps and PageFactory proxies cost on top of the commands; the command count
+ * per flow is what a real browser would have to answer. Comparing runs shows regressions in either.
+ *
+ * <p>Needs no browser. Not part of the default suites. Run with:
+ * {@code mvn test -Dsurefire.suiteXmlFiles=src/test/resources/test_suites/performance_tests.xml}
+ */
+public class PageLayerOverheadBenchmarkTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PageLayerOverheadBenchmarkTests.class);
+
+    private static final int WARMUP_FLOWS = 50;
+    private static final int MEASURED_FLOWS = 200;
+
+    /**
+     * Measures the text box flow against a scripted page.
+     * Verifies:
+     * <ul>
+     *   <li>Every flow reaches the displayed output</li>
+     *   <li>Time and commands per flow are logged for comparison between runs</li>
+     * </ul>
+     */
+    @Test
+    public void testTextBoxFlowOverheadScripted() {
+        measure("scripted", () -> new FakeWebDriver(PageLayerTests.textBoxPage()));
+    }
+
+    /**
+     * Measures the text box flow replayed from a recording of the same flow.
+     * Verifies:
+     * <ul>
+     *   <li>Every replay consumes the whole recording</li>
+     *   <li>Time and commands per flow are logged for comparison between runs</li>
+     * </ul>
+     *
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    public void testTextBoxFlowOverheadReplayed() throws IOException {
+        Path recording = Files.createTempFile("textbox-commands", ".jsonl");
+        try {
+            CommandRecorder.RecordingSession<WebDriver> session =
+                    CommandRecorder.record(new FakeWebDriver(PageLayerTests.textBoxPage()), recording);
+            try (CommandRecorder recorder = session.recorder()) {
+                runFlow(session.driver());
+            }
+            ReplayBrowser replay = ReplayBrowser.load(recording);
+            measure("replayed", () -> {
+                replay.rewind();
+                return new FakeWebDriver(replay);
+            });
+            Assert.assertEquals(replay.remaining(), 0, "Each replay should consume the whole recording");
+        } finally {
+            Files.deleteIfExists(recording);
+        }
+    }
+
+    /**
+     * Runs warm-up flows, then measured flows on fresh drivers, and logs percentiles.
+     */
+    private void measure(String label, Supplier<FakeWebDriver> drivers) {
+        for (int i = 0; i < WARMUP_FLOWS; i++) {
+            Assert.assertTrue(runFlow(drivers.get()), "Output should be displayed");
+        }
+        long[] micros = new long[MEASURED_FLOWS];
+        long commands = 0;
+        for (int i = 0; i < MEASURED_FLOWS; i++) {
+            FakeWebDriver driver = drivers.get();
+            long start = System.nanoTime();
+            boolean displayed = runFlow(driver);
+            micros[i] = (System.nanoTime() - start) / 1_000;
+            commands += driver.getCommandCount();
+            Assert.assertTrue(displayed, "Output should be displayed");
+        }
+        Arrays.sort(micros);
+        LOGGER.info("Page layer overhead ({}): p50={}us p95={}us mean={}us, {} commands per flow over {} flows",
+                label,
+                percentile(micros, 50),
+                percentile(micros, 95),
+                Arrays.stream(micros).sum() / micros.length,
+                commands / MEASURED_FLOWS,
+                MEASURED_FLOWS);
+    }
+
+    private static boolean runFlow(WebDriver driver) {
+        TextBoxPage page = new TextBoxPage(driver);
+        page.fillForm("John Doe", "john@example.com", "123 Main St", "456 Oak Ave");
+        page.submitForm();
+        return page.isOutputDisplayed();
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,92 @@
+package com.demoqa.performance;
+
+import com.demoqa.base.BaseTest;
+import com.demoqa.base.ChromeProfileTemplate;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Benchmark of Chrome session start time with a fresh profile and with a clone of the
+ * pre-built {@link ChromeProfileTemplate}.
+ * <p>
+ * Both modes start with the same {@link ChromeProfileTemplate#COMPONENT_SWITCHES}, so the difference
+ * measured is the profile alone.
+ * <p>
+ * Each measured start covers everything a test pays for: cloning the template (if used),
+ * launching chromedriver and Chrome, and loading the first page.
+ *
+ * <p>Not part of the default suites. Run with:
+ * {@code mvn test -Dsurefire.suiteXmlFiles=src/test/resources/test_suites/performance_tests.xml}
+ */
+public class SessionStartBenchmarkTests extends BaseTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionStartBenchmarkTests.class);
+
+    private static final int SESSIONS_PER_MODE = 5;
+
+    /**
+     * Measures average session start time for both profile modes.
+     * Verifies:
+     * <ul>
+     *   <li>Sessions start successfully from a cloned template</li>
+     *   <li>Averages are logged for comparison</li>
+     * </ul>
+     *
+     * @throws IOException if the template cannot be built or cloned
+     */
+    @Test
+    public void testSessionStartWithAndWithoutProfileTemplate() throws IOException {
+        WebDriverManager.chromedriver().setup();
+        Path template = ChromeProfileTemplate.getOrBuild(this::createChromeOptions);
+        Path storageRoot = ChromeProfileTemplate.fastStorageRoot(config.getChromeProfileStorageDir());
+
+        long freshTotal = 0;
+        long templateTotal = 0;
+        for (int i = 0; i < SESSIONS_PER_MODE; i++) {
+            ChromeOptions freshOptions = createChromeOptions();
+            freshOptions.addArguments(ChromeProfileTemplate.COMPONENT_SWITCHES);
+            freshTotal += startSession(freshOptions);
+
+            Path clone = null;
+            long start = System.nanoTime();
+            try {
+                clone = ChromeProfileTemplate.cloneForSession(template, storageRoot);
+                ChromeOptions options = createChromeOptions();
+                options.addArguments(ChromeProfileTemplate.COMPONENT_SWITCHES);
+                options.addArguments("--user-data-dir=" + clone);
+                startSession(options);
+                templateTotal += (System.nanoTime() - start) / 1_000_000;
+            } finally {
+                ChromeProfileTemplate.deleteRecursively(clone);
+            }
+        }
+
+        LOGGER.info("Session start: fresh profile avg={} ms, profile template avg={} ms over {} sessions each",
+                freshTotal / SESSIONS_PER_MODE, templateTotal / SESSIONS_PER_MODE, SESSIONS_PER_MODE);
+        Assert.assertTrue(templateTotal > 0, "Template sessions should have been measured");
+    }
+
+    /**
+     * Starts a session, loads a blank page and quits.
+     *
+     * @return Elapsed milliseconds until the first page was loaded
+     */
+    private long startSession(ChromeOptions options) {
+        long start = System.nanoTime();
+        WebDriver session = new ChromeDriver(options);
+        try {
+            session.get("about:blank");
+            return (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            session.quit();
+        }
+    }
+}
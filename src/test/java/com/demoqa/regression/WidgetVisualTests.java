@@ -0,0 +1,83 @@
+package com.demoqa.regression;
+
+import com.demoqa.base.BaseTest;
+import com.demoqa.pages.widgets.DatePickerPage;
+import com.demoqa.pages.widgets.ProgressBarPage;
+import com.demoqa.pages.widgets.SliderPage;
+import com.demoqa.utils.AllureSteps;
+import com.demoqa.utils.VisualComparator;
+import org.openqa.selenium.HasCapabilities;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Visual regression tests for the widget pages.
+ * <p>
+ * Each test brings a widget into a deterministic state, captures only the widget element and compares it
+ * with a stored baseline through {@link VisualComparator}. Baselines are kept per browser, because
+ * rendering differs between engines. A test without a baseline for the current browser is skipped;
+ * {@code -Dvisual.update.baselines=true} records the baselines, and re-records them after intended UI changes.
+ *
+ * @see VisualComparator
+ */
+public class WidgetVisualTests extends BaseTest {
+
+    /**
+     * Compares the slider at a fixed value with its baseline.
+     *
+     * @throws IOException if the capture cannot be compared or stored
+     */
+    @Test
+    public void testSliderAppearance() throws IOException {
+        SliderPage sliderPage = navigateTo(SliderPage.class);
+        sliderPage.setSliderValue(75);
+        assertMatchesBaseline("slider-75", sliderPage.captureSlider());
+    }
+
+    /**
+     * Compares the completed progress bar with its baseline.
+     *
+     * @throws IOException if the capture cannot be compared or stored
+     */
+    @Test
+    public void testCompletedProgressBarAppearance() throws IOException {
+        ProgressBarPage progressBarPage = navigateTo(ProgressBarPage.class);
+        progressBarPage.startStopProgressBar();
+        progressBarPage.waitForCompletion();
+        assertMatchesBaseline("progress-bar-complete", progressBarPage.captureProgressBar());
+    }
+
+    /**
+     * Compares the date and time input with a fixed value with its baseline.
+     *
+     * @throws IOException if the capture cannot be compared or stored
+     */
+    @Test
+    public void testDatePickerAppearance() throws IOException {
+        DatePickerPage datePickerPage = navigateTo(DatePickerPage.class);
+        datePickerPage.selectDateAndTime("02/14/2024 10:30 AM");
+        assertMatchesBaseline("date-picker-value", datePickerPage.captureDatePicker());
+    }
+
+    /**
+     * Compares a capture with the baseline for the current browser and attaches the diff image on failure.
+     * Skips the test if the browser has no baseline yet.
+     */
+    private void assertMatchesBaseline(String name, byte[] capture) throws IOException {
+        String browserName = ((HasCapabilities) driver).getCapabilities().getBrowserName();
+        VisualComparator.Result result = VisualComparator.getDefault().compare(name + "-" + browserName, capture);
+        if (result.status() == VisualComparator.Status.BASELINE_MISSING) {
+            AllureSteps.attach(name + " capture", "image/png", ".png", capture);
+            throw new SkipException("No " + browserName + " baseline for '" + name
+                    + "', record it with -Dvisual.update.baselines=true");
+        }
+        if (result.diffImage() != null) {
+            AllureSteps.attach(name + " diff", "image/png", ".png", Files.readAllBytes(result.diffImage()));
+        }
+        Assert.assertTrue(result.passed(), String.format("Widget '%s' differs from baseline: %.3f%% of pixels changed, see %s",
+                name, result.diffRatio() * 100, result.diffImage()));
+    }
+}
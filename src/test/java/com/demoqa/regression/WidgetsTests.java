@@ -1,15 +1,10 @@
 package com.demoqa.regression;
 
-import com.demoqa.config.ConfigurationManager;
+import com.demoqa.base.BaseTest;
 import com.demoqa.pages.widgets.DatePickerPage;
 import com.demoqa.pages.widgets.ProgressBarPage;
 import com.demoqa.pages.widgets.SliderPage;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.Assert;
-import org.testng.annotations.AfterMethod;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 /**
@@ -22,34 +17,13 @@ import org.testng.annotations.Test;
  *   <li>Date picker selection</li>
  * </ul>
  *
- * <p>Uses TestNG framework for test execution and WebDriver for browser automation.
+ * <p>Inherits browser setup and teardown from {@link BaseTest}, so it runs with the configured browser.
  *
  * @see DatePickerPage
  * @see ProgressBarPage
  * @see SliderPage
  */
-public class WidgetsTests {
-
-    private WebDriver driver;
-    private DatePickerPage datePickerPage;
-    private ProgressBarPage progressBarPage;
-    private SliderPage sliderPage;
-
-    /**
-     * Sets up the test environment before each test method execution.
-     * <p>
-     * Initializes the ChromeDriver, maximizes the browser window,
-     * and initializes all page objects needed for the tests.
-     */
-    @BeforeMethod
-    public void setUp() {
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
-        datePickerPage = new DatePickerPage(driver);
-        progressBarPage = new ProgressBarPage(driver);
-        sliderPage = new SliderPage(driver);
-    }
+public class WidgetsTests extends BaseTest {
 
     /**
      * Tests the slider widget functionality by setting a specific value
@@ -60,7 +34,7 @@ public class WidgetsTests {
      */
     @Test
     public void testSliderMovement() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/slider");
+        SliderPage sliderPage = navigateTo(SliderPage.class);
         int targetValue = 75;
         sliderPage.setSliderValue(targetValue);
         Assert.assertEquals(sliderPage.getSliderValue(), String.valueOf(targetValue),
@@ -77,7 +51,7 @@ public class WidgetsTests {
      */
     @Test
     public void testProgressBarCompletion() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/progress-bar");
+        ProgressBarPage progressBarPage = navigateTo(ProgressBarPage.class);
         progressBarPage.startStopProgressBar();
         progressBarPage.waitForCompletion();
         Assert.assertEquals(progressBarPage.getProgressBarValue(), "100",
@@ -93,23 +67,11 @@ public class WidgetsTests {
      */
     @Test
     public void testDatePicker() {
-        driver.get(new ConfigurationManager().getBaseUrl() + "/date-picker");
+        DatePickerPage datePickerPage = navigateTo(DatePickerPage.class);
         String expectedDate = "02/14/2024 10:30 AM";
         datePickerPage.selectDateAndTime(expectedDate);
         String actualDate = datePickerPage.getDatePickerValue();
         Assert.assertEquals(actualDate, expectedDate,
                 "Date and time should be updated correctly");
     }
-
-    /**
-     * Cleans up the test environment after each test method execution.
-     * <p>
-     * Closes the browser instance if it exists.
-     */
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package com.demoqa.unit;
+
+import com.demoqa.fake.FakeWebDriver;
+import com.demoqa.load.ABComparison;
+import com.demoqa.load.ABReport;
+import com.demoqa.load.LoadScenario;
+import com.demoqa.load.MannWhitney;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+/**
+ * Unit tests of {@link MannWhitney} and of {@link ABComparison} on {@link FakeWebDriver} sessions, without a browser.
+ */
+public class ABComparisonUnitTests {
+
+    private static final String BASELINE_URL = "http://baseline.local";
+    private static final String CANDIDATE_URL = "http://candidate.local";
+
+    /**
+     * Verifies that for two samples of ten without overlap:
+     * <ul>
+     *   <li>The p-value matches the normal approximation with continuity correction (1.827e-4, as R's
+     *       wilcox.test with exact = FALSE)</li>
+     *   <li>The shift estimate is the median pairwise difference, and the interval bounds are the 24th
+     *       smallest and largest of the 100 differences</li>
+     * </ul>
+     */
+    @Test
+    public void testMannWhitneyMatchesReferenceValues() {
+        long[] baseline = LongStream.rangeClosed(1, 10).toArray();
+        long[] candidate = LongStream.rangeClosed(11, 20).toArray();
+
+        MannWhitney.Result result = MannWhitney.compare(baseline, candidate, 0.95);
+
+        Assert.assertEquals(result.u(), 0.0);
+        Assert.assertEquals(result.pValue(), 1.827e-4, 1e-6);
+        Assert.assertEquals(result.shift(), 10.0);
+        Assert.assertEquals(result.shiftLow(), 7.0);
+        Assert.assertEquals(result.shiftHigh(), 13.0);
+
+        MannWhitney.Result same = MannWhitney.compare(baseline, baseline, 0.95);
+        Assert.assertEquals(same.pValue(), 1.0, 1e-9, "Identical samples should show no difference");
+        Assert.assertEquals(same.shift(), 0.0);
+    }
+
+    /**
+     * Verifies the shift estimate and its interval against the published example of Hollander and Wolfe
+     * (permeability constants of the human chorioamnion, also the example of R's wilcox.test), scaled by 100.
+     * The reference values are those of {@code wilcox.test(y, x, conf.int = TRUE)}, whose exact interval the
+     * large-sample one matches on this data:
+     * <ul>
+     *   <li>95%: a shift of -0.305 with an interval of -0.76 to 0.15, the 9th smallest and largest difference</li>
+     *   <li>85% ({@code conf.level = 0.85}): -0.71 to 0.07, the 13th smallest and largest difference, where
+     *       0-based order statistics would report the 14th, -0.70 to 0.05</li>
+     * </ul>
+     */
+    @Test
+    public void testHodgesLehmannIntervalMatchesPublishedExample() {
+        long[] atTerm = {80, 83, 189, 104, 145, 138, 191, 164, 73, 146};
+        long[] earlyGestation = {115, 88, 90, 74, 121};
+
+        MannWhitney.Result result = MannWhitney.compare(atTerm, earlyGestation, 0.95);
+
+        Assert.assertEquals(result.shift(), -30.5);
+        Assert.assertEquals(result.shiftLow(), -76.0);
+        Assert.assertEquals(result.shiftHigh(), 15.0);
+
+        MannWhitney.Result narrower = MannWhitney.compare(atTerm, earlyGestation, 0.85);
+        Assert.assertEquals(narrower.shiftLow(), -71.0);
+        Assert.assertEquals(narrower.shiftHigh(), 7.0);
+    }
+
+    /**
+     * Verifies that Holm's adjustment multiplies the smallest p-value by the number of tests, keeps the
+     * order of the p-values and caps them at 1.
+     */
+    @Test
+    public void testHolmAdjustment() {
+        double[] adjusted = MannWhitney.holm(new double[]{0.04, 0.01, 0.03, 0.5});
+
+        Assert.assertEquals(adjusted[1], 0.04, 1e-12);
+        Assert.assertEquals(adjusted[2], 0.09, 1e-12);
+        Assert.assertEquals(adjusted[0], 0.09, 1e-12, "Adjusted p-values should not decrease with the raw ones");
+        Assert.assertEquals(adjusted[3], 0.5, 1e-12);
+    }
+
+    /**
+     * Verifies that a comparison:
+     * <ul>
+     *   <li>Runs every scenario on both deployments each round, warm-up included, on one session</li>
+     *   <li>Reports only the measured rounds</li>
+     *   <li>Flags a step that is slower on the candidate, with a positive difference</li>
+     * </ul>
+     */
+    @Test
+    public void testSlowerCandidateStepIsDetected() {
+        AtomicInteger baselineRuns = new AtomicInteger();
+        AtomicInteger candidateRuns = new AtomicInteger();
+        AtomicInteger sessions = new AtomicInteger();
+        LoadScenario scenario = new LoadScenario("slow", (driver, baseUrl, steps) -> {
+            steps.time("open", () -> driver.get(baseUrl));
+            steps.time("wait", () -> {
+                if (baseUrl.equals(CANDIDATE_URL)) {
+                    candidateRuns.incrementAndGet();
+                    sleep(5);
+                } else {
+                    baselineRuns.incrementAndGet();
+                }
+            });
+        });
+
+        ABReport report = new ABComparison(List.of(scenario), BASELINE_URL, CANDIDATE_URL, 12, 2, 42L, () -> {
+            sessions.incrementAndGet();
+            return new FakeWebDriver(PageLayerTests.textBoxPage());
+        }).run(0.05);
+
+        Assert.assertEquals(baselineRuns.get(), 14);
+        Assert.assertEquals(candidateRuns.get(), 14);
+        Assert.assertEquals(sessions.get(), 1, "Both deployments should share one session");
+        Assert.assertEquals(report.steps().stream().map(ABReport.StepComparison::step).toList(),
+                List.of("slow/open", "slow/wait"));
+        ABReport.StepComparison wait = report.step("slow/wait");
+        Assert.assertEquals(wait.baselineCount(), 12, "Warm-up rounds should not be reported");
+        Assert.assertEquals(wait.candidateCount(), 12);
+        Assert.assertEquals(wait.verdict(report.alpha()), "slower");
+        Assert.assertTrue(wait.test().shiftLow() > 0, "The confidence interval should exclude zero");
+        Assert.assertTrue(report.regressions().contains(wait), "The slower step should be listed as a regression");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.demoqa.unit;
+
+import com.demoqa.daemon.BrowserDaemon;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * Unit tests of the {@link BrowserDaemon} protocol against a daemon with an empty pool, without a browser.
+ */
+public class BrowserDaemonTests {
+
+    private BrowserDaemon daemon;
+    private int port;
+
+    /**
+     * Starts a daemon that keeps no browsers warm on a free loopback port.
+     *
+     * @throws IOException if no free port can be found
+     */
+    @BeforeClass
+    public void startDaemon() throws IOException {
+        try (ServerSocket probe = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = probe.getLocalPort();
+        }
+        daemon = new BrowserDaemon(port, 0, 1, true, Paths.get("chrome-not-used"));
+        Thread.ofVirtual().start(() -> {
+            try {
+                daemon.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Stops the daemon.
+     */
+    @AfterClass(alwaysRun = true)
+    public void stopDaemon() {
+        daemon.shutdown();
+    }
+
+    /**
+     * Verifies that malformed BORROW requests are answered with an error instead of dropping the connection,
+     * and that the daemon keeps serving afterwards.
+     *
+     * @throws Exception if the daemon cannot be reached
+     */
+    @Test
+    public void testMalformedRequestsAreAnsweredWithError() throws Exception {
+        Assert.assertEquals(request("BORROW soon"), "ERROR usage: BORROW [timeoutSeconds]");
+        Assert.assertEquals(request("BORROW -1"), "ERROR usage: BORROW [timeoutSeconds]");
+        Assert.assertEquals(request("BORROW 1 2"), "ERROR usage: BORROW [timeoutSeconds]");
+        Assert.assertEquals(request("BORROW 99999999999"), "ERROR usage: BORROW [timeoutSeconds]");
+        Assert.assertEquals(request("LEND"), "ERROR unknown command LEND");
+
+        Assert.assertEquals(request("BORROW 0"), "BUSY");
+        Assert.assertEquals(request("STATUS"), "STATUS idle=0 total=0");
+    }
+
+    /**
+     * Sends one request line and reads the reply, retrying while the daemon is still opening its socket.
+     */
+    private String request(String line) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                 PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+                 BufferedReader reader = new BufferedReader(
+                         new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                socket.setSoTimeout(5_000);
+                writer.println(line);
+                return reader.readLine();
+            } catch (ConnectException e) {
+                if (attempt == 50) {
+                    throw e;
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.demoqa.unit;
+
+import com.demoqa.listeners.BrowserMatrixListener;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import java.util.List;
+
+/**
+ * Unit tests of the suite expansion done by {@link BrowserMatrixListener}.
+ */
+public class BrowserMatrixTests {
+
+    /**
+     * Verifies that expanding a suite:
+     * <ul>
+     *   <li>Replaces a test with a browser parameter by one named copy per browser, in order</li>
+     *   <li>Gives each copy its own browser parameter and its own classes bound to the copy</li>
+     *   <li>Leaves tests without a browser parameter unchanged</li>
+     *   <li>Makes the suite run its tests in parallel</li>
+     * </ul>
+     */
+    @Test
+    public void testTestsAreExpandedPerBrowser() {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Matrix Suite");
+        XmlTest widgets = new XmlTest(suite);
+        widgets.setName("Widgets");
+        widgets.addParameter("browser", "chrome");
+        widgets.setXmlClasses(List.of(new XmlClass("com.demoqa.regression.WidgetsTests", false)));
+        XmlTest unit = new XmlTest(suite);
+        unit.setName("Unit");
+        unit.setXmlClasses(List.of(new XmlClass("com.demoqa.unit.PageLayerTests", false)));
+
+        int variants = BrowserMatrixListener.expand(suite, List.of("chrome", "firefox", "edge"));
+
+        Assert.assertEquals(variants, 3);
+        List<XmlTest> tests = suite.getTests();
+        Assert.assertEquals(tests.stream().map(XmlTest::getName).toList(),
+                List.of("Widgets [chrome]", "Widgets [firefox]", "Widgets [edge]", "Unit"));
+        Assert.assertEquals(tests.get(1).getParameter("browser"), "firefox");
+        Assert.assertEquals(tests.get(2).getParameter("browser"), "edge");
+        Assert.assertEquals(tests.get(1).getXmlClasses().get(0).getName(), "com.demoqa.regression.WidgetsTests");
+        Assert.assertNotSame(tests.get(1).getXmlClasses().get(0), tests.get(0).getXmlClasses().get(0),
+                "Each variant should own its classes");
+        Assert.assertSame(tests.get(3), unit, "Tests without a browser parameter should be kept as they are");
+        Assert.assertEquals(suite.getParallel(), XmlSuite.ParallelMode.TESTS);
+        Assert.assertTrue(suite.getThreadCount() >= 4, "All tests should be able to run at the same time");
+    }
+
+    /**
+     * Verifies that a suite without browser tests is left as configured.
+     */
+    @Test
+    public void testSuiteWithoutBrowserTestsIsUnchanged() {
+        XmlSuite suite = new XmlSuite();
+        XmlTest unit = new XmlTest(suite);
+        unit.setName("Unit");
+
+        Assert.assertEquals(BrowserMatrixListener.expand(suite, List.of("chrome", "firefox")), 0);
+        Assert.assertEquals(suite.getTests(), List.of(unit));
+        Assert.assertEquals(suite.getParallel(), XmlSuite.ParallelMode.NONE);
+    }
+}
@@ -0,0 +1,143 @@
+package com.demoqa.unit;
+
+import com.demoqa.network.HarRecorder;
+import com.demoqa.network.HarSummary;
+import org.openqa.selenium.bidi.network.BeforeRequestSent;
+import org.openqa.selenium.bidi.network.FetchError;
+import org.openqa.selenium.bidi.network.ResponseDetails;
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests of {@link HarRecorder} fed with BiDi network events built in the test, without a browser.
+ */
+public class HarRecorderTests {
+
+    private static final long START = 1_700_000_000_000L;
+
+    /**
+     * Fetch timings of a 120 ms request: 5 ms queued, dns 5 ms, connect 15 ms, wait 80 ms, receive 15 ms
+     */
+    private static final Map<String, Object> TIMINGS = Map.ofEntries(Map.entry("timeOrigin", START),
+            Map.entry("requestTime", 1.0), Map.entry("redirectStart", 0), Map.entry("redirectEnd", 0),
+            Map.entry("fetchStart", 1.0), Map.entry("dnsStart", 6.0), Map.entry("dnsEnd", 11.0),
+            Map.entry("connectStart", 11.0), Map.entry("connectEnd", 26.0), Map.entry("tlsStart", 16.0),
+            Map.entry("requestStart", 26.0), Map.entry("responseStart", 106.0), Map.entry("responseEnd", 121.0));
+
+    /**
+     * Verifies that a capture:
+     * <ul>
+     *   <li>Writes each completed request to the file before the capture is closed</li>
+     *   <li>Produces a valid HAR log with failed and unfinished requests as entries with status 0</li>
+     *   <li>Splits the request time into phases from the fetch timing info</li>
+     * </ul>
+     *
+     * @throws IOException if the HAR file cannot be written or read
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEntriesAreStreamedToValidHar() throws IOException {
+        Path file = Files.createTempFile("capture", ".har");
+        HarRecorder recorder = HarRecorder.open(file);
+
+        recorder.requestSent(requestSent("1", "https://demoqa.com/text-box", 0));
+        recorder.responseCompleted(responseCompleted("1", "https://demoqa.com/text-box", 120, 200, 48_000, TIMINGS));
+        String streamed = Files.readString(file, StandardCharsets.UTF_8);
+        Assert.assertTrue(streamed.contains("https://demoqa.com/text-box"), "Entries should be written as they complete");
+
+        recorder.requestSent(requestSent("2", "https://ads.example.com/tag.js", 10));
+        recorder.fetchFailed(fetchError("2", "https://ads.example.com/tag.js", 40));
+        recorder.requestSent(requestSent("3", "https://demoqa.com/hanging", 50));
+        recorder.close();
+
+        Map<String, Object> har = new Json().toType(Files.readString(file, StandardCharsets.UTF_8), Map.class);
+        Map<String, Object> log = (Map<String, Object>) har.get("log");
+        Assert.assertEquals(log.get("version"), "1.2");
+        List<Map<String, Object>> entries = (List<Map<String, Object>>) log.get("entries");
+        Assert.assertEquals(entries.size(), 3);
+        Map<String, Object> completed = entries.get(0);
+        Assert.assertEquals(((Map<String, Object>) completed.get("response")).get("status"), 200L);
+        Assert.assertEquals(((Number) completed.get("time")).doubleValue(), 120.0);
+        Map<String, Object> timings = (Map<String, Object>) completed.get("timings");
+        Assert.assertEquals(((Number) timings.get("dns")).doubleValue(), 5.0);
+        Assert.assertEquals(((Number) timings.get("wait")).doubleValue(), 80.0);
+        Assert.assertEquals(entries.get(1).get("_error"), "net::ERR_BLOCKED_BY_CLIENT");
+        Assert.assertEquals(((Map<String, Object>) entries.get(2).get("response")).get("status"), 0L);
+        Files.delete(file);
+    }
+
+    /**
+     * Verifies that the summary lists the slowest and the largest requests in descending order, limited to
+     * five each, with totals over all requests.
+     *
+     * @throws IOException if the HAR file cannot be written
+     */
+    @Test
+    public void testSummaryListsSlowestAndLargestRequests() throws IOException {
+        Path file = Files.createTempFile("capture", ".har");
+        try (HarRecorder recorder = HarRecorder.open(file)) {
+            for (int i = 1; i <= 8; i++) {
+                String url = "https://demoqa.com/resource/" + i;
+                recorder.requestSent(requestSent(String.valueOf(i), url, 0));
+                // Request 3 is the slowest, request 6 the largest
+                recorder.responseCompleted(responseCompleted(String.valueOf(i), url, i == 3 ? 900 : 10 * i, 200,
+                        i == 6 ? 500_000 : 1_000L * i, Map.of()));
+            }
+
+            HarSummary summary = recorder.summary();
+
+            Assert.assertEquals(summary.requests(), 8);
+            Assert.assertEquals(summary.slowest().size(), 5);
+            Assert.assertEquals(summary.slowest().get(0).url(), "https://demoqa.com/resource/3");
+            Assert.assertEquals(summary.slowest().get(1).url(), "https://demoqa.com/resource/8");
+            Assert.assertEquals(summary.largest().get(0).url(), "https://demoqa.com/resource/6");
+            Assert.assertEquals(summary.largest().get(0).bytes(), 500_000);
+            Assert.assertEquals(summary.bytesReceived(), 530_000);
+            Assert.assertTrue(summary.lines().get(0).startsWith("Network: 8 requests (0 failed, 0 unfinished)"));
+        }
+        Files.delete(file);
+    }
+
+    private static BeforeRequestSent requestSent(String id, String url, long offsetMillis) {
+        Map<String, Object> event = event(id, url, offsetMillis, Map.of());
+        event.put("initiator", Map.of("type", "other"));
+        return BeforeRequestSent.fromJsonMap(event);
+    }
+
+    private static ResponseDetails responseCompleted(String id, String url, long offsetMillis, int status, long bytes,
+                                                     Map<String, Object> timings) {
+        Map<String, Object> response = new HashMap<>(Map.of("url", url, "protocol", "h2", "status", status,
+                "statusText", "OK", "fromCache", false, "headers", List.of(), "mimeType", "text/html",
+                "bytesReceived", bytes, "headersSize", 100, "bodySize", Math.max(0, bytes - 100)));
+        Map<String, Object> event = event(id, url, offsetMillis, timings);
+        event.put("response", response);
+        return ResponseDetails.fromJsonMap(event);
+    }
+
+    private static FetchError fetchError(String id, String url, long offsetMillis) {
+        Map<String, Object> event = event(id, url, offsetMillis, Map.of());
+        event.put("errorText", "net::ERR_BLOCKED_BY_CLIENT");
+        return FetchError.fromJsonMap(event);
+    }
+
+    private static Map<String, Object> event(String id, String url, long offsetMillis, Map<String, Object> timings) {
+        Map<String, Object> request = new HashMap<>(Map.of("request", id, "url", url, "method", "GET",
+                "headers", List.of(Map.of("name", "Accept", "value", Map.of("type", "string", "value", "*/*"))),
+                "cookies", List.of(), "headersSize", 40));
+        if (!timings.isEmpty()) {
+            request.put("timings", timings);
+        }
+        Map<String, Object> event = new HashMap<>(Map.of("context", "tab-1", "isBlocked", false,
+                "redirectCount", 0, "request", request, "timestamp", START + offsetMillis));
+        event.put("navigation", null);
+        return event;
+    }
+}
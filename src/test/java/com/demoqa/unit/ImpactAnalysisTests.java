@@ -0,0 +1,245 @@
+package com.demoqa.unit;
+
+import com.demoqa.impact.ImpactAnalysis;
+import com.demoqa.impact.SourceGraph;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests of {@link ImpactAnalysis} and {@link SourceGraph} on a small project written to a temporary
+ * directory: a base page with an overridable readiness condition, two pages, a router creating pages from
+ * constructor references and class literals, and test classes using them.
+ */
+public class ImpactAnalysisTests {
+
+    private static final String MAIN = "src/main/java/com/example/";
+    private static final String TEST = "src/test/java/com/example/";
+
+    private Path projectDir;
+    private SourceGraph graph;
+
+    /**
+     * Writes the project sources and builds their graph.
+     *
+     * @throws IOException if a source cannot be written or read
+     */
+    @BeforeClass
+    public void buildGraph() throws IOException {
+        projectDir = Files.createTempDirectory("impact");
+        write(MAIN + "pages/BasePage.java", """
+                package com.example.pages;
+
+                public abstract class BasePage {
+
+                    protected boolean readinessCondition() {
+                        return true;
+                    }
+
+                    public void waitUntilReady() {
+                        readinessCondition();
+                    }
+                }
+                """);
+        write(MAIN + "pages/TextBoxPage.java", """
+                package com.example.pages;
+
+                public class TextBoxPage extends BasePage {
+
+                    @Override
+                    protected boolean readinessCondition() {
+                        return false;
+                    }
+
+                    public void fill(String name) {
+                    }
+                }
+                """);
+        write(MAIN + "pages/SliderPage.java", """
+                package com.example.pages;
+
+                public class SliderPage extends BasePage {
+
+                    public void slide() {
+                    }
+                }
+                """);
+        write(MAIN + "pages/PageRouter.java", """
+                package com.example.pages;
+
+                import java.util.Map;
+                import java.util.function.Supplier;
+
+                public class PageRouter {
+
+                    private final Map<Class<?>, Supplier<?>> routes = Map.of(TextBoxPage.class, TextBoxPage::new);
+
+                    public <T extends BasePage> T navigateTo(Class<T> page) {
+                        T instance = (T) routes.get(page).get();
+                        instance.waitUntilReady();
+                        return instance;
+                    }
+                }
+                """);
+        write(TEST + "functional/ElementsTests.java", """
+                package com.example.functional;
+
+                import com.example.pages.PageRouter;
+                import com.example.pages.TextBoxPage;
+
+                public class ElementsTests {
+
+                    @Test
+                    public void testTextBox() {
+                        TextBoxPage page = new PageRouter().navigateTo(TextBoxPage.class);
+                        page.fill("name");
+                    }
+                }
+                """);
+        write(TEST + "functional/SliderTests.java", """
+                package com.example.functional;
+
+                import com.example.pages.SliderPage;
+
+                public class SliderTests {
+
+                    @Test
+                    public void testSlide() {
+                        new SliderPage().slide();
+                    }
+                }
+                """);
+        // Same simple name as functional.SliderTests, in another package
+        write(TEST + "unit/SliderTests.java", """
+                package com.example.unit;
+
+                public class SliderTests {
+
+                    @Test
+                    public void testOffsets() {
+                    }
+                }
+                """);
+        graph = SourceGraph.build(ImpactAnalysis.SOURCE_ROOTS.stream().map(projectDir::resolve).toList());
+    }
+
+    /**
+     * Deletes the project sources.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @AfterClass(alwaysRun = true)
+    public void deleteProject() throws IOException {
+        try (Stream<Path> files = Files.walk(projectDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Verifies that a parsed diff:
+     * <ul>
+     *   <li>Marks every added or changed line of a hunk</li>
+     *   <li>Marks the lines on both sides of a pure deletion</li>
+     *   <li>Does not mistake a removed line starting with "--" for a file header</li>
+     *   <li>Keys a deleted file by its old path with no lines</li>
+     * </ul>
+     */
+    @Test
+    public void testParseDiff() {
+        String diff = String.join("\n",
+                "diff --git a/src/A.java b/src/A.java",
+                "--- a/src/A.java",
+                "+++ b/src/A.java",
+                "@@ -3,2 +3,3 @@ class A {",
+                "-    int a;",
+                "--- removed decrement",
+                "+    int a;",
+                "+    int b;",
+                "+    int c;",
+                "@@ -20 +21,0 @@",
+                "-    int d;",
+                "diff --git a/src/B.java b/src/B.java",
+                "--- a/src/B.java",
+                "+++ /dev/null",
+                "@@ -1,3 +0,0 @@",
+                "-class B {",
+                "-}",
+                "-");
+
+        Map<String, Set<Integer>> changes = ImpactAnalysis.parseDiff(diff);
+
+        Assert.assertEquals(changes.keySet(), Set.of("src/A.java", "src/B.java"));
+        Assert.assertEquals(changes.get("src/A.java"), Set.of(3, 4, 5, 21, 22));
+        Assert.assertEquals(changes.get("src/B.java"), Set.of(1));
+    }
+
+    /**
+     * Verifies that the graph:
+     * <ul>
+     *   <li>Keeps classes of the same simple name in different packages apart</li>
+     *   <li>Treats constructor references and class literals as construction</li>
+     *   <li>Makes a change to an override affect the users of the overridden member</li>
+     * </ul>
+     */
+    @Test
+    public void testSourceGraphResolvesOverridesAndConstructorReferences() {
+        Assert.assertEquals(graph.testMethods().keySet(), Set.of("com.example.functional.ElementsTests",
+                "com.example.functional.SliderTests", "com.example.unit.SliderTests"));
+        Assert.assertTrue(graph.isTestClass("com.example.unit.SliderTests"));
+
+        Set<String> usedByRouter = graph.usedBy("com.example.pages.PageRouter#routes");
+        Assert.assertTrue(usedByRouter.contains("com.example.pages.TextBoxPage#<init>"),
+                "TextBoxPage::new and TextBoxPage.class should construct the page");
+
+        Set<String> affected = graph.affectedBy(Set.of("com.example.pages.TextBoxPage#readinessCondition"));
+        Assert.assertTrue(affected.contains("com.example.pages.BasePage#waitUntilReady"),
+                "The base page calls the override through its own member");
+        Assert.assertTrue(affected.contains("com.example.functional.ElementsTests#testTextBox"));
+        Assert.assertFalse(affected.contains("com.example.unit.SliderTests#testOffsets"));
+    }
+
+    /**
+     * Verifies that a selection:
+     * <ul>
+     *   <li>Selects only the tests using a changed page member, by qualified class name</li>
+     *   <li>Selects the tests of a page created through the router when the page's override changes</li>
+     *   <li>Ignores documentation and runs everything for non-Java files</li>
+     * </ul>
+     */
+    @Test
+    public void testSelectPicksTestsOfChangedMembers() {
+        ImpactAnalysis.Selection fill = ImpactAnalysis.select(graph, projectDir,
+                Map.of(MAIN + "pages/TextBoxPage.java", Set.of(11)));
+        Assert.assertFalse(fill.runAll());
+        Assert.assertEquals(fill.tests(), Set.of("com.example.functional.ElementsTests#testTextBox"));
+
+        ImpactAnalysis.Selection readiness = ImpactAnalysis.select(graph, projectDir,
+                Map.of(MAIN + "pages/TextBoxPage.java", Set.of(6)));
+        Assert.assertTrue(readiness.includes("com.example.functional.ElementsTests", "testTextBox"));
+        Assert.assertFalse(readiness.includes("com.example.unit.SliderTests", "testOffsets"));
+
+        Assert.assertEquals(ImpactAnalysis.select(graph, projectDir, Map.of("README.md", Set.of(1))).tests(),
+                Set.of());
+        ImpactAnalysis.Selection pom = ImpactAnalysis.select(graph, projectDir, Map.of("pom.xml", Set.of(1)));
+        Assert.assertTrue(pom.runAll());
+        Assert.assertEquals(pom.reasons(), List.of("pom.xml: not a Java source, running all tests"));
+    }
+
+    private void write(String path, String source) throws IOException {
+        Path file = projectDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,112 @@
+package com.demoqa.unit;
+
+import com.demoqa.fake.FakeWebDriver;
+import com.demoqa.load.LoadGenerator;
+import com.demoqa.load.LoadProfile;
+import com.demoqa.load.LoadReport;
+import com.demoqa.load.LoadScenario;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests of {@link LoadGenerator} with virtual users on {@link FakeWebDriver} sessions, without a browser.
+ */
+public class LoadGeneratorTests {
+
+    private static final String BASE_URL = "http://localhost:8080";
+
+    /**
+     * Verifies that with an iteration limit:
+     * <ul>
+     *   <li>Each user runs exactly that many iterations on one session</li>
+     *   <li>Every step of the text box scenario is reported with ordered percentiles</li>
+     * </ul>
+     *
+     * @throws InterruptedException if interrupted during the run
+     */
+    @Test
+    public void testIterationLimitPerUser() throws InterruptedException {
+        LoadProfile profile = new LoadProfile(3, Duration.ZERO, 4, Duration.ZERO);
+
+        LoadReport report = new LoadGenerator(profile, List.of(LoadScenario.textBox()), BASE_URL,
+                () -> new FakeWebDriver(PageLayerTests.textBoxPage())).run();
+
+        Assert.assertEquals(report.iterations(), 12, "3 users should run 4 iterations each");
+        Assert.assertEquals(report.userIterations(), List.of(4L, 4L, 4L));
+        Assert.assertEquals(report.failedIterations(), 0);
+        Assert.assertEquals(report.sessionStarts(), 3, "Each user should keep its session");
+        Assert.assertEquals(report.steps().stream().map(LoadReport.StepStats::step).toList(),
+                List.of("textbox/open", "textbox/fill", "textbox/submit"));
+        for (LoadReport.StepStats step : report.steps()) {
+            Assert.assertEquals(step.count(), 12, step.step() + " should run once per iteration");
+            Assert.assertTrue(step.p50Micros() <= step.p95Micros() && step.p95Micros() <= step.p99Micros()
+                    && step.p99Micros() <= step.maxMicros(), step.step() + " percentiles should be ordered");
+        }
+        Assert.assertTrue(report.throughputPerSecond() > 0, "Throughput should be reported");
+    }
+
+    /**
+     * Verifies that a failing step:
+     * <ul>
+     *   <li>Is counted as an error of that step, not as a latency sample</li>
+     *   <li>Ends the iteration, so later steps are skipped</li>
+     * </ul>
+     *
+     * @throws InterruptedException if interrupted during the run
+     */
+    @Test
+    public void testFailingStepEndsIteration() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        LoadScenario flaky = new LoadScenario("flaky", (driver, baseUrl, steps) -> {
+            steps.time("open", () -> driver.get(baseUrl));
+            steps.time("check", () -> {
+                if (runs.incrementAndGet() % 2 == 0) {
+                    throw new IllegalStateException("Every second check fails");
+                }
+            });
+            steps.time("after", () -> { });
+        });
+
+        LoadReport report = new LoadGenerator(new LoadProfile(1, Duration.ZERO, 10, Duration.ZERO),
+                List.of(flaky), BASE_URL, () -> new FakeWebDriver(PageLayerTests.textBoxPage())).run();
+
+        Assert.assertEquals(report.failedIterations(), 5);
+        Assert.assertEquals(report.step("flaky/check").count(), 5);
+        Assert.assertEquals(report.step("flaky/check").errors(), 5);
+        Assert.assertEquals(report.step("flaky/after").count(), 5, "Steps after a failure should be skipped");
+    }
+
+    /**
+     * Verifies that with a duration limit and ramp-up:
+     * <ul>
+     *   <li>Users start spread over the ramp-up</li>
+     *   <li>The run stops once the duration has passed</li>
+     * </ul>
+     *
+     * @throws InterruptedException if interrupted during the run
+     */
+    @Test
+    public void testDurationLimitWithRampUp() throws InterruptedException {
+        LoadProfile profile = new LoadProfile(2, Duration.ofMillis(400), 0, Duration.ofMillis(200));
+        Assert.assertEquals(profile.startDelay(1), Duration.ofMillis(100));
+
+        LoadScenario pause = new LoadScenario("pause", (driver, baseUrl, steps) ->
+                steps.time("sleep", () -> {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        LoadReport report = new LoadGenerator(profile, List.of(pause), BASE_URL,
+                () -> new FakeWebDriver(PageLayerTests.textBoxPage())).run();
+
+        Assert.assertTrue(report.elapsed().toMillis() >= 400, "Run should last the set duration");
+        Assert.assertTrue(report.elapsed().toMillis() < 2_000, "Run should stop after the set duration");
+        Assert.assertEquals(report.sessionStarts(), 2);
+        Assert.assertTrue(report.step("pause/sleep").p50Micros() >= 10_000, "Step latency should include the pause");
+    }
+}
@@ -0,0 +1,107 @@
+package com.demoqa.unit;
+
+import com.demoqa.performance.LocatorInventory;
+import com.demoqa.performance.LocatorInventory.Locator;
+import com.demoqa.performance.LocatorLinter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.List;
+
+/**
+ * Unit tests of the page source scanner {@link LocatorInventory} and the rules of {@link LocatorLinter}.
+ */
+public class LocatorLinterTests {
+
+    private static final String PAGE_SOURCE = """
+            package com.demoqa.pages;
+
+            public class SamplePage extends BasePage {
+
+                private static final By SUBMIT = By.id("submit");
+
+                @FindBy(css = "#userName")
+                private WebElement nameInput;
+
+                @FindBy(xpath = "//div[@class=\\"row\\"]")
+                private List<WebElement> rows;
+
+                public void waitForOutput(String label) {
+                    wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("#output p")));
+                    driver.findElement(By.xpath("//label[text()='" + label + "']"));
+                }
+            }
+            """;
+
+    /**
+     * Verifies that the scanner:
+     * <ul>
+     *   <li>Finds {@code @FindBy} fields with their name, and marks only single {@code WebElement} fields</li>
+     *   <li>Names {@code By} constants after the constant and inline locators after their line</li>
+     *   <li>Normalizes cssSelector to css and unescapes string literals</li>
+     *   <li>Skips locators built from concatenated strings</li>
+     * </ul>
+     */
+    @Test
+    public void testScanSourceFindsFieldsConstantsAndInlineLocators() {
+        List<Locator> locators = LocatorInventory.scanSource("SamplePage", PAGE_SOURCE);
+
+        Assert.assertEquals(locators, List.of(
+                new Locator("SamplePage", "nameInput", "css", "#userName", true),
+                new Locator("SamplePage", "rows", "xpath", "//div[@class=\"row\"]", false),
+                new Locator("SamplePage", "SUBMIT", "id", "submit", false),
+                new Locator("SamplePage", "line 14", "css", "#output p", false)));
+    }
+
+    /**
+     * Verifies that XPath locators are flagged for lookups by id, text matches and missing anchors, each
+     * with a concrete alternative.
+     */
+    @Test
+    public void testXpathRules() {
+        List<String> byId = LocatorLinter.lint(locator("xpath", "//*[@id='submit']"));
+        Assert.assertEquals(byId.size(), 1);
+        Assert.assertTrue(byId.get(0).contains("By.id(\"submit\")"), byId.get(0));
+
+        List<String> byText = LocatorLinter.lint(locator("xpath", "//button[text()='Submit']"));
+        Assert.assertEquals(byText.size(), 2, "Text match and unanchored path: " + byText);
+        Assert.assertTrue(byText.get(0).contains("'Submit'"), byText.get(0));
+        Assert.assertTrue(byText.get(1).startsWith("Unanchored"), byText.get(1));
+
+        Assert.assertEquals(LocatorLinter.lint(locator("xpath", "//*[@id='app']//button")), List.of(),
+                "A path anchored below an id should pass");
+    }
+
+    /**
+     * Verifies that CSS selectors:
+     * <ul>
+     *   <li>Pass as a plain {@code #id}, which is as cheap as By.id</li>
+     *   <li>Are flagged for substring attribute matches, untagged attribute selectors (with a likely tag
+     *       suggested) and too many alternatives</li>
+     * </ul>
+     * Other strategies are never flagged.
+     */
+    @Test
+    public void testCssRules() {
+        Assert.assertEquals(LocatorLinter.lint(locator("css", "#userName")), List.of());
+        Assert.assertEquals(LocatorLinter.lint(locator("css", " #submit ")), List.of());
+
+        List<String> substring = LocatorLinter.lint(locator("css", "div[class*='rc-slider']"));
+        Assert.assertEquals(substring.size(), 1);
+        Assert.assertTrue(substring.get(0).startsWith("Substring attribute match"), substring.get(0));
+
+        List<String> untagged = LocatorLinter.lint(locator("css", "[for='gender-radio-1']"));
+        Assert.assertEquals(untagged.size(), 1);
+        Assert.assertTrue(untagged.get(0).contains("label[for='gender-radio-1']"), untagged.get(0));
+
+        List<String> alternatives = LocatorLinter.lint(locator("css", "#a, #b, .c, .d"));
+        Assert.assertEquals(alternatives.size(), 1);
+        Assert.assertTrue(alternatives.get(0).startsWith("4 alternatives"), alternatives.get(0));
+
+        Assert.assertEquals(LocatorLinter.lint(locator("id", "submit")), List.of());
+        Assert.assertEquals(LocatorLinter.lint(locator("className", "row")), List.of());
+    }
+
+    private static Locator locator(String strategy, String value) {
+        return new Locator("SamplePage", "field", strategy, value, true);
+    }
+}
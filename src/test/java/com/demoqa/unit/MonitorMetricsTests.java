@@ -0,0 +1,67 @@
+package com.demoqa.unit;
+
+import com.demoqa.monitor.MonitorMetrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the rolling metrics and Prometheus output of {@link MonitorMetrics}.
+ */
+public class MonitorMetricsTests {
+
+    private static final String CHECK = "SmokeTests.testHomePageLoadsSuccessfully";
+
+    /**
+     * Verifies that the success ratio:
+     * <ul>
+     *   <li>Covers only the last window of runs</li>
+     *   <li>Recovers once failures have left the window, while the failure counter keeps them</li>
+     * </ul>
+     */
+    @Test
+    public void testSuccessRatioRollsOverWindow() {
+        MonitorMetrics metrics = new MonitorMetrics(4);
+        metrics.record(CHECK, false, 100, 1_000);
+        metrics.record(CHECK, false, 100, 2_000);
+        metrics.record(CHECK, true, 100, 3_000);
+        metrics.record(CHECK, true, 100, 4_000);
+        Assert.assertEquals(metrics.successRatio(CHECK), 0.5, 1e-9);
+
+        metrics.record(CHECK, true, 100, 5_000);
+        metrics.record(CHECK, true, 100, 6_000);
+        Assert.assertEquals(metrics.successRatio(CHECK), 1.0, 1e-9, "Old failures should leave the window");
+        Assert.assertTrue(metrics.toPrometheus().contains("demoqa_check_failures_total{check=\"" + CHECK + "\"} 2\n"),
+                "Failure counter should be cumulative");
+    }
+
+    /**
+     * Verifies that the exposition text:
+     * <ul>
+     *   <li>Declares each metric family with HELP and TYPE</li>
+     *   <li>Reports rolling duration quantiles in seconds, plus cumulative sum and count</li>
+     *   <li>Escapes quotes in label values</li>
+     * </ul>
+     */
+    @Test
+    public void testPrometheusExposition() {
+        MonitorMetrics metrics = new MonitorMetrics(10);
+        for (int i = 1; i <= 10; i++) {
+            metrics.record(CHECK, true, i * 100L, 60_000);
+        }
+        metrics.record("Checks.\"quoted\"", false, 50, 60_000);
+        metrics.recordCycle(1_500);
+
+        String text = metrics.toPrometheus();
+
+        Assert.assertTrue(text.contains("# TYPE demoqa_check_duration_seconds summary\n"));
+        Assert.assertTrue(text.contains("# TYPE demoqa_check_runs_total counter\n"));
+        Assert.assertTrue(text.contains("demoqa_check_duration_seconds{check=\"" + CHECK + "\",quantile=\"0.5\"} 0.5\n"));
+        Assert.assertTrue(text.contains("demoqa_check_duration_seconds{check=\"" + CHECK + "\",quantile=\"0.99\"} 1\n"));
+        Assert.assertTrue(text.contains("demoqa_check_duration_seconds_sum{check=\"" + CHECK + "\"} 5.5\n"));
+        Assert.assertTrue(text.contains("demoqa_check_duration_seconds_count{check=\"" + CHECK + "\"} 10\n"));
+        Assert.assertTrue(text.contains("demoqa_check_up{check=\"Checks.\\\"quoted\\\"\"} 0\n"),
+                "Quotes in label values should be escaped");
+        Assert.assertTrue(text.contains("demoqa_check_last_run_timestamp_seconds{check=\"" + CHECK + "\"} 60\n"));
+        Assert.assertTrue(text.contains("demoqa_monitor_last_cycle_duration_seconds 1.5\n"));
+    }
+}
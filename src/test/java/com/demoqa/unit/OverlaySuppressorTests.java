@@ -0,0 +1,79 @@
+package com.demoqa.unit;
+
+import com.demoqa.fake.FakeWebDriver;
+import com.demoqa.fake.ScriptedBrowser;
+import com.demoqa.utils.OverlaySuppressor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.Map;
+
+/**
+ * Unit tests of {@link OverlaySuppressor} installation tracking against {@link FakeWebDriver}, without a browser.
+ */
+public class OverlaySuppressorTests {
+
+    /**
+     * Verifies that with CDP the script counts as installed only in the tabs it was registered in:
+     * <ul>
+     *   <li>A tab registered by an earlier lease of a shared browser stays installed</li>
+     *   <li>A new tab is not installed until it is registered itself</li>
+     *   <li>A tab whose registration failed is not installed, so page objects keep removing ads</li>
+     * </ul>
+     */
+    @Test
+    public void testCdpInstallationIsTrackedPerTab() {
+        CdpDriver driver = new CdpDriver();
+
+        Assert.assertTrue(OverlaySuppressor.install(driver));
+        Assert.assertTrue(OverlaySuppressor.isInstalled(driver));
+
+        driver.window = "tab-2";
+        Assert.assertFalse(OverlaySuppressor.isInstalled(driver), "A new tab has no init script yet");
+        driver.failCdp = true;
+        Assert.assertFalse(OverlaySuppressor.install(driver));
+        Assert.assertFalse(OverlaySuppressor.isInstalled(driver),
+                "A tab where registration failed should not be treated as installed");
+
+        driver.window = "tab-1";
+        Assert.assertTrue(OverlaySuppressor.isInstalled(driver));
+    }
+
+    /**
+     * Verifies that a driver supporting neither CDP nor BiDi is not installed.
+     */
+    @Test
+    public void testPlainDriverIsNotInstalled() {
+        FakeWebDriver driver = new FakeWebDriver(new ScriptedBrowser());
+
+        Assert.assertFalse(OverlaySuppressor.install(driver));
+        Assert.assertFalse(OverlaySuppressor.isInstalled(driver));
+    }
+
+    /**
+     * Fake Chromium driver whose current tab and CDP failures are set by the test.
+     */
+    private static final class CdpDriver extends FakeWebDriver implements HasCdp {
+
+        private String window = "tab-1";
+        private boolean failCdp;
+
+        CdpDriver() {
+            super(new ScriptedBrowser());
+        }
+
+        @Override
+        public String getWindowHandle() {
+            return window;
+        }
+
+        @Override
+        public Map<String, Object> executeCdpCommand(String commandName, Map<String, Object> parameters) {
+            if (failCdp) {
+                throw new WebDriverException("Target closed: " + commandName);
+            }
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.demoqa.unit;
+
+import com.demoqa.fake.CommandRecorder;
+import com.demoqa.fake.FakeCommand;
+import com.demoqa.fake.FakeWebDriver;
+import com.demoqa.fake.ReplayBrowser;
+import com.demoqa.fake.ScriptedBrowser;
+import com.demoqa.pages.BasePage;
+import com.demoqa.pages.ElementSnapshot;
+import com.demoqa.pages.PageRouter;
+import com.demoqa.pages.elements.CheckBoxPage;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.pages.forms.PracticeFormPage;
+import com.demoqa.utils.TypingMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests of the page layer against {@link FakeWebDriver}, without a browser.
+ * Covers the logic between test and browser: element lookups, waits, scripts and the commands they send.
+ *
+ * <p>Does not extend BaseTest; each test builds its own in-memory page with {@link ScriptedBrowser}.
+ */
+public class PageLayerTests {
+
+    private static final String NAME = "John Doe";
+    private static final String EMAIL = "john@example.com";
+    private static final String CURRENT_ADDRESS = "123 Main St";
+    private static final String PERMANENT_ADDRESS = "456 Oak Ave";
+
+    /**
+     * Verifies that filling and submitting the text box form:
+     * <ul>
+     *   <li>Types each value into its own field</li>
+     *   <li>Clicks submit exactly once</li>
+     *   <li>Reports the output box as displayed after submit</li>
+     * </ul>
+     */
+    @Test
+    public void testTextBoxFormFillsFieldsAndSubmits() {
+        ScriptedBrowser browser = textBoxPage();
+        FakeWebDriver driver = new FakeWebDriver(browser);
+
+        TextBoxPage page = new TextBoxPage(driver);
+        page.fillForm(NAME, EMAIL, CURRENT_ADDRESS, PERMANENT_ADDRESS);
+        page.submitForm();
+
+        Assert.assertTrue(page.isOutputDisplayed(), "Output should be displayed after submit");
+        Assert.assertEquals(browser.lookup("fake-1").getValue(), NAME);
+        Assert.assertEquals(browser.lookup("fake-2").getValue(), EMAIL);
+        Assert.assertEquals(browser.lookup("fake-3").getValue(), CURRENT_ADDRESS);
+        Assert.assertEquals(browser.lookup("fake-4").getValue(), PERMANENT_ADDRESS);
+        Assert.assertEquals(browser.lookup("fake-6").getClicks(), 1, "Submit should be clicked once");
+        Assert.assertEquals(driver.getCommandCounts().get("sendKeys"), Long.valueOf(4),
+                "Each field should be typed with a single sendKeys");
+        Assert.assertTrue(TypingMetrics.summary().keySet().stream().noneMatch(key -> key.startsWith("TextBoxPage.")),
+                "Typing into a fake driver should not be recorded as typing latency");
+    }
+
+    /**
+     * Verifies that selected checkboxes are read from one snapshot script and parsed into snapshots.
+     */
+    @Test
+    public void testSelectedCheckboxesAreReadFromSnapshotScript() {
+        ScriptedBrowser browser = new ScriptedBrowser();
+        AtomicInteger snapshots = new AtomicInteger();
+        browser.element(By.cssSelector("button[title='Expand all']")).tag("button");
+        browser.script("JSON.stringify(nodes.map", args -> {
+            snapshots.incrementAndGet();
+            Assert.assertEquals(args, List.of("css selector", ".rct-icon-check"));
+            return "[{\"index\":0,\"text\":\"\",\"visible\":true,\"attributes\":{\"class\":\"rct-icon rct-icon-check\"}},"
+                    + "{\"index\":1,\"text\":\"\",\"visible\":true,\"attributes\":{\"class\":\"rct-icon rct-icon-check\"}}]";
+        });
+        FakeWebDriver driver = new FakeWebDriver(browser);
+
+        List<ElementSnapshot> selected = new CheckBoxPage(driver).getSelectedCheckboxes();
+
+        Assert.assertEquals(selected.size(), 2, "Both checked icons should be returned");
+        Assert.assertEquals(selected.get(1).getIndex(), 1);
+        Assert.assertEquals(selected.get(0).getAttribute("class"), "rct-icon rct-icon-check");
+        Assert.assertEquals(snapshots.get(), 1, "Selected checkboxes should be read with a single script");
+        Assert.assertNull(driver.getCommandCounts().get("isSelected"),
+                "Checkbox states should not be queried one by one");
+    }
+
+    /**
+     * Verifies that pages are built without browser work and opened through {@link PageRouter}:
+     * <ul>
+     *   <li>Constructing a page object sends no commands</li>
+     *   <li>The router loads the page's path once, before anything else</li>
+     *   <li>The router waits for the page's readiness element before returning</li>
+     * </ul>
+     */
+    @Test
+    public void testRouterLoadsPageBeforeWaitingForReadiness() {
+        ScriptedBrowser browser = textBoxPage();
+        FakeWebDriver driver = new FakeWebDriver(browser);
+
+        new TextBoxPage(driver);
+        Assert.assertEquals(driver.getCommandCount(), 0, "Constructing a page should not touch the browser");
+
+        TextBoxPage page = new PageRouter(driver, "https://demoqa.example").navigateTo(TextBoxPage.class);
+
+        List<FakeCommand> commands = browser.getCommands();
+        Assert.assertEquals(commands.get(0), FakeCommand.of(FakeCommand.DRIVER, "get", "https://demoqa.example/text-box"));
+        Assert.assertEquals(driver.getCommandCounts().get("get"), Long.valueOf(1), "The page should be loaded once");
+        Assert.assertTrue(commands.stream().anyMatch(command -> command.method().equals("findElement")
+                        && command.args().contains(By.id("submit").toString())),
+                "The router should wait for the readiness element");
+        Assert.assertNotNull(page);
+    }
+
+    /**
+     * Verifies that a page whose readiness wait fails is not waited for again by later actions,
+     * and that ads are removed only on that first attempt.
+     */
+    @Test
+    public void testFailedReadinessWaitIsAttemptedOnce() {
+        AtomicInteger readinessChecks = new AtomicInteger();
+        ScriptedBrowser browser = new ScriptedBrowser();
+        browser.script("document.readyState", args -> {
+            readinessChecks.incrementAndGet();
+            throw new JavascriptException("document is gone");
+        });
+        FakeWebDriver driver = new FakeWebDriver(browser);
+
+        ReadinessProbePage page = new ReadinessProbePage(driver);
+        page.act();
+        page.act();
+
+        Assert.assertEquals(readinessChecks.get(), 1, "The failed readiness wait should not be repeated");
+        Assert.assertEquals(driver.getCommandCounts().get("findElements"), Long.valueOf(1),
+                "Ads should be removed only on the first attempt");
+    }
+
+    /**
+     * Verifies that clicks clear obstructions only on demand:
+     * <ul>
+     *   <li>An unobstructed click sends no hit-test script</li>
+     *   <li>An intercepted click removes the obstruction once and retries natively</li>
+     * </ul>
+     */
+    @Test
+    public void testInterceptedClickRemovesObstructionAndRetries() {
+        AtomicInteger hitTests = new AtomicInteger();
+        AtomicInteger adsShown = new AtomicInteger();
+        ScriptedBrowser browser = new ScriptedBrowser();
+        browser.element(By.id("submit")).tag("button");
+        ScriptedBrowser.Element close = browser.element(By.id("closeLargeModal")).tag("button").onClick(() -> {
+            if (adsShown.get() > 0) {
+                throw new ElementClickInterceptedException("Other element would receive the click: <iframe>");
+            }
+        });
+        browser.script("elementFromPoint", args -> {
+            hitTests.incrementAndGet();
+            adsShown.decrementAndGet();
+            return "div#fixedban";
+        });
+        FakeWebDriver driver = new FakeWebDriver(browser);
+
+        new PracticeFormPage(driver).closeModal();
+        Assert.assertEquals(hitTests.get(), 0, "An unobstructed click should not hit-test");
+
+        adsShown.set(1);
+        new PracticeFormPage(driver).closeModal();
+        Assert.assertEquals(hitTests.get(), 1, "The obstruction should be removed once");
+        Assert.assertEquals(close.getClicks(), 3, "The intercepted click should be retried natively");
+        Assert.assertTrue(browser.getCommands().stream()
+                        .noneMatch(command -> command.args().contains("arguments[0].click();")),
+                "No JavaScript click fallback should be needed");
+    }
+
+    /**
+     * Verifies that a recorded session replays command for command:
+     * <ul>
+     *   <li>The same page flow consumes every recorded command</li>
+     *   <li>The replayed results lead to the same outcome</li>
+     * </ul>
+     *
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    public void testRecordedTextBoxFlowReplays() throws IOException {
+        Path recording = Files.createTempFile("textbox-commands", ".jsonl");
+        try {
+            CommandRecorder.RecordingSession<WebDriver> session =
+                    CommandRecorder.record(new FakeWebDriver(textBoxPage()), recording);
+            try (CommandRecorder recorder = session.recorder()) {
+                submitTextBox(session.driver());
+            }
+
+            ReplayBrowser replay = ReplayBrowser.load(recording);
+            Assert.assertTrue(replay.remaining() > 0, "Recording should contain commands");
+            Assert.assertTrue(submitTextBox(new FakeWebDriver(replay)), "Replayed output should be displayed");
+            Assert.assertEquals(replay.remaining(), 0, "Replay should consume every recorded command");
+        } finally {
+            Files.deleteIfExists(recording);
+        }
+    }
+
+    /**
+     * Builds the text box page: four inputs, a submit button and an output box revealed by submit.
+     * Elements get ids in registration order, "fake-1" to "fake-6".
+     *
+     * @return The scripted page
+     */
+    public static ScriptedBrowser textBoxPage() {
+        ScriptedBrowser browser = new ScriptedBrowser();
+        browser.element(By.id("userName")).tag("input");
+        browser.element(By.id("userEmail")).tag("input");
+        browser.element(By.id("currentAddress")).tag("textarea");
+        browser.element(By.id("permanentAddress")).tag("textarea");
+        ScriptedBrowser.Element output = browser.element(By.id("output")).displayed(false);
+        browser.element(By.id("submit")).tag("button").onClick(() -> output.displayed(true));
+        return browser;
+    }
+
+    private static boolean submitTextBox(WebDriver driver) {
+        TextBoxPage page = new TextBoxPage(driver);
+        page.fillForm(NAME, EMAIL, CURRENT_ADDRESS, PERMANENT_ADDRESS);
+        page.submitForm();
+        return page.isOutputDisplayed();
+    }
+
+    /**
+     * Page object exposing the readiness wait that every action runs first.
+     */
+    private static final class ReadinessProbePage extends BasePage {
+
+        ReadinessProbePage(WebDriver driver) {
+            super(driver);
+        }
+
+        void act() {
+            waitUntilReady();
+        }
+    }
+}
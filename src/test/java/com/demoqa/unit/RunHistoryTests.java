@@ -0,0 +1,148 @@
+package com.demoqa.unit;
+
+import com.demoqa.history.HistoryAnalyzer;
+import com.demoqa.history.RunHistory;
+import com.demoqa.history.RunHistory.Outcome;
+import com.demoqa.history.RunHistory.Status;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests of {@link RunHistory} on a temporary directory and of {@link HistoryAnalyzer} on built histories.
+ */
+public class RunHistoryTests {
+
+    private static final String LOGIN = "com.demoqa.functional.FormTests.testLogin[chrome]";
+    private static final String SEARCH = "com.demoqa.functional.FormTests.testSearch[chrome]";
+
+    private Path directory;
+
+    /**
+     * Creates an empty history directory.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("history");
+    }
+
+    /**
+     * Deletes the history directory.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Verifies that appended runs:
+     * <ul>
+     *   <li>Are stored as a 4-byte header and one 17-byte record per outcome, with each test name stored once</li>
+     *   <li>Read back from the mapped file grouped by test, oldest first, with all fields intact</li>
+     *   <li>Survive a truncated last record, as left by a killed fork</li>
+     * </ul>
+     *
+     * @throws IOException if the store cannot be written or read
+     */
+    @Test
+    public void testAppendAndReadBack() throws IOException {
+        RunHistory history = new RunHistory(directory);
+        Assert.assertTrue(history.read().isEmpty(), "A new store should be empty");
+
+        history.append(List.of(new Outcome(1_000L, LOGIN, Status.PASS, 1_200),
+                new Outcome(1_000L, SEARCH, Status.FAIL, 3_400)));
+        history.append(List.of(new Outcome(2_000L, LOGIN, Status.SKIP, 0)));
+
+        Assert.assertEquals(Files.size(directory.resolve("results.bin")), 4 + 3 * 17L);
+        Assert.assertEquals(Files.readAllLines(directory.resolve("tests.txt")), List.of(LOGIN, SEARCH));
+
+        Files.write(directory.resolve("results.bin"), new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+        Map<String, List<Outcome>> read = history.read();
+        Assert.assertEquals(List.copyOf(read.keySet()), List.of(LOGIN, SEARCH));
+        Assert.assertEquals(read.get(LOGIN), List.of(new Outcome(1_000L, LOGIN, Status.PASS, 1_200),
+                new Outcome(2_000L, LOGIN, Status.SKIP, 0)));
+        Assert.assertEquals(read.get(SEARCH), List.of(new Outcome(1_000L, SEARCH, Status.FAIL, 3_400)));
+    }
+
+    /**
+     * Verifies that a test is reported as slower only when its current duration is both the set ratio and
+     * the set number of milliseconds above the median of enough earlier passing runs.
+     */
+    @Test
+    public void testFindRegressions() {
+        HistoryAnalyzer analyzer = new HistoryAnalyzer(20, 1.5, 500);
+        List<Outcome> login = new ArrayList<>();
+        List<Outcome> search = new ArrayList<>();
+        List<Outcome> young = new ArrayList<>();
+        for (long run = 1; run <= 6; run++) {
+            login.add(new Outcome(run, LOGIN, Status.PASS, 1_000 + (int) run));
+            search.add(new Outcome(run, SEARCH, Status.PASS, 200));
+        }
+        // Current run: login 2.5 s (x2.5, +1.5 s), search 400 ms (x2 but only +200 ms)
+        login.add(new Outcome(7, LOGIN, Status.PASS, 2_500));
+        search.add(new Outcome(7, SEARCH, Status.PASS, 400));
+        for (long run = 4; run <= 7; run++) {
+            young.add(new Outcome(run, "young", Status.PASS, run == 7 ? 9_000 : 100));
+        }
+
+        List<HistoryAnalyzer.Regression> regressions = analyzer.findRegressions(
+                Map.of(LOGIN, login, SEARCH, search, "young", young), 7);
+
+        Assert.assertEquals(regressions, List.of(new HistoryAnalyzer.Regression(LOGIN, 2_500, 1_004)),
+                "Fast tests with a small absolute slowdown and tests with few earlier runs should not be reported");
+        Assert.assertTrue(analyzer.findRegressions(Map.of(LOGIN, login), 8).isEmpty(),
+                "Only tests that ran in the current run should be compared");
+    }
+
+    /**
+     * Verifies that a test is flaky when it alternates between passing and failing runs or both passes and
+     * fails within one run, but not after a single failure, and that data provider rows keyed separately
+     * are not flaky when one row always fails.
+     */
+    @Test
+    public void testFindFlaky() {
+        HistoryAnalyzer analyzer = new HistoryAnalyzer(20, 1.5, 500);
+        List<Outcome> alternating = new ArrayList<>();
+        List<Outcome> brokenOnce = new ArrayList<>();
+        List<Outcome> retried = new ArrayList<>();
+        List<Outcome> firstRow = new ArrayList<>();
+        List<Outcome> secondRow = new ArrayList<>();
+        for (long run = 1; run <= 6; run++) {
+            alternating.add(new Outcome(run, "alternating", run % 2 == 0 ? Status.FAIL : Status.PASS, 100));
+            brokenOnce.add(new Outcome(run, "brokenOnce", run == 6 ? Status.FAIL : Status.PASS, 100));
+            firstRow.add(new Outcome(run, "form(alice, 30)", Status.PASS, 100));
+            secondRow.add(new Outcome(run, "form(bob, -1)", Status.FAIL, 100));
+        }
+        retried.add(new Outcome(1, "retried", Status.FAIL, 100));
+        retried.add(new Outcome(1, "retried", Status.PASS, 100));
+
+        List<HistoryAnalyzer.Flakiness> flaky = analyzer.findFlaky(Map.of("alternating", alternating,
+                "brokenOnce", brokenOnce, "retried", retried, "form(alice, 30)", firstRow, "form(bob, -1)", secondRow));
+
+        Assert.assertEquals(flaky.stream().map(HistoryAnalyzer.Flakiness::test).sorted().toList(),
+                List.of("alternating", "retried"));
+        HistoryAnalyzer.Flakiness alternatingFlakiness = flaky.stream()
+                .filter(test -> test.test().equals("alternating")).findFirst().orElseThrow();
+        Assert.assertEquals(alternatingFlakiness.runs(), 6);
+        Assert.assertEquals(alternatingFlakiness.failedRuns(), 3);
+        Assert.assertEquals(alternatingFlakiness.flips(), 5);
+    }
+}
@@ -0,0 +1,176 @@
+package com.demoqa.unit;
+
+import com.demoqa.utils.ScreenshotStore;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests of {@link ScreenshotStore} in PNG and JPEG mode on a temporary directory, with captures drawn
+ * in the test.
+ */
+public class ScreenshotStoreTests {
+
+    private Path directory;
+
+    /**
+     * Creates an empty screenshot directory.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("screenshots");
+    }
+
+    /**
+     * Deletes the screenshot directory.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Verifies that in PNG mode:
+     * <ul>
+     *   <li>A capture is stored unchanged under its hash</li>
+     *   <li>An identical capture is deduplicated to the same file</li>
+     *   <li>The oldest file is evicted when the budget is exceeded, but never the one just stored</li>
+     * </ul>
+     *
+     * @throws IOException if a capture cannot be encoded or stored
+     */
+    @Test
+    public void testPngModeDeduplicatesAndEvicts() throws IOException {
+        byte[] first = png(capture(Color.RED));
+        byte[] second = png(capture(Color.BLUE));
+        ScreenshotStore store = new ScreenshotStore(directory, first.length + second.length - 1, 0, 0);
+
+        Path stored = store.store("first", first);
+        Assert.assertTrue(stored.getFileName().toString().endsWith(".png"), stored.toString());
+        Assert.assertEquals(Files.readAllBytes(stored), first);
+        Assert.assertEquals(store.store("first again", first), stored);
+        Assert.assertEquals(store.getTotalBytes(), first.length);
+
+        Path newest = store.store("second", second);
+        Assert.assertFalse(Files.exists(stored), "The oldest file should be evicted");
+        Assert.assertTrue(Files.exists(newest), "The file just stored should be kept");
+        Assert.assertEquals(store.getTotalBytes(), second.length);
+    }
+
+    /**
+     * Verifies that in JPEG mode a capture is downscaled and recompressed, and that an identical capture
+     * is deduplicated to the same file.
+     *
+     * @throws IOException if a capture cannot be encoded, stored or read
+     */
+    @Test
+    public void testJpegModeDownscalesAndRecompresses() throws IOException {
+        byte[] capture = png(capture(Color.RED));
+        ScreenshotStore store = new ScreenshotStore(directory, Long.MAX_VALUE, 100, 0.5f);
+
+        Path stored = store.store("capture", capture);
+
+        Assert.assertTrue(stored.getFileName().toString().endsWith(".jpg"), stored.toString());
+        BufferedImage image = ImageIO.read(stored.toFile());
+        Assert.assertEquals(image.getWidth(), 100);
+        Assert.assertEquals(image.getHeight(), 50);
+        Assert.assertEquals(store.store("capture again", capture), stored);
+        Assert.assertEquals(store.getTotalBytes(), Files.size(stored));
+    }
+
+    /**
+     * Verifies that a capture ImageIO cannot decode is stored as the original PNG in JPEG mode rather than
+     * failing the store or writing PNG bytes under a .jpg name.
+     *
+     * @throws IOException if the capture cannot be stored
+     */
+    @Test
+    public void testUndecodableCaptureIsStoredAsOriginalPng() throws IOException {
+        byte[] valid = png(capture(Color.RED));
+        byte[] truncated = Arrays.copyOf(valid, valid.length / 2);
+        ScreenshotStore store = new ScreenshotStore(directory, Long.MAX_VALUE, 0, 0.5f);
+
+        Path stored = store.store("truncated", truncated);
+
+        Assert.assertTrue(stored.getFileName().toString().endsWith(".png"), stored.toString());
+        Assert.assertEquals(Files.readAllBytes(stored), truncated);
+        Assert.assertEquals(store.getTotalBytes(), truncated.length);
+    }
+
+    /**
+     * Verifies that when a later run switches from PNG to JPEG on the same directory, the PNG and JPEG
+     * files of the same capture are both counted, and evicting the PNG removes exactly its size.
+     *
+     * @throws IOException if a capture cannot be encoded or stored
+     */
+    @Test
+    public void testModeChangeKeepsIndexConsistentWithDisk() throws IOException {
+        byte[] capture = png(capture(Color.RED));
+        Path png = new ScreenshotStore(directory, Long.MAX_VALUE, 0, 0).store("capture", capture);
+        Files.setLastModifiedTime(png, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+        ScreenshotStore jpegStore = new ScreenshotStore(directory, Long.MAX_VALUE, 0, 0.5f);
+        Path jpg = jpegStore.store("capture", capture);
+        Assert.assertNotEquals(jpg, png);
+        Assert.assertEquals(jpegStore.getTotalBytes(), sizeOnDisk());
+
+        ScreenshotStore reloaded = new ScreenshotStore(directory, Files.size(jpg), 0, 0.5f);
+        Assert.assertEquals(reloaded.getTotalBytes(), sizeOnDisk());
+        reloaded.store("other", png(capture(Color.BLUE)));
+        Assert.assertFalse(Files.exists(png), "The PNG left by the earlier run should be evicted first");
+        Assert.assertEquals(reloaded.getTotalBytes(), sizeOnDisk());
+    }
+
+    private long sizeOnDisk() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            long total = 0;
+            for (Path file : files.toList()) {
+                total += Files.size(file);
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Draws a 200x100 page-like capture: a white background with a colored banner and some text.
+     */
+    private static BufferedImage capture(Color banner) {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 200, 100);
+        graphics.setColor(banner);
+        graphics.fillRect(0, 0, 200, 20);
+        graphics.setColor(Color.BLACK);
+        graphics.drawString("Text Box", 10, 50);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
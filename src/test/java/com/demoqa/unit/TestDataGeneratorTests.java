@@ -0,0 +1,89 @@
+package com.demoqa.unit;
+
+import com.demoqa.data.TestDataGenerator;
+import com.demoqa.data.TestDataRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Unit tests of the synthetic data from {@link TestDataGenerator}.
+ */
+public class TestDataGeneratorTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestDataGeneratorTests.class);
+
+    private static final Pattern EMAIL = Pattern.compile("[a-z]+\\.[a-z]+\\.[0-9a-z]+@example\\.com");
+    private static final Pattern PHONE = Pattern.compile("\\d{10}");
+    private static final Pattern DATE = Pattern.compile("(0[1-9]|1[0-2])/(0[1-9]|1\\d|2[0-8])/(19[5-9]\\d|200[0-5])");
+
+    /**
+     * Verifies that the same seed and index always give the same record, and another seed a different one.
+     */
+    @Test
+    public void testRecordsAreReproducibleFromSeed() {
+        TestDataRecord first = new TestDataRecord();
+        TestDataRecord second = new TestDataRecord();
+
+        new TestDataGenerator(42).fill(7, first);
+        new TestDataGenerator(42).fill(7, second);
+        Assert.assertEquals(second.toString(), first.toString());
+        Assert.assertEquals(second.dateOfBirth(), first.dateOfBirth());
+        Assert.assertEquals(second.currentAddress(), first.currentAddress());
+
+        new TestDataGenerator(43).fill(7, second);
+        Assert.assertNotEquals(second.email(), first.email(), "Another seed should give other data");
+    }
+
+    /**
+     * Verifies that 200,000 records refilled into one record object:
+     * <ul>
+     *   <li>Have distinct emails and phone numbers</li>
+     *   <li>Have fields in the formats the forms accept</li>
+     * </ul>
+     */
+    @Test
+    public void testRecordsAreUniqueAndValid() {
+        int count = 200_000;
+        TestDataGenerator generator = new TestDataGenerator(2024);
+        TestDataRecord record = new TestDataRecord();
+        Set<String> emails = new HashSet<>(count * 2);
+        Set<String> phones = new HashSet<>(count * 2);
+
+        for (int i = 0; i < count; i++) {
+            generator.fill(i, record);
+            Assert.assertTrue(emails.add(record.email()), "Duplicate email " + record);
+            Assert.assertTrue(phones.add(record.phone()), "Duplicate phone " + record);
+            if (i % 1000 == 0) {
+                Assert.assertTrue(EMAIL.matcher(record.email()).matches(), "Invalid email " + record.email());
+                Assert.assertTrue(PHONE.matcher(record.phone()).matches(), "Invalid phone " + record.phone());
+                Assert.assertTrue(DATE.matcher(record.dateOfBirth()).matches(),
+                        "Invalid date of birth " + record.dateOfBirth());
+            }
+        }
+    }
+
+    /**
+     * Logs how many records one thread fills per second, as a reference for data-heavy load runs.
+     */
+    @Test
+    public void testFillThroughput() {
+        TestDataGenerator generator = new TestDataGenerator(1);
+        TestDataRecord record = new TestDataRecord();
+        int count = 2_000_000;
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < count; i++) {
+            generator.fill(i, record);
+            checksum += record.index();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        LOGGER.info("Filled {} records in {} ms ({} records/s)", count, Math.round(seconds * 1000),
+                Math.round(count / seconds));
+        Assert.assertEquals(checksum, (long) count * (count - 1) / 2);
+    }
+}
@@ -0,0 +1,73 @@
+package com.demoqa.unit;
+
+import com.demoqa.logging.TestLogCapture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests of per-test log capture with {@link TestLogCapture}.
+ *
+ * <p>The captures run on their own threads, since TestListener already captures the test thread's log.
+ */
+public class TestLogCaptureTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestLogCaptureTests.class);
+
+    /**
+     * Verifies that a capture:
+     * <ul>
+     *   <li>Keeps only the newest log.buffer.size lines and notes how many were dropped</li>
+     *   <li>Counts every line logged during the capture</li>
+     * </ul>
+     * Skipped when log capture is disabled.
+     *
+     * @throws InterruptedException if interrupted while waiting for the capturing thread
+     */
+    @Test
+    public void testBufferKeepsNewestLines() throws InterruptedException {
+        if (!TestLogCapture.isEnabled()) {
+            throw new SkipException("Log capture is disabled with -Dlog.capture=false");
+        }
+        int bufferSize = Integer.getInteger("log.buffer.size", 500);
+
+        TestLogCapture.Captured log = captureOnNewThread(bufferSize + 10);
+
+        Assert.assertEquals(log.lines(), bufferSize + 10);
+        Assert.assertTrue(log.text().startsWith("... 10 earlier lines dropped"), "Dropped lines should be noted");
+        Assert.assertTrue(log.text().endsWith("line " + (bufferSize + 9)), "Newest line should be kept last");
+        Assert.assertFalse(log.text().contains("line 9\n"), "Oldest lines should be dropped");
+    }
+
+    /**
+     * Verifies that ending without an active capture returns null, so lines are written directly.
+     *
+     * @throws InterruptedException if interrupted while waiting for the capturing thread
+     */
+    @Test
+    public void testEndWithoutCaptureReturnsNull() throws InterruptedException {
+        AtomicReference<TestLogCapture.Captured> log = new AtomicReference<>();
+        Thread thread = new Thread(() -> log.set(TestLogCapture.end()));
+        thread.start();
+        thread.join();
+
+        Assert.assertNull(log.get());
+    }
+
+    private static TestLogCapture.Captured captureOnNewThread(int lines) throws InterruptedException {
+        AtomicReference<TestLogCapture.Captured> log = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            TestLogCapture.begin();
+            for (int i = 0; i < lines; i++) {
+                LOGGER.info("line {}", i);
+            }
+            log.set(TestLogCapture.end());
+        });
+        thread.start();
+        thread.join();
+        return log.get();
+    }
+}
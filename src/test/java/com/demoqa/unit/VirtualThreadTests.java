@@ -0,0 +1,89 @@
+package com.demoqa.unit;
+
+import com.demoqa.execution.VirtualThreadSuiteListener;
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit tests of {@link VirtualThreadSuiteListener}, running a small suite in a nested TestNG instance the way
+ * the {@code virtual-threads} profile runs the real suites: parallel by class, with the listener registered.
+ */
+public class VirtualThreadTests {
+
+    private static final Map<String, Thread> THREADS = new ConcurrentHashMap<>();
+
+    /**
+     * Verifies that with the listener installed, test methods of a parallel suite run on virtual threads,
+     * and that without it they run on TestNG's platform threads.
+     */
+    @Test
+    public void testParallelTestsRunOnVirtualThreads() {
+        THREADS.clear();
+        Assert.assertEquals(run(true), 0, "The nested suite should pass");
+        Assert.assertEquals(THREADS.keySet(), Set.of("first", "second"));
+        THREADS.forEach((test, thread) -> Assert.assertTrue(thread.isVirtual(),
+                test + " ran on " + thread.getName()));
+
+        THREADS.clear();
+        Assert.assertEquals(run(false), 0, "The nested suite should pass");
+        THREADS.forEach((test, thread) -> Assert.assertFalse(thread.isVirtual(),
+                test + " ran on " + thread.getName()));
+    }
+
+    private static int run(boolean virtualThreads) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Nested Suite");
+        suite.setParallel(XmlSuite.ParallelMode.CLASSES);
+        suite.setThreadCount(2);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Nested Test");
+        test.setXmlClasses(List.of(new XmlClass(First.class), new XmlClass(Second.class)));
+
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(List.of(suite));
+        testng.setVerbose(0);
+        testng.setOutputDirectory(System.getProperty("java.io.tmpdir") + "/virtual-thread-tests");
+        testng.setListenersToSkipFromBeingWiredInViaServiceLoaders("io.qameta.allure.testng.AllureTestNg");
+        if (virtualThreads) {
+            testng.addListener(new VirtualThreadSuiteListener());
+        }
+        testng.run();
+        return testng.getStatus();
+    }
+
+    /**
+     * Records the thread of its test method.
+     */
+    public static class First {
+
+        /**
+         * Records the current thread.
+         */
+        @Test
+        public void first() {
+            THREADS.put("first", Thread.currentThread());
+        }
+    }
+
+    /**
+     * Records the thread of its test method.
+     */
+    public static class Second {
+
+        /**
+         * Records the current thread.
+         */
+        @Test
+        public void second() {
+            THREADS.put("second", Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.demoqa.unit;
+
+import com.demoqa.utils.PerceptualHash;
+import com.demoqa.utils.VisualComparator;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests of {@link PerceptualHash} and {@link VisualComparator} on images drawn in the test, without a browser.
+ */
+public class VisualComparatorTests {
+
+    private Path directory;
+    private Path baselines;
+    private Path diffs;
+
+    /**
+     * Creates empty baseline and diff directories.
+     *
+     * @throws IOException if the directories cannot be created
+     */
+    @BeforeMethod
+    public void createDirectories() throws IOException {
+        directory = Files.createTempDirectory("visual");
+        baselines = directory.resolve("baselines");
+        diffs = directory.resolve("diffs");
+    }
+
+    /**
+     * Deletes the baseline and diff directories.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectories() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Verifies that the perceptual hash:
+     * <ul>
+     *   <li>Is equal for the same image</li>
+     *   <li>Stays close for the same picture at another size or with faint rendering noise</li>
+     *   <li>Is far apart for a different picture</li>
+     * </ul>
+     */
+    @Test
+    public void testPerceptualHashDistances() {
+        BufferedImage slider = widget(200, 40, 150);
+        long hash = PerceptualHash.of(slider);
+
+        Assert.assertEquals(PerceptualHash.distance(hash, PerceptualHash.of(slider)), 0);
+        Assert.assertTrue(PerceptualHash.distance(hash, PerceptualHash.of(widget(400, 80, 300))) <= 2,
+                "The same widget at twice the size should barely change the hash");
+        BufferedImage noisy = widget(200, 40, 150);
+        for (int x = 0; x < noisy.getWidth(); x += 7) {
+            noisy.setRGB(x, 5, 0xF0F0F0);
+        }
+        Assert.assertTrue(PerceptualHash.distance(hash, PerceptualHash.of(noisy)) <= 2,
+                "Faint rendering noise should barely change the hash");
+        Assert.assertTrue(PerceptualHash.distance(hash, PerceptualHash.of(widget(200, 40, 30))) > 10,
+                "A different slider position should change the hash");
+    }
+
+    /**
+     * Verifies that a missing baseline fails the check without recording the capture, and that it is
+     * recorded and then matched when updating baselines.
+     *
+     * @throws IOException if an image cannot be encoded or written
+     */
+    @Test
+    public void testMissingBaselineIsOnlyRecordedWhenUpdating() throws IOException {
+        byte[] capture = png(widget(200, 40, 150));
+
+        VisualComparator.Result missing = comparator(false).compare("slider", capture);
+        Assert.assertEquals(missing.status(), VisualComparator.Status.BASELINE_MISSING);
+        Assert.assertFalse(missing.passed(), "A missing baseline should not pass");
+        Assert.assertFalse(Files.exists(baselines.resolve("slider.png")));
+
+        Assert.assertEquals(comparator(true).compare("slider", capture).status(),
+                VisualComparator.Status.BASELINE_CREATED);
+        Assert.assertTrue(Files.exists(baselines.resolve("slider.png")));
+        VisualComparator.Result match = comparator(false).compare("slider", capture);
+        Assert.assertEquals(match.status(), VisualComparator.Status.HASH_MATCH);
+        Assert.assertTrue(match.passed());
+        Assert.assertFalse(Files.exists(diffs), "No diff should be written for a match");
+    }
+
+    /**
+     * Verifies that a changed capture fails with a diff image marking the changed pixels in red.
+     *
+     * @throws IOException if an image cannot be encoded, written or read
+     */
+    @Test
+    public void testChangedCaptureWritesDiff() throws IOException {
+        comparator(true).compare("slider", png(widget(200, 40, 150)));
+
+        VisualComparator.Result result = comparator(false).compare("slider", png(widget(200, 40, 30)));
+
+        Assert.assertEquals(result.status(), VisualComparator.Status.MISMATCH);
+        Assert.assertTrue(result.diffRatio() > 0.1 && result.diffRatio() < 1, "Only the moved part should differ");
+        BufferedImage diff = ImageIO.read(result.diffImage().toFile());
+        Assert.assertEquals(diff.getWidth(), 200);
+        Assert.assertEquals(diff.getRGB(100, 20) & 0xFFFFFF, 0xFF0000, "Moved handle area should be red");
+        Assert.assertNotEquals(diff.getRGB(5, 20) & 0xFFFFFF, 0xFF0000, "Unchanged area should not be red");
+    }
+
+    /**
+     * Verifies that a capture of another size fails with a diff image covering both sizes, comparing the
+     * common area and marking the rest as changed, rather than a copy of the capture.
+     *
+     * @throws IOException if an image cannot be encoded, written or read
+     */
+    @Test
+    public void testSizeMismatchWritesDiffOfBothSizes() throws IOException {
+        comparator(true).compare("slider", png(widget(200, 40, 150)));
+        BufferedImage wider = new BufferedImage(220, 30, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = wider.createGraphics();
+        graphics.drawImage(widget(200, 40, 150), 0, 0, null);
+        graphics.dispose();
+
+        VisualComparator.Result result = comparator(false).compare("slider", png(wider));
+
+        Assert.assertEquals(result.status(), VisualComparator.Status.MISMATCH);
+        BufferedImage diff = ImageIO.read(result.diffImage().toFile());
+        Assert.assertEquals(diff.getWidth(), 220);
+        Assert.assertEquals(diff.getHeight(), 40);
+        Assert.assertNotEquals(diff.getRGB(5, 5) & 0xFFFFFF, 0xFF0000, "The common area should be compared");
+        Assert.assertEquals(diff.getRGB(210, 5) & 0xFFFFFF, 0xFF0000, "Area only in the capture should be red");
+        Assert.assertEquals(diff.getRGB(5, 35) & 0xFFFFFF, 0xFF0000, "Area only in the baseline should be red");
+        // 220x40 diff with a 200x30 common area
+        Assert.assertEquals(result.diffRatio(), (220.0 * 40 - 200 * 30) / (220 * 40), 1e-9);
+    }
+
+    private VisualComparator comparator(boolean updateBaselines) {
+        return new VisualComparator(baselines, diffs, 0, 16, 0.001, updateBaselines);
+    }
+
+    /**
+     * Draws a slider-like widget: a gray track with a blue handle at the given x position.
+     */
+    private static BufferedImage widget(int width, int height, int handleX) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.LIGHT_GRAY);
+        graphics.fillRect(0, height * 2 / 5, width, height / 5);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, height * 2 / 5, handleX, height / 5);
+        graphics.fillOval(handleX - height / 4, height / 4, height / 2, height / 2);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}